@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * How exact a count must be. A count of a collection holding hundreds of millions of entities is a full scan
+ * on most databases, while an estimate is often answered from statistics the database already keeps.
+ *
+ * <pre>{@code
+ * long total = template.select(Event.class).count(Accuracy.APPROXIMATE);
+ * }</pre>
+ *
+ * <p>Providers declaring {@link Capability#APPROXIMATE_COUNT} answer {@link #APPROXIMATE} counts from
+ * collection statistics, sketches, or sampled scans; the others return the exact count, which is always an
+ * acceptable estimate.</p>
+ *
+ * @see QueryMapper.MapperQueryBuild#count(Accuracy)
+ * @since 1.1.0
+ */
+public enum Accuracy {
+
+    /**
+     * The count is the number of entities matching the query when it is executed.
+     */
+    EXACT,
+
+    /**
+     * The count is an estimate, which may be stale or off by a margin that depends on the provider, such as
+     * entities written since the statistics were last collected, or the sampling error of a sampled scan.
+     */
+    APPROXIMATE
+}
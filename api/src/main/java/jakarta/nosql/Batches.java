@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Groups the elements of a stream into lists, for the default {@code batches(int)} methods.
+ */
+final class Batches {
+
+    private Batches() {
+    }
+
+    /**
+     * Returns the elements of a stream in consecutive, unmodifiable lists of {@code size} elements, the last
+     * one possibly shorter. The source is read one batch at a time and closed with the returned stream.
+     *
+     * @throws IllegalArgumentException when size is not positive
+     */
+    static <T> Stream<List<T>> of(Stream<T> source, int size) {
+        Iterator<T> iterator = source.iterator();
+        Spliterator<List<T>> batches = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<T>> action) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                List<T> batch = new ArrayList<>(Math.min(size, 1024));
+                while (batch.size() < size && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                action.accept(Collections.unmodifiableList(batch));
+                return true;
+            }
+        };
+        return StreamSupport.stream(batches, false).onClose(source::close);
+    }
+
+    static int requirePositive(int size, String name) {
+        if (size <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + size);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The unit of work returned by the default {@link Template#unitOfWork()}: mutations are merged per entity in
+ * insertion-ordered maps and written through the template's batch operations.
+ */
+final class BufferedUnitOfWork implements UnitOfWork {
+
+    private final Template template;
+
+    private final Map<Class<?>, Map<Object, Pending>> types = new LinkedHashMap<>();
+
+    private boolean closed;
+
+    BufferedUnitOfWork(Template template) {
+        this.template = template;
+    }
+
+    @Override
+    public <T> UnitOfWork insert(T entity) {
+        pending(entity).write(Write.INSERT, entity);
+        return this;
+    }
+
+    @Override
+    public <T> UnitOfWork update(T entity) {
+        pending(entity).write(Write.UPDATE, entity);
+        return this;
+    }
+
+    @Override
+    public <T> UnitOfWork delete(T entity) {
+        pending(entity).delete(entity);
+        return this;
+    }
+
+    @Override
+    public <T, K> UnitOfWork delete(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        pending(type, id).delete(type);
+        return this;
+    }
+
+    @Override
+    public int pending() {
+        return types.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Writes the batches of each type in turn. The mutations of a type are discarded only once each of its
+     * writes succeeds, so that a failed commit leaves the failed and remaining mutations pending.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void commit() {
+        requireOpen();
+        for (Class<?> type : List.copyOf(types.keySet())) {
+            Map<Object, Pending> batch = types.get(type);
+            List<Object> deleted = new ArrayList<>();
+            List<Object> deletes = new ArrayList<>();
+            Map<Class<?>, List<Object>> deletesById = new LinkedHashMap<>();
+            List<Object> inserted = new ArrayList<>();
+            List<Object> inserts = new ArrayList<>();
+            List<Object> updates = new ArrayList<>();
+            for (Map.Entry<Object, Pending> entry : batch.entrySet()) {
+                Pending pending = entry.getValue();
+                if (pending.deleted) {
+                    if (pending.deletedEntity != null) {
+                        deleted.add(entry.getKey());
+                        deletes.add(pending.deletedEntity);
+                    } else {
+                        deletesById.computeIfAbsent(pending.deletedType, ignored -> new ArrayList<>())
+                                .add(entry.getKey());
+                    }
+                }
+                if (pending.write == Write.INSERT) {
+                    inserted.add(entry.getKey());
+                    inserts.add(pending.entity);
+                } else if (pending.write == Write.UPDATE) {
+                    updates.add(pending.entity);
+                }
+            }
+            if (!deletes.isEmpty()) {
+                template.delete(deletes);
+                written(batch, deleted);
+            }
+            for (Map.Entry<Class<?>, List<Object>> ids : deletesById.entrySet()) {
+                template.deleteAll((Class) ids.getKey(), ids.getValue());
+                written(batch, ids.getValue());
+            }
+            if (!inserts.isEmpty()) {
+                template.insert(inserts);
+                batch.keySet().removeAll(inserted);
+            }
+            if (!updates.isEmpty()) {
+                template.update(updates);
+            }
+            types.remove(type);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        types.clear();
+    }
+
+    @Override
+    public void close() {
+        types.clear();
+        closed = true;
+    }
+
+    private Pending pending(Object entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return pending(entity.getClass(), EntityIds.key(entity));
+    }
+
+    /**
+     * Returns the mutations of an entity, keyed by the root of its entity hierarchy and as
+     * {@link EntityIds#key(Object)} does, so that a subclass instance and a delete by ID of its root type merge.
+     */
+    private Pending pending(Class<?> type, Object id) {
+        requireOpen();
+        return types.computeIfAbsent(EntityIds.root(type), ignored -> new LinkedHashMap<>())
+                .computeIfAbsent(id, ignored -> new Pending());
+    }
+
+    /**
+     * Discards the deletes written for the given keys, and the entities with nothing left to write.
+     */
+    private static void written(Map<Object, Pending> batch, List<Object> keys) {
+        for (Object key : keys) {
+            Pending pending = batch.get(key);
+            pending.deleted = false;
+            pending.deletedEntity = null;
+            pending.deletedType = null;
+            if (pending.write == Write.NONE) {
+                batch.remove(key);
+            }
+        }
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("The unit of work is closed");
+        }
+    }
+
+    private enum Write {
+        NONE, INSERT, UPDATE
+    }
+
+    /**
+     * The merged mutations of one entity: whether it is deleted first, then which write of its last state.
+     */
+    private static final class Pending {
+
+        private boolean deleted;
+
+        private Object deletedEntity;
+
+        private Class<?> deletedType;
+
+        private Write write = Write.NONE;
+
+        private Object entity;
+
+        void write(Write next, Object entity) {
+            this.write = this.write == Write.INSERT ? Write.INSERT : next;
+            this.entity = entity;
+        }
+
+        void delete(Object entity) {
+            this.deleted = true;
+            this.deletedEntity = entity;
+            this.write = Write.NONE;
+            this.entity = null;
+        }
+
+        void delete(Class<?> type) {
+            this.deleted = true;
+            if (this.entity != null) {
+                this.deletedEntity = this.entity;
+            } else if (this.deletedEntity == null) {
+                this.deletedType = type;
+            }
+            this.write = Write.NONE;
+            this.entity = null;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The optional features a provider supports, so that applications and frameworks choose the fastest
+ * supported path before executing anything, instead of trying an operation and catching
+ * {@link UnsupportedOperationException}.
+ *
+ * <pre>{@code
+ * Capabilities capabilities = template.capabilities();
+ * if (capabilities.supports(Capability.COUNT)) {
+ *     long adults = template.select(Person.class).where("age").gte(18).count();
+ * } else {
+ *     long adults = template.select(Person.class).where("age").gte(18).stream().count();
+ * }
+ * }</pre>
+ *
+ * <p>Providers written before capabilities were introduced return {@link #undeclared()}, which supports
+ * nothing but is distinguished from a declaration of no capability by {@link #isDeclared()}. For such
+ * providers, the only way to find out remains to try the operation.</p>
+ *
+ * @since 1.1.0
+ */
+public final class Capabilities {
+
+    private static final Capabilities UNDECLARED = new Capabilities(EnumSet.noneOf(Capability.class), false);
+
+    private final Set<Capability> capabilities;
+
+    private final boolean declared;
+
+    private Capabilities(Set<Capability> capabilities, boolean declared) {
+        this.capabilities = Collections.unmodifiableSet(capabilities);
+        this.declared = declared;
+    }
+
+    /**
+     * Declares the capabilities of a provider. Every capability not given is unsupported.
+     *
+     * @param capabilities the supported capabilities
+     * @return the declared capabilities
+     * @throws NullPointerException when capabilities is null or contains null
+     */
+    public static Capabilities of(Capability... capabilities) {
+        Objects.requireNonNull(capabilities, "capabilities is required");
+        return of(Arrays.asList(capabilities));
+    }
+
+    /**
+     * Declares the capabilities of a provider. Every capability not given is unsupported.
+     *
+     * @param capabilities the supported capabilities
+     * @return the declared capabilities
+     * @throws NullPointerException when capabilities is null or contains null
+     */
+    public static Capabilities of(Collection<Capability> capabilities) {
+        Objects.requireNonNull(capabilities, "capabilities is required");
+        EnumSet<Capability> set = EnumSet.noneOf(Capability.class);
+        for (Capability capability : capabilities) {
+            set.add(Objects.requireNonNull(capability, "capability is required"));
+        }
+        return new Capabilities(set, true);
+    }
+
+    /**
+     * Returns the capabilities of a provider that does not declare them.
+     *
+     * @return the undeclared capabilities
+     */
+    public static Capabilities undeclared() {
+        return UNDECLARED;
+    }
+
+    /**
+     * Returns whether the provider declared its capabilities. When it did not, {@link #supports(Capability)}
+     * always returns {@code false}, even for features the provider has.
+     *
+     * @return whether the capabilities are declared
+     */
+    public boolean isDeclared() {
+        return declared;
+    }
+
+    /**
+     * Returns whether the provider declared the capability.
+     *
+     * @param capability the capability
+     * @return whether the capability is supported
+     * @throws NullPointerException when capability is null
+     */
+    public boolean supports(Capability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return capabilities.contains(capability);
+    }
+
+    /**
+     * Returns whether the provider declared every given capability.
+     *
+     * @param capabilities the capabilities
+     * @return whether all the capabilities are supported
+     * @throws NullPointerException when capabilities is null or contains null
+     */
+    public boolean supportsAll(Capability... capabilities) {
+        Objects.requireNonNull(capabilities, "capabilities is required");
+        for (Capability capability : capabilities) {
+            if (!supports(capability)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the supported capabilities, empty when they are undeclared.
+     *
+     * @return an unmodifiable set of the supported capabilities
+     */
+    public Set<Capability> toSet() {
+        return capabilities;
+    }
+
+    /**
+     * Returns these capabilities with another one supported.
+     *
+     * @param capability the added capability
+     * @return the declared capabilities
+     * @throws NullPointerException when capability is null
+     */
+    public Capabilities with(Capability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        EnumSet<Capability> set = EnumSet.of(capability);
+        set.addAll(capabilities);
+        return new Capabilities(set, true);
+    }
+
+    /**
+     * Returns these capabilities without the given one, for example for a layer that cannot pass it through.
+     *
+     * @param capability the removed capability
+     * @return the declared capabilities, or the undeclared capabilities when these are undeclared
+     * @throws NullPointerException when capability is null
+     */
+    public Capabilities without(Capability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        if (!declared) {
+            return this;
+        }
+        EnumSet<Capability> set = EnumSet.noneOf(Capability.class);
+        set.addAll(capabilities);
+        set.remove(capability);
+        return new Capabilities(set, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Capabilities that
+                && declared == that.declared
+                && capabilities.equals(that.capabilities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(capabilities, declared);
+    }
+
+    @Override
+    public String toString() {
+        return declared ? "Capabilities" + capabilities : "Capabilities[undeclared]";
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * A feature that a provider may or may not support, declared up front through {@link Capabilities}
+ * rather than discovered by catching {@link UnsupportedOperationException}.
+ *
+ * <p>The constants cover the optional parts of {@link Template} and of the communication SPI. Operations
+ * on a single entity or identifier, such as {@code insert}, {@code find}, and {@code delete}, are
+ * mandatory and have no capability.</p>
+ *
+ * @see Capabilities
+ * @since 1.1.0
+ */
+public enum Capability {
+
+    /**
+     * Selecting entities by conditions, through {@link Template#select(Class)} or a
+     * {@code SelectExecutor}.
+     */
+    SELECT,
+
+    /**
+     * Deleting the entities matching conditions, through {@link Template#delete(Class)} or a
+     * {@code DeleteExecutor}.
+     */
+    DELETE_BY_QUERY,
+
+    /**
+     * Updating the entities matching conditions, through {@link Template#update(Class)} or an
+     * {@code UpdateExecutor}.
+     */
+    UPDATE_BY_QUERY,
+
+    /**
+     * Executing Jakarta Common Query Language strings, through {@link Template#query(String)} and
+     * {@link Template#typedQuery(String, Class)}.
+     */
+    QUERY_LANGUAGE,
+
+    /**
+     * Range conditions, such as greater than, less than, and between, in addition to equality.
+     */
+    RANGE_CONDITIONS,
+
+    /**
+     * Conditions combined with a logical disjunction, in addition to conjunctions.
+     */
+    DISJUNCTION,
+
+    /**
+     * Ordering the selected entities.
+     */
+    ORDERING,
+
+    /**
+     * Skipping and limiting the selected entities.
+     */
+    PAGINATION,
+
+    /**
+     * Counting the matching entities without fetching them.
+     */
+    COUNT,
+
+    /**
+     * Selecting only some fields of the matching entities, including records annotated with
+     * {@link Projection}.
+     */
+    PROJECTIONS,
+
+    /**
+     * Inserting entities with a time to live, through {@link Template#insert(Object, java.time.Duration)}.
+     */
+    EXPIRATION,
+
+    /**
+     * Writing several entities in one round trip or commit when {@code insert}, {@code update}, or
+     * {@code delete} receives an {@link Iterable}, or {@link Template#deleteAll(Class, Iterable)} receives
+     * several IDs, rather than one entity at a time.
+     */
+    BATCH_WRITES,
+
+    /**
+     * Splitting a full scan across the partitions of the database, so that
+     * {@code SelectExecutor.FinalStep.parallelFetch()} and {@link QueryMapper.MapperQueryBuild#parallelStream()}
+     * are processed on several cores rather than buffered from a single cursor.
+     */
+    PARALLEL_SCAN,
+
+    /**
+     * Reading at the {@link ReadConsistency} requested by {@link Template#find(Class, Object, ReadConsistency)},
+     * {@link QueryMapper.MapperFrom#consistency(ReadConsistency)}, or {@link Query#consistency(ReadConsistency)},
+     * rather than at the default consistency of the provider.
+     */
+    READ_CONSISTENCY,
+
+    /**
+     * Acknowledging writes at the {@link WriteDurability} requested by {@link Template#durability(WriteDurability)},
+     * rather than at the default write concern of the provider.
+     */
+    WRITE_DURABILITY,
+
+    /**
+     * Publishing the changes of entities to subscribers of {@link Template#watch(Class)}.
+     */
+    CHANGE_STREAMS,
+
+    /**
+     * Answering {@link QueryMapper.MapperQueryBuild#count(Accuracy)} with {@link Accuracy#APPROXIMATE} from
+     * collection statistics, sketches, or sampled scans, rather than by counting every matching entity.
+     */
+    APPROXIMATE_COUNT,
+
+    /**
+     * Returning the distinct values of an attribute from the database, see
+     * {@link QueryMapper.MapperFrom#distinct(String)} and {@code SelectExecutor.FinalStep.distinct(String)},
+     * rather than reading every matching entity.
+     */
+    DISTINCT,
+
+    /**
+     * Reading only the identifiers of the matching entities with a covered or index-only read, see
+     * {@link QueryMapper.MapperQueryBuild#ids()} and {@code SelectExecutor.FinalStep.fetchKeys()}, rather than
+     * reading and decoding the entities.
+     */
+    KEYS_ONLY,
+
+    /**
+     * Drawing a random sample of the matching entities in the database, see
+     * {@link QueryMapper.MapperFrom#sample(long)} and {@code SelectExecutor.FinalStep.sample(long)}, rather than
+     * streaming every matching entity to the client.
+     */
+    SAMPLING
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.Objects;
+
+/**
+ * A change of an entity published by {@link Template#watch(Class)}: its type, the identifier of the changed
+ * entity, and, when the provider reports it, the entity after the change.
+ *
+ * <pre>{@code
+ * template.watch(Product.class).subscribe(new Flow.Subscriber<>() {
+ *     ...
+ *     public void onNext(ChangeEvent<Product> event) {
+ *         cache.invalidate(event.id());
+ *     }
+ * });
+ * }</pre>
+ *
+ * @param type   whether the entity was inserted, updated, or deleted
+ * @param id     the identifier of the changed entity
+ * @param entity the entity after the change, or {@code null} for a delete or when the provider only reports
+ *               identifiers
+ * @param <T>    the entity type
+ * @since 1.1.0
+ */
+public record ChangeEvent<T>(Type type, Object id, T entity) {
+
+    /**
+     * Validates the event.
+     *
+     * @throws NullPointerException when type or id is null
+     */
+    public ChangeEvent {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+    }
+
+    /**
+     * Creates the event of an inserted entity.
+     *
+     * @param id     the identifier of the entity
+     * @param entity the inserted entity, or {@code null} when not reported
+     * @param <T>    the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> inserted(Object id, T entity) {
+        return new ChangeEvent<>(Type.INSERT, id, entity);
+    }
+
+    /**
+     * Creates the event of an updated entity.
+     *
+     * @param id     the identifier of the entity
+     * @param entity the entity after the update, or {@code null} when not reported
+     * @param <T>    the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> updated(Object id, T entity) {
+        return new ChangeEvent<>(Type.UPDATE, id, entity);
+    }
+
+    /**
+     * Creates the event of a deleted entity.
+     *
+     * @param id  the identifier of the entity
+     * @param <T> the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> deleted(Object id) {
+        return new ChangeEvent<>(Type.DELETE, id, null);
+    }
+
+    /**
+     * The kinds of change.
+     */
+    public enum Type {
+
+        /**
+         * An entity was stored under a new identifier.
+         */
+        INSERT,
+
+        /**
+         * An entity replaced the one stored under its identifier.
+         */
+        UPDATE,
+
+        /**
+         * An entity was removed.
+         */
+        DELETE
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The buffer returned by the default {@link Template#writeBehind(WriteBehindConfiguration)}: the latest state
+ * per entity is held in an insertion-ordered map, swapped for an empty one by each flush and written with
+ * {@link Template#update(Iterable)}, one batch per entity type. Flushes are serialized, so that the states of
+ * an entity are written in the order they were recorded.
+ */
+final class CoalescingWriteBehind implements WriteBehind {
+
+    private static final System.Logger LOGGER = System.getLogger(WriteBehind.class.getName());
+
+    private final Template template;
+
+    private final WriteBehindConfiguration configuration;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final Object lock = new Object();
+
+    private final Object flushLock = new Object();
+
+    private Map<Key, Held> held = new LinkedHashMap<>();
+
+    private boolean closed;
+
+    CoalescingWriteBehind(Template template, WriteBehindConfiguration configuration) {
+        this.template = template;
+        this.configuration = Objects.requireNonNull(configuration, "configuration is required");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jakarta-nosql-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = configuration.flushInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> void update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        Key key = new Key(EntityIds.root(entity.getClass()), EntityIds.key(entity));
+        while (true) {
+            synchronized (lock) {
+                if (closed) {
+                    throw new IllegalStateException("The write-behind buffer is closed");
+                }
+                if (held.size() < configuration.capacity() || held.containsKey(key)) {
+                    held.put(key, new Held(entity, 0));
+                    if (held.size() >= configuration.flushSize() && scheduled.compareAndSet(false, true)) {
+                        scheduler.execute(() -> {
+                            scheduled.set(false);
+                            flushQuietly();
+                        });
+                    }
+                    return;
+                }
+            }
+            write();
+        }
+    }
+
+    @Override
+    public int pending() {
+        synchronized (lock) {
+            return held.size();
+        }
+    }
+
+    @Override
+    public void flush() {
+        write();
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.log(System.Logger.Level.WARNING, "A background flush of the write-behind buffer did not finish");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        write();
+    }
+
+    /**
+     * Flushes from the scheduler thread. Every failure is logged rather than thrown, since a periodic task that
+     * throws, even an {@link Error}, is silently cancelled and would leave the buffer without background flushes.
+     */
+    private void flushQuietly() {
+        try {
+            write();
+        } catch (Throwable failure) {
+            LOGGER.log(System.Logger.Level.ERROR, "Unable to flush the write-behind buffer", failure);
+        }
+    }
+
+    /**
+     * Writes the held states. On failure, the states of the failed batch and the next ones are held again unless
+     * a newer state was recorded meanwhile; those that failed too many flushes or no longer fit in the buffer
+     * are passed to the failure handler instead.
+     */
+    private void write() {
+        synchronized (flushLock) {
+            Map<Key, Held> batch;
+            synchronized (lock) {
+                if (held.isEmpty()) {
+                    return;
+                }
+                batch = held;
+                held = new LinkedHashMap<>();
+            }
+            Map<Class<?>, Map<Key, Held>> types = new LinkedHashMap<>();
+            batch.forEach((key, state) -> types.computeIfAbsent(key.type(), ignored -> new LinkedHashMap<>()).put(key, state));
+            List<Map<Key, Held>> remaining = new ArrayList<>(types.values());
+            while (!remaining.isEmpty()) {
+                Map<Key, Held> states = remaining.get(0);
+                try {
+                    template.update(states.values().stream().map(Held::entity).toList());
+                } catch (RuntimeException exception) {
+                    holdAgain(remaining, exception);
+                    throw exception;
+                } catch (Error error) {
+                    holdAgain(remaining, new IllegalStateException("Unable to flush the write-behind buffer", error));
+                    throw error;
+                }
+                remaining.remove(0);
+            }
+        }
+    }
+
+    private void holdAgain(List<Map<Key, Held>> remaining, RuntimeException exception) {
+        List<Object> dropped = new ArrayList<>();
+        synchronized (lock) {
+            for (int index = 0; index < remaining.size(); index++) {
+                boolean failed = index == 0;
+                remaining.get(index).forEach((key, state) -> {
+                    if (held.containsKey(key)) {
+                        return;
+                    }
+                    Held next = failed ? new Held(state.entity(), state.failures() + 1) : state;
+                    if (next.failures() > configuration.maxRetries() || held.size() >= configuration.capacity()) {
+                        dropped.add(state.entity());
+                    } else {
+                        held.put(key, next);
+                    }
+                });
+            }
+        }
+        if (!dropped.isEmpty()) {
+            try {
+                configuration.failureHandler().accept(List.copyOf(dropped), exception);
+            } catch (RuntimeException handlerFailure) {
+                exception.addSuppressed(handlerFailure);
+            }
+        }
+    }
+
+    /**
+     * An entity key, scoped by the root entity class so that the states of an entity recorded through different
+     * subclasses replace each other and are written in the same batch.
+     */
+    private record Key(Class<?> type, Object id) {
+    }
+
+    /**
+     * A held state and the number of flushes that failed to write it.
+     */
+    private record Held(Object entity, int failures) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reads the attributes of entities by name, for the default implementations of {@code distinct(String)} in
+ * {@link QueryMapper}: an attribute is named by its field, or by the name given in its
+ * {@link Column} or {@link Id} annotation, and a dotted name reads through embedded entities.
+ */
+final class EntityAttributes {
+
+    private static final ClassValue<Map<String, Function<Object, Object>>> ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+            return attributes(type);
+        }
+    };
+
+    private EntityAttributes() {
+    }
+
+    /**
+     * Returns the distinct non-null values of an attribute of the entities, in encounter order.
+     *
+     * @throws MappingException as the stream is consumed, when an entity has no such attribute or it cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    static <V> Stream<V> distinct(Stream<Object> entities, String name) {
+        return entities.map(entity -> read(entity, name)).filter(Objects::nonNull).map(value -> (V) value).distinct();
+    }
+
+    /**
+     * Returns the value of an attribute, or {@code null} when the attribute, or an embedded entity on its path,
+     * is null.
+     *
+     * @throws MappingException when the entity, or an embedded entity on its path, has no such attribute, or the
+     *                          attribute cannot be read
+     */
+    static Object read(Object entity, String name) {
+        Object value = entity;
+        for (String part : name.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            Function<Object, Object> attribute = ATTRIBUTES.get(value.getClass()).get(part);
+            if (attribute == null) {
+                throw new MappingException("The entity " + value.getClass().getName() + " has no attribute " + part
+                        + (part.equals(name) ? "" : " of " + name));
+            }
+            value = attribute.apply(value);
+        }
+        return value;
+    }
+
+    private static Map<String, Function<Object, Object>> attributes(Class<?> type) {
+        Map<String, Function<Object, Object>> attributes = new HashMap<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Function<Object, Object> attribute = attribute(type, field);
+                attributes.putIfAbsent(field.getName(), attribute);
+                Column column = field.getAnnotation(Column.class);
+                if (column != null && !column.value().isBlank()) {
+                    attributes.putIfAbsent(column.value(), attribute);
+                }
+                Id id = field.getAnnotation(Id.class);
+                if (id != null && !id.value().isBlank()) {
+                    attributes.putIfAbsent(id.value(), attribute);
+                }
+            }
+        }
+        return Map.copyOf(attributes);
+    }
+
+    private static Function<Object, Object> attribute(Class<?> type, Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (InaccessibleObjectException | SecurityException exception) {
+            return entity -> {
+                throw inaccessible(type, field, exception);
+            };
+        }
+        return entity -> {
+            try {
+                return field.get(entity);
+            } catch (IllegalAccessException exception) {
+                throw inaccessible(type, field, exception);
+            }
+        };
+    }
+
+    /**
+     * Reports an attribute that cannot be read by reflection, naming the package the entity must open to this
+     * module.
+     */
+    static MappingException inaccessible(Class<?> type, Field field, Exception cause) {
+        return new MappingException("The attribute " + field.getName() + " of " + type.getName()
+                + " is not accessible: the package " + field.getDeclaringClass().getPackageName()
+                + " must be opened to the jakarta.nosql.core module", cause);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.util.function.Function;
+
+/**
+ * Reads the attribute annotated with {@link Id}, for the default implementations that merge writes per
+ * entity, {@link BufferedUnitOfWork} and {@link CoalescingWriteBehind}, and for the default
+ * {@link QueryMapper.MapperQueryBuild#ids()}.
+ */
+final class EntityIds {
+
+    private static final ClassValue<Function<Object, Object>> IDS = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return identifier(type);
+        }
+    };
+
+    private static final ClassValue<Class<?>> ROOTS = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            Class<?> root = type;
+            for (Class<?> current = type.getSuperclass(); current != null; current = current.getSuperclass()) {
+                if (current.isAnnotationPresent(Entity.class)) {
+                    root = current;
+                }
+            }
+            return root;
+        }
+    };
+
+    private static final Function<Object, Object> ABSENT = entity -> null;
+
+    private EntityIds() {
+    }
+
+    /**
+     * Returns the identifier of an entity, or {@code null} when its type has no {@link Id} attribute.
+     *
+     * @throws MappingException when the {@link Id} attribute cannot be read, naming the package the entity
+     *                          must open to this module
+     */
+    static Object id(Object entity) {
+        return IDS.get(entity.getClass()).apply(entity);
+    }
+
+    /**
+     * Returns the identifier of an entity whose type must have an {@link Id} attribute.
+     *
+     * @throws MappingException when the type has no {@link Id} attribute or it cannot be read
+     */
+    static Object requireId(Object entity) {
+        Function<Object, Object> identifier = IDS.get(entity.getClass());
+        if (identifier == ABSENT) {
+            throw new MappingException("The entity " + entity.getClass().getName() + " has no id attribute");
+        }
+        return identifier.apply(entity);
+    }
+
+    /**
+     * Returns the identifier of an entity, or an {@link Identity} of the instance when its type has no
+     * {@link Id} attribute or the value is null.
+     *
+     * @throws MappingException when the {@link Id} attribute cannot be read
+     */
+    static Object key(Object entity) {
+        Object id = id(entity);
+        return id == null ? new Identity(entity) : id;
+    }
+
+    /**
+     * Returns the topmost class of a hierarchy annotated with {@link Entity}, so that an entity and its
+     * subclasses share one identifier space; the type itself when no superclass is an entity.
+     */
+    static Class<?> root(Class<?> type) {
+        return ROOTS.get(type);
+    }
+
+    private static Function<Object, Object> identifier(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Id.class)) {
+                    try {
+                        field.setAccessible(true);
+                    } catch (InaccessibleObjectException | SecurityException exception) {
+                        return entity -> {
+                            throw EntityAttributes.inaccessible(type, field, exception);
+                        };
+                    }
+                    return entity -> {
+                        try {
+                            return field.get(entity);
+                        } catch (IllegalAccessException exception) {
+                            throw EntityAttributes.inaccessible(type, field, exception);
+                        }
+                    };
+                }
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Identifies an entity without an identifier by its instance.
+     */
+    record Identity(Object entity) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Identity identity && identity.entity == entity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(entity);
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package jakarta.nosql;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -111,9 +113,17 @@ public interface Query {
      * <p>If required parameters are not bound before execution, the query will fail and
      * the provider will raise an exception or error.</p>
      *
+     * <p>The stream may hold a database cursor until it is closed. Closing it, for example with
+     * try-with-resources, releases the cursor even when only part of the results were read; providers also
+     * release it once the stream is fully read. A stream that is neither closed nor fully read keeps the cursor
+     * open until it is garbage collected, which
+     * {@link jakarta.nosql.communication.spi.CursorLeakDetector} reports when enabled.</p>
+     *
      * <pre>{@code
-     * Stream<Person> stream = template.query("SELECT * FROM Person WHERE active = true")
-     *                                  .stream();
+     * try (Stream<Person> stream = template.query("SELECT * FROM Person WHERE active = true")
+     *                                       .stream()) {
+     *     stream.limit(10).forEach(System.out::println);
+     * }
      * }</pre>
      *
      * @param <T> the type of the entity
@@ -176,4 +186,101 @@ public interface Query {
      * @throws IllegalArgumentException if position is less than 1
      */
     Query bind(int position, Object value);
+
+    /**
+     * Hints how many results the provider reads from the database per round trip, trading the latency of
+     * more round trips for the memory of larger pages. The hint does not change the result of the query.
+     *
+     * <pre>{@code
+     * Stream<Person> people = template.query("SELECT * FROM Person")
+     *                                 .fetchSize(500)
+     *                                 .stream();
+     * }</pre>
+     *
+     * <p>By default, the hint is ignored.</p>
+     *
+     * @param size the number of results per round trip
+     * @return this query instance for fluent chaining
+     * @throws IllegalArgumentException if size is not positive
+     * @since 1.1.0
+     */
+    default Query fetchSize(int size) {
+        Batches.requirePositive(size, "size");
+        return this;
+    }
+
+    /**
+     * Hints the consistency of the reads of a {@code SELECT} query, which providers map to their native read
+     * preference.
+     *
+     * <pre>{@code
+     * List<Person> people = template.query("SELECT * FROM Person WHERE active = true")
+     *                               .consistency(ReadConsistency.ONE)
+     *                               .result();
+     * }</pre>
+     *
+     * <p>By default, the hint is ignored and the query reads at the default consistency of the provider; see
+     * {@link Capability#READ_CONSISTENCY}.</p>
+     *
+     * @param consistency the requested consistency
+     * @return this query instance for fluent chaining
+     * @throws NullPointerException if consistency is null
+     * @since 1.1.0
+     */
+    default Query consistency(ReadConsistency consistency) {
+        Objects.requireNonNull(consistency, "consistency is required");
+        return this;
+    }
+
+    /**
+     * Executes a {@code SELECT} query and returns the results in consecutive, unmodifiable lists of
+     * {@code size} results, the last one possibly shorter.
+     *
+     * <pre>{@code
+     * try (Stream<List<Person>> batches = template.query("SELECT * FROM Person").batches(1_000)) {
+     *     batches.forEach(exporter::write);
+     * }
+     * }</pre>
+     *
+     * <p>Providers may return their own pages as batches. By default, the batches are read from
+     * {@link #stream()} one at a time; combine with {@link #fetchSize(int)} to align them with the pages read
+     * from the database.</p>
+     *
+     * @param size the number of results per batch
+     * @param <T>  the type of the entity
+     * @return a stream of batches
+     * @throws IllegalArgumentException      if size is not positive
+     * @throws UnsupportedOperationException if the query is not a {@code SELECT}
+     * @since 1.1.0
+     */
+    default <T> Stream<List<T>> batches(int size) {
+        Batches.requirePositive(size, "size");
+        return Batches.of(this.<T>stream(), size);
+    }
+
+    /**
+     * Limits how long each execution of the query may run. Once the timeout has elapsed, the provider stops
+     * the query, closes its cursor, and fails with {@link QueryTimeoutException}; when the executing thread is
+     * interrupted, it fails with {@link QueryCancelledException} instead. Closing a returned stream early also
+     * closes the cursor.
+     *
+     * <pre>{@code
+     * List<Person> people = template.query("SELECT * FROM Person WHERE active = true")
+     *                               .timeout(Duration.ofSeconds(1))
+     *                               .result();
+     * }</pre>
+     *
+     * <p>By default, the timeout is checked before each result is read and after {@link #singleResult()}
+     * returns; a blocking call to the database is not interrupted, and {@link #executeUpdate()} is not bounded,
+     * since an update that has been applied cannot be undone by failing afterwards.</p>
+     *
+     * @param timeout the maximum duration of each execution
+     * @return a query applying the timeout, for fluent chaining
+     * @throws NullPointerException     if timeout is null
+     * @throws IllegalArgumentException if timeout is not positive
+     * @since 1.1.0
+     */
+    default Query timeout(Duration timeout) {
+        return new TimedQuery(this, timeout);
+    }
 }
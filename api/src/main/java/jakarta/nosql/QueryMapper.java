@@ -16,7 +16,11 @@
 package jakarta.nosql;
 
 
+import jakarta.nosql.communication.spi.Reservoir;
+
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -924,6 +928,76 @@ public interface QueryMapper {
          * @throws NullPointerException when name is null
          */
         MapperOrder orderBy(String name);
+
+        /**
+         * Hints the consistency of the reads of this query, so that a latency-sensitive query can read from the
+         * nearest replica or a query that must see the latest writes can require it.
+         * <pre>{@code
+         * List<Book> books = template.select(Book.class)
+         *                            .consistency(ReadConsistency.LOCAL)
+         *                            .where("author").eq("Ada")
+         *                            .result();
+         * }</pre>
+         * <p>By default, the hint is ignored and the query reads at the default consistency of the provider;
+         * see {@link Capability#READ_CONSISTENCY}.</p>
+         * @param consistency the requested consistency
+         * @return this query, ready to be refined or executed
+         * @throws NullPointerException when consistency is null
+         * @since 1.1.0
+         */
+        default MapperFrom consistency(ReadConsistency consistency) {
+            Objects.requireNonNull(consistency, "consistency is required");
+            return this;
+        }
+
+        /**
+         * Executes the query and returns the distinct non-null values of an attribute, such as the options of a
+         * filter, without returning the entities holding them.
+         * <pre>{@code
+         * try (Stream<String> transmissions = template.select(Vehicle.class).distinct("transmission")) {
+         *     transmissions.forEach(options::add);
+         * }
+         * }</pre>
+         * <p>Providers declaring {@link Capability#DISTINCT} ask the database for the values. By default, the
+         * entities are read from {@link #stream()} and their values kept in a hash set as they are read, so
+         * that the values are returned in encounter order; a dotted name reads through embedded entities.</p>
+         * @param field the name of the attribute
+         * @param <V>   the type of the values
+         * @return the distinct values of the attribute
+         * @throws NullPointerException when field is null
+         * @throws MappingException     by default, as the stream is consumed, when an entity has no attribute of that
+         *                              name or it cannot be read
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <V> Stream<V> distinct(String field) {
+            Objects.requireNonNull(field, "field is required");
+            return EntityAttributes.distinct(stream(), field);
+        }
+
+        /**
+         * Executes the query and returns a uniform random sample of up to {@code n} entities, such as for data
+         * quality checks or feature sampling over a large collection.
+         * <pre>{@code
+         * List<Reading> readings = template.select(Reading.class).sample(1_000);
+         * }</pre>
+         * <p>Providers declaring {@link Capability#SAMPLING} draw the sample in the database. By default, the
+         * entities are read from {@link #stream()} and sampled with {@link Reservoir}, holding no more than
+         * {@code n} entities in memory.</p>
+         * @param n   the number of entities to draw
+         * @param <T> the entity type
+         * @return the drawn entities, in no particular order, or every matching entity when there are no more
+         * than {@code n}
+         * @throws IllegalArgumentException when n is negative or greater than {@link Reservoir#MAX_SIZE}
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <T> List<T> sample(long n) {
+            Reservoir.requireSize(n);
+            return Reservoir.sample(this.<T>stream(), n);
+        }
     }
 
     /**
@@ -1379,6 +1453,85 @@ public interface QueryMapper {
          */
         long count();
 
+        /**
+         * Executes the query and returns the number of entities that match the current filter conditions, as
+         * exact as {@code accuracy} requires.
+         * <pre>{@code
+         * long total = template.select(Event.class)
+         *                      .where("type").eq("click")
+         *                      .count(Accuracy.APPROXIMATE);
+         * }</pre>
+         * <p>Providers declaring {@link Capability#APPROXIMATE_COUNT} may answer an approximate count from
+         * statistics rather than by reading the matching entities. By default, this method returns
+         * {@link #count()}.</p>
+         * @param accuracy how exact the count must be
+         * @return the number of records that match the filter criteria, or an estimate of it
+         * @throws NullPointerException when {@code accuracy} is null
+         * @since 1.1.0
+         */
+        default long count(Accuracy accuracy) {
+            Objects.requireNonNull(accuracy, "accuracy is required");
+            return count();
+        }
+
+        /**
+         * Returns an estimate of the number of entities that match the current filter conditions, the same as
+         * {@code count(Accuracy.APPROXIMATE)}.
+         * @return an estimate of the number of records that match the filter criteria
+         * @since 1.1.0
+         */
+        default long estimatedCount() {
+            return count(Accuracy.APPROXIMATE);
+        }
+
+        /**
+         * Counts the entities that match the current filter conditions, stopping once {@code max} are found,
+         * so that a page count or a rate limit does not read every match.
+         * <pre>{@code
+         * boolean more = template.select(Book.class)
+         *                        .where("author").eq("Ada")
+         *                        .countUpTo(101) > 100;
+         * }</pre>
+         * <p>By default, at most {@code max} entities are read from {@link #stream()}.</p>
+         * @param max the number of matches after which counting stops
+         * @return the number of records that match the filter criteria, or {@code max} if there are more
+         * @throws IllegalArgumentException if {@code max} is negative
+         * @since 1.1.0
+         */
+        default long countUpTo(long max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("max must not be negative: " + max);
+            }
+            try (Stream<Object> stream = stream()) {
+                return stream.limit(max).count();
+            }
+        }
+
+        /**
+         * Executes the query and returns the identifiers of the matching entities, the attributes annotated with
+         * {@link Id}, rather than the entities, so that jobs collecting them to delete or enqueue do not read
+         * whole entities.
+         * <pre>{@code
+         * try (Stream<String> ids = template.select(Session.class)
+         *                                   .where("expiresAt").lt(now)
+         *                                   .ids()) {
+         *     ids.forEach(queue::add);
+         * }
+         * }</pre>
+         * <p>Providers declaring {@link Capability#KEYS_ONLY} read only the identifiers. By default, the
+         * entities are read from {@link #stream()} and their identifiers returned in the same order.</p>
+         * @param <K> the type of the identifiers
+         * @return the identifiers of the matching entities
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @throws MappingException              If the entity has no {@link Id} attribute or it cannot be read.
+         * @since 1.1.0
+         */
+        @SuppressWarnings("unchecked")
+        default <K> Stream<K> ids() {
+            return stream().map(entity -> (K) EntityIds.requireId(entity));
+        }
+
         /**
          * Executes the query and returns the result as a {@link List}.
          * <pre>{@code
@@ -1397,12 +1550,17 @@ public interface QueryMapper {
 
         /**
          * Executes the query and returns the result as a {@link Stream}.
+         *
+         * <p>The stream may hold a database cursor until it is closed, so it should be opened with
+         * try-with-resources. Closing releases the cursor even when only part of the results were read, and
+         * providers also release it once the stream is fully read.</p>
          * <pre>{@code
-         * Stream<Book> books = template.select(Book.class)
+         * try (Stream<Book> books = template.select(Book.class)
          *                                   .where("author")
          *                                   .eq("Ada")
-         *                                   .stream();
+         *                                   .stream()) {
          *     books.forEach(System.out::println);
+         * }
          * }</pre>
          * @param <T> the entity type
          * @return the result of the query
@@ -1413,6 +1571,100 @@ public interface QueryMapper {
          */
         <T> Stream<T> stream();
 
+        /**
+         * Executes the query and returns the result as a parallel {@link Stream}, which providers declaring
+         * {@link Capability#PARALLEL_SCAN} split across the partitions of the database, so that a full scan is
+         * processed on several cores.
+         * <pre>{@code
+         * double average = template.select(Order.class)
+         *                          .<Order>parallelStream()
+         *                          .mapToDouble(Order::total)
+         *                          .average()
+         *                          .orElse(0);
+         * }</pre>
+         * <p>By default, this method returns {@code stream().parallel()}.</p>
+         * @param <T> the entity type
+         * @return the result of the query, as a parallel stream
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <T> Stream<T> parallelStream() {
+            return this.<T>stream().parallel();
+        }
+
+        /**
+         * Hints how many entities the provider reads from the database per round trip, trading the latency of
+         * more round trips for the memory of larger pages. The hint does not change the result of the query.
+         * <pre>{@code
+         * Stream<Book> books = template.select(Book.class)
+         *                              .where("author").eq("Ada")
+         *                              .fetchSize(500)
+         *                              .stream();
+         * }</pre>
+         * <p>By default, the hint is ignored.</p>
+         * @param size the number of entities per round trip
+         * @return this query, ready to be executed
+         * @throws IllegalArgumentException if {@code size} is not positive
+         * @since 1.1.0
+         */
+        default MapperQueryBuild fetchSize(int size) {
+            Batches.requirePositive(size, "size");
+            return this;
+        }
+
+        /**
+         * Executes the query and returns the result in consecutive, unmodifiable lists of {@code size}
+         * entities, the last one possibly shorter, so that large results are processed batch by batch.
+         * <pre>{@code
+         * try (Stream<List<Book>> batches = template.select(Book.class).batches(1_000)) {
+         *     batches.forEach(exporter::write);
+         * }
+         * }</pre>
+         * <p>Providers may return their own pages as batches. By default, the batches are read from
+         * {@link #stream()} one at a time; combine with {@link #fetchSize(int)} to align them with the pages
+         * read from the database.</p>
+         * @param size the number of entities per batch
+         * @param <T>  the entity type
+         * @return the result of the query, in batches
+         * @throws IllegalArgumentException      if {@code size} is not positive
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <T> Stream<List<T>> batches(int size) {
+            Batches.requirePositive(size, "size");
+            return Batches.of(this.<T>stream(), size);
+        }
+
+        /**
+         * Limits how long each execution of the query may run. Once the timeout has elapsed, the provider stops
+         * the query, closes its cursor, and fails with {@link QueryTimeoutException}; when the executing thread is
+         * interrupted, it fails with {@link QueryCancelledException} instead. Closing a returned stream early
+         * also closes the cursor.
+         * <pre>{@code
+         * List<Book> books = template.select(Book.class)
+         *                            .where("author").eq("Ada")
+         *                            .timeout(Duration.ofMillis(250))
+         *                            .result();
+         * }</pre>
+         * <p>By default, the timeout is checked before each entity is read, and a blocking call to the database
+         * is not interrupted. The terminal operations that do not stream, {@link #count()},
+         * {@link #count(Accuracy)}, {@link #countUpTo(long)} and {@link #singleResult()}, are only checked
+         * after they return: they run to completion, then fail with {@link QueryTimeoutException} when the
+         * timeout has elapsed. Providers that pass the timeout to
+         * {@link jakarta.nosql.communication.spi.SelectExecutor.FinalStep#timeout(Duration)} bound them as the
+         * database executes them.</p>
+         * @param timeout the maximum duration of each execution
+         * @return this query, ready to be executed
+         * @throws NullPointerException     if {@code timeout} is null
+         * @throws IllegalArgumentException if {@code timeout} is not positive
+         * @since 1.1.0
+         */
+        default MapperQueryBuild timeout(Duration timeout) {
+            return new TimedQueryBuild(this, timeout);
+        }
+
         /**
          * Executes the query and returns the result as a single element, wrapped in an {@link Optional}.
          * If the query returns exactly one result, that result is returned in the Optional.
@@ -1584,6 +1836,54 @@ public interface QueryMapper {
          * @throws NullPointerException when name is null
          */
         MapperOrder orderBy(String name);
+
+        /**
+         * Executes the query and returns the distinct non-null values of an attribute of the matching entities.
+         * <pre>{@code
+         * try (Stream<String> models = template.select(Vehicle.class)
+         *                                      .where("make").eq("Volvo")
+         *                                      .distinct("model")) {
+         *     models.forEach(options::add);
+         * }
+         * }</pre>
+         * <p>By default, the values are collected from {@link #stream()}, as in
+         * {@link MapperFrom#distinct(String)}.</p>
+         * @param field the name of the attribute
+         * @param <V>   the type of the values
+         * @return the distinct values of the attribute
+         * @throws NullPointerException when field is null
+         * @throws MappingException     by default, as the stream is consumed, when an entity has no attribute of that
+         *                              name or it cannot be read
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <V> Stream<V> distinct(String field) {
+            Objects.requireNonNull(field, "field is required");
+            return EntityAttributes.distinct(stream(), field);
+        }
+
+        /**
+         * Executes the query and returns a uniform random sample of up to {@code n} of the matching entities.
+         * <pre>{@code
+         * List<Reading> readings = template.select(Reading.class)
+         *                                  .where("sensor").eq("north")
+         *                                  .sample(100);
+         * }</pre>
+         * <p>By default, the entities are sampled from {@link #stream()}, as in {@link MapperFrom#sample(long)}.</p>
+         * @param n   the number of entities to draw
+         * @param <T> the entity type
+         * @return the drawn entities, in no particular order, or every matching entity when there are no more
+         * than {@code n}
+         * @throws IllegalArgumentException when n is negative or greater than {@link Reservoir#MAX_SIZE}
+         * @throws UnsupportedOperationException If a NoSQL database does not support a specific operation or if the
+         *                                       database does not support certain query conditions.
+         * @since 1.1.0
+         */
+        default <T> List<T> sample(long n) {
+            Reservoir.requireSize(n);
+            return Reservoir.sample(this.<T>stream(), n);
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * Thrown when a query exceeds the timeout set on it, through {@link QueryMapper.MapperQueryBuild#timeout},
+ * {@link Query#timeout}, or {@code SelectExecutor.FinalStep.timeout}. The cursor of the query is closed
+ * before the exception is thrown.
+ *
+ * @since 1.1.0
+ */
+public class QueryTimeoutException extends QueryCancelledException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a {@code QueryTimeoutException} using the given message.
+     *
+     * @param message A message explaining the exception condition
+     */
+    public QueryTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a {@code QueryTimeoutException} using the given message and cause.
+     *
+     * @param message A message explaining the exception condition
+     * @param cause   The underlying cause
+     */
+    public QueryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
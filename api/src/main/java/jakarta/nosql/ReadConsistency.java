@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The consistency requested for a read, which providers map to their native read preference, such as a
+ * consistency level, a read concern, or the choice of replica.
+ *
+ * <pre>{@code
+ * Optional<Book> book = template.find(Book.class, id, ReadConsistency.LOCAL);
+ *
+ * List<Book> books = template.select(Book.class)
+ *         .consistency(ReadConsistency.boundedStaleness(Duration.ofSeconds(5)))
+ *         .where("author").eq("Ada")
+ *         .result();
+ * }</pre>
+ *
+ * <p>The consistency is a hint. A provider declaring {@link Capability#READ_CONSISTENCY} reads at the requested
+ * level or a stronger one; other providers read at their default consistency.</p>
+ *
+ * @param level     the consistency level
+ * @param staleness how far behind the latest write a read may be, only for {@link Level#BOUNDED_STALENESS}
+ * @since 1.1.0
+ */
+public record ReadConsistency(Level level, Duration staleness) {
+
+    /**
+     * Reads from any single replica, the fastest and the most likely to be stale.
+     */
+    public static final ReadConsistency ONE = new ReadConsistency(Level.ONE, null);
+
+    /**
+     * Reads from the nearest replica, in the local data center.
+     */
+    public static final ReadConsistency LOCAL = new ReadConsistency(Level.LOCAL, null);
+
+    /**
+     * Reads from a majority of replicas, which sees every write acknowledged by a majority.
+     */
+    public static final ReadConsistency QUORUM = new ReadConsistency(Level.QUORUM, null);
+
+    /**
+     * Reads the latest acknowledged write.
+     */
+    public static final ReadConsistency STRONG = new ReadConsistency(Level.STRONG, null);
+
+    /**
+     * Validates the staleness against the level.
+     *
+     * @throws NullPointerException     if {@code level} is null, or {@code staleness} is null for
+     *                                  {@link Level#BOUNDED_STALENESS}
+     * @throws IllegalArgumentException if {@code staleness} is negative, or given for another level
+     */
+    public ReadConsistency {
+        Objects.requireNonNull(level, "level is required");
+        if (level == Level.BOUNDED_STALENESS) {
+            Objects.requireNonNull(staleness, "staleness is required");
+            if (staleness.isNegative()) {
+                throw new IllegalArgumentException("staleness must not be negative: " + staleness);
+            }
+        } else if (staleness != null) {
+            throw new IllegalArgumentException("staleness only applies to " + Level.BOUNDED_STALENESS + ", not " + level);
+        }
+    }
+
+    /**
+     * Reads data at most the given duration behind the latest write.
+     *
+     * @param staleness how far behind the latest write a read may be
+     * @return the consistency
+     * @throws NullPointerException     if {@code staleness} is null
+     * @throws IllegalArgumentException if {@code staleness} is negative
+     */
+    public static ReadConsistency boundedStaleness(Duration staleness) {
+        return new ReadConsistency(Level.BOUNDED_STALENESS, staleness);
+    }
+
+    /**
+     * The consistency levels.
+     */
+    public enum Level {
+
+        /**
+         * Any single replica.
+         */
+        ONE,
+
+        /**
+         * The nearest replica.
+         */
+        LOCAL,
+
+        /**
+         * Data at most a given duration behind the latest write.
+         */
+        BOUNDED_STALENESS,
+
+        /**
+         * A majority of replicas.
+         */
+        QUORUM,
+
+        /**
+         * The latest acknowledged write.
+         */
+        STRONG
+    }
+}
@@ -16,7 +16,9 @@
 package jakarta.nosql;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 
 /**
  * {@code Template} is a helper class that increases productivity when performing common NoSQL operations.
@@ -365,6 +367,9 @@ public interface Template {
      *
      * Optional<SessionToken> token = template.find(SessionToken.class, "abc123");
      * }</pre>
+     * <p>Providers may keep a per-entity {@link jakarta.nosql.communication.spi.MembershipFilter} and return
+     * {@link Optional#empty()} without a database round-trip when the key is definitely absent. Such a filter
+     * must never hide an entity that exists in the database.</p>
      * @param type the entity class
      * @param id   the id value
      * @param <T>  the entity class type
@@ -374,6 +379,29 @@ public interface Template {
      */
     <T, K> Optional<T> find(Class<T> type, K id);
 
+    /**
+     * Retrieves an entity by its Id, reading at the requested consistency, so that a latency-sensitive lookup
+     * can read from the nearest replica.
+     * <p>Example usage:
+     * <pre>{@code
+     * Optional<SessionToken> token = template.find(SessionToken.class, "abc123", ReadConsistency.LOCAL);
+     * }</pre>
+     * <p>The consistency is a hint. By default, it is ignored and the entity is read by
+     * {@link #find(Class, Object)}; see {@link Capability#READ_CONSISTENCY}.</p>
+     * @param type        the entity class
+     * @param id          the id value
+     * @param consistency the requested consistency
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return the entity instance, otherwise {@link Optional#empty()}
+     * @throws NullPointerException when the type, id, or consistency are null
+     * @since 1.1.0
+     */
+    default <T, K> Optional<T> find(Class<T> type, K id, ReadConsistency consistency) {
+        Objects.requireNonNull(consistency, "consistency is required");
+        return find(type, id);
+    }
+
     /**
      * Deletes by ID or key.
      * <pre>{@code
@@ -390,6 +418,29 @@ public interface Template {
      */
     <T, K> void delete(Class<T> type, K id);
 
+    /**
+     * Deletes several entities of a type by their IDs or keys.
+     * <pre>{@code
+     * template.deleteAll(SessionToken.class, List.of("abc123", "def456"));
+     * }</pre>
+     * <p>The batch has its own name so that an {@link Iterable} ID, such as a composite key, is still deleted
+     * by {@link #delete(Class, Object)}. By default, each ID is deleted by {@link #delete(Class, Object)}. Implementations that support
+     * {@link Capability#BATCH_WRITES} should delete them in one round trip or commit.</p>
+     * @param type the entity class
+     * @param ids  the id values
+     * @param <T>  the entity class type
+     * @param <K>  the id type
+     * @throws NullPointerException when the type or the ids are null, or the ids contain {@code null} elements
+     * @since 1.1.0
+     */
+    default <T, K> void deleteAll(Class<T> type, Iterable<? extends K> ids) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        for (K id : ids) {
+            delete(type, Objects.requireNonNull(id, "id is required"));
+        }
+    }
+
     /**
      * Start a query using the fluent API. The return value is a mutable and non-thread-safe instance.
      * <pre>{@code
@@ -526,4 +577,132 @@ public interface Template {
      */
     <T> TypedQuery<T> typedQuery(String query, Class<T> type);
 
+    /**
+     * Returns the optional features supported by this template and its provider, so that callers can choose
+     * an operation before executing it rather than catching {@link UnsupportedOperationException}.
+     *
+     * <pre>{@code
+     * if (template.capabilities().supports(Capability.EXPIRATION)) {
+     *     template.insert(token, Duration.ofMinutes(30));
+     * } else {
+     *     template.insert(token);
+     * }
+     * }</pre>
+     *
+     * <p>By default, the capabilities are {@linkplain Capabilities#undeclared() undeclared}. Implementations
+     * built on a {@code DatabaseManager} should return its capabilities, less any the mapping layer does
+     * not pass through.</p>
+     *
+     * @return the capabilities of this template
+     * @since 1.1.0
+     */
+    default Capabilities capabilities() {
+        return Capabilities.undeclared();
+    }
+
+    /**
+     * Starts a unit of work, which records inserts, updates, and deletes in memory and writes them at commit in
+     * a few batches per entity type, so that a business operation touching several entities makes a few round
+     * trips rather than one per mutation.
+     *
+     * <pre>{@code
+     * try (UnitOfWork work = template.unitOfWork()) {
+     *     work.insert(order).update(customer).delete(cart);
+     *     work.commit();
+     * }
+     * }</pre>
+     *
+     * <p>By default, the unit of work merges the mutations of each entity by its {@link Id} attribute and
+     * writes them with the batch operations of this template, {@link #insert(Iterable)},
+     * {@link #update(Iterable)}, {@link #delete(Iterable)}, and {@link #deleteAll(Class, Iterable)}. It reads
+     * the {@link Id} attribute by reflection: on the module path, the packages of the entities must be opened
+     * to the {@code jakarta.nosql.core} module, such as with {@code opens com.example.model to
+     * jakarta.nosql.core;}, or the unit of work throws {@link MappingException} when it records them.</p>
+     *
+     * @return a new unit of work
+     * @since 1.1.0
+     */
+    default UnitOfWork unitOfWork() {
+        return new BufferedUnitOfWork(this);
+    }
+
+    /**
+     * Starts a write-behind buffer, which holds the latest state of each updated entity and writes it in the
+     * background, so that an entity updated many times between two flushes is written once.
+     *
+     * <pre>{@code
+     * WriteBehind counters = template.writeBehind(WriteBehindConfiguration.of()
+     *         .withFlushInterval(Duration.ofMillis(500)));
+     * counters.update(counter.increment());
+     * ...
+     * counters.close();
+     * }</pre>
+     *
+     * <p>By default, the buffer is flushed with {@link #update(Iterable)} by a daemon thread of its own, which
+     * stops when the buffer is closed. The buffer must be flushed or closed before shutdown, or the states it
+     * holds are lost.</p>
+     *
+     * @param configuration the thresholds of the buffer
+     * @return a new write-behind buffer
+     * @throws NullPointerException when configuration is null
+     * @since 1.1.0
+     */
+    default WriteBehind writeBehind(WriteBehindConfiguration configuration) {
+        return new CoalescingWriteBehind(this, configuration);
+    }
+
+    /**
+     * Returns a publisher of the changes of the entities of a type, backed by the change feed of the database,
+     * so that caches are invalidated when an entity changes rather than by polling.
+     *
+     * <pre>{@code
+     * template.watch(Product.class).subscribe(invalidator);
+     * }</pre>
+     *
+     * <p>Each subscriber receives the changes applied after it subscribed, in the order they were applied to
+     * each entity. Cancelling the subscription stops the delivery. Providers may drop the changes of a
+     * subscriber that falls far behind rather than slowing writers down, so a cache should request events
+     * eagerly and handle them quickly.</p>
+     *
+     * <p>By default, an {@link UnsupportedOperationException} is thrown; see
+     * {@link Capability#CHANGE_STREAMS}.</p>
+     *
+     * @param type the entity class
+     * @param <T>  the entity type
+     * @return a publisher of the changes of the entities
+     * @throws NullPointerException          when type is null
+     * @throws UnsupportedOperationException when the provider does not publish changes
+     * @since 1.1.0
+     */
+    default <T> Flow.Publisher<ChangeEvent<T>> watch(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        throw new UnsupportedOperationException("The template does not support watching changes");
+    }
+
+    /**
+     * Returns a view of this template whose {@code insert}, {@code update}, and {@code delete} operations are
+     * acknowledged at the given durability, so that each write path chooses between throughput and durability.
+     * Reads and queries behave as on this template.
+     *
+     * <pre>{@code
+     * Template telemetry = template.durability(WriteDurability.NONE);
+     * readings.forEach(telemetry::insert);
+     *
+     * template.durability(WriteDurability.MAJORITY).insert(invoice);
+     * }</pre>
+     *
+     * <p>By default, durability cannot be chosen and an {@link UnsupportedOperationException} is thrown, as a
+     * write must not be acknowledged at a weaker level than requested; see {@link Capability#WRITE_DURABILITY}.</p>
+     *
+     * @param durability the acknowledgement that writes wait for
+     * @return a template writing at the given durability
+     * @throws NullPointerException          when durability is null
+     * @throws UnsupportedOperationException when the provider cannot choose the durability of writes
+     * @since 1.1.0
+     */
+    default Template durability(WriteDurability durability) {
+        Objects.requireNonNull(durability, "durability is required");
+        throw new UnsupportedOperationException("The template does not support choosing the durability of writes");
+    }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import jakarta.nosql.communication.spi.QueryDeadline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The query returned by the default {@link QueryMapper.MapperQueryBuild#timeout(Duration)}: results are read
+ * through a {@link QueryDeadline} started on each execution. The counts and single results are computed by the
+ * wrapped query, which has no timeout of its own, so the deadline is only checked once they return.
+ */
+final class TimedQueryBuild implements QueryMapper.MapperQueryBuild {
+
+    private final QueryMapper.MapperQueryBuild query;
+
+    private final Duration timeout;
+
+    TimedQueryBuild(QueryMapper.MapperQueryBuild query, Duration timeout) {
+        this.query = query;
+        this.timeout = QueryDeadline.requirePositive(timeout);
+    }
+
+    @Override
+    public long count() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        long count = query.count();
+        deadline.check();
+        return count;
+    }
+
+    @Override
+    public long count(Accuracy accuracy) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        long count = query.count(accuracy);
+        deadline.check();
+        return count;
+    }
+
+    @Override
+    public long countUpTo(long max) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        long count = query.countUpTo(max);
+        deadline.check();
+        return count;
+    }
+
+    @Override
+    public <T> List<T> result() {
+        try (Stream<T> stream = stream()) {
+            return stream.toList();
+        }
+    }
+
+    @Override
+    public <T> Stream<T> stream() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        return deadline.guard(query.<T>stream());
+    }
+
+    @Override
+    public <K> Stream<K> ids() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        return deadline.guard(query.<K>ids());
+    }
+
+    @Override
+    public <T> Stream<T> parallelStream() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        return deadline.guard(query.<T>parallelStream());
+    }
+
+    @Override
+    public <T> Optional<T> singleResult() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        Optional<T> result = query.singleResult();
+        deadline.check();
+        return result;
+    }
+
+    @Override
+    public QueryMapper.MapperQueryBuild fetchSize(int size) {
+        return new TimedQueryBuild(query.fetchSize(size), timeout);
+    }
+
+    @Override
+    public QueryMapper.MapperQueryBuild timeout(Duration timeout) {
+        return new TimedQueryBuild(query, timeout);
+    }
+}
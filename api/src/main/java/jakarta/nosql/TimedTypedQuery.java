@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import jakarta.nosql.communication.spi.QueryDeadline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The query returned by the default {@link TypedQuery#timeout(Duration)}: results are read through a
+ * {@link QueryDeadline} started on each execution, while {@link #executeUpdate()} is not bounded. As in
+ * every {@link TypedQuery}, the typed result methods override the generic methods of {@link Query} unchecked.
+ *
+ * @param <T> the type of the results
+ * @see TimedQuery
+ */
+@SuppressWarnings("unchecked")
+final class TimedTypedQuery<T> implements TypedQuery<T> {
+
+    private final TypedQuery<T> query;
+
+    private final Duration timeout;
+
+    TimedTypedQuery(TypedQuery<T> query, Duration timeout) {
+        this.query = query;
+        this.timeout = QueryDeadline.requirePositive(timeout);
+    }
+
+    @Override
+    public void executeUpdate() {
+        query.executeUpdate();
+    }
+
+    @Override
+    public List<T> result() {
+        try (Stream<T> stream = stream()) {
+            return stream.toList();
+        }
+    }
+
+    @Override
+    public Stream<T> stream() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        return deadline.guard(query.stream());
+    }
+
+    @Override
+    public Optional<T> singleResult() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        Optional<T> result = query.singleResult();
+        deadline.check();
+        return result;
+    }
+
+    @Override
+    public TypedQuery<T> bind(String name, Object value) {
+        return new TimedTypedQuery<>(query.bind(name, value), timeout);
+    }
+
+    @Override
+    public TypedQuery<T> bind(int position, Object value) {
+        return new TimedTypedQuery<>(query.bind(position, value), timeout);
+    }
+
+    @Override
+    public TypedQuery<T> fetchSize(int size) {
+        return new TimedTypedQuery<>(query.fetchSize(size), timeout);
+    }
+
+    @Override
+    public TypedQuery<T> consistency(ReadConsistency consistency) {
+        return new TimedTypedQuery<>(query.consistency(consistency), timeout);
+    }
+
+    @Override
+    public TypedQuery<T> timeout(Duration timeout) {
+        return new TimedTypedQuery<>(query, timeout);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package jakarta.nosql;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -90,12 +91,13 @@ public interface TypedQuery<T> extends Query {
      * Executes the {@code SELECT} query and returns the results as a {@link Stream} of type {@code T}.
      *
      * <p>This is useful for processing large result sets in a streaming fashion.
-     * It throws an {@link UnsupportedOperationException} if the query is not a {@code SELECT}.</p>
+     * It throws an {@link UnsupportedOperationException} if the query is not a {@code SELECT}.
+     * As with {@link Query#stream()}, the stream should be closed to release the database cursor.</p>
      *
      * <pre>{@code
-     *    Stream<TechProductView> stream = template
+     * try (Stream<TechProductView> stream = template
      *         .typedQuery("FROM Product WHERE active = true", TechProductView.class)
-     *         .stream();
+     *         .stream()) {
      *     stream.forEach(System.out::println);
      * }
      * }</pre>
@@ -156,4 +158,67 @@ public interface TypedQuery<T> extends Query {
      */
     @Override
     TypedQuery<T> bind(int position, Object value);
+
+    /**
+     * Hints how many results the provider reads from the database per round trip.
+     *
+     * <pre>{@code
+     * Stream<Product> products = template.typedQuery("FROM Product", Product.class)
+     *                                    .fetchSize(500)
+     *                                    .stream();
+     * }</pre>
+     *
+     * @param size the number of results per round trip
+     * @return this query instance for fluent chaining
+     * @throws IllegalArgumentException if size is not positive
+     * @since 1.1.0
+     */
+    @Override
+    default TypedQuery<T> fetchSize(int size) {
+        Query.super.fetchSize(size);
+        return this;
+    }
+
+    /**
+     * Hints the consistency of the reads of the query.
+     *
+     * <pre>{@code
+     * List<Product> products = template.typedQuery("FROM Product", Product.class)
+     *                                  .consistency(ReadConsistency.QUORUM)
+     *                                  .result();
+     * }</pre>
+     *
+     * @param consistency the requested consistency
+     * @return this query instance for fluent chaining
+     * @throws NullPointerException if consistency is null
+     * @see Query#consistency(ReadConsistency)
+     * @since 1.1.0
+     */
+    @Override
+    default TypedQuery<T> consistency(ReadConsistency consistency) {
+        Query.super.consistency(consistency);
+        return this;
+    }
+
+    /**
+     * Limits how long each execution of the query may run, failing with {@link QueryTimeoutException} once
+     * the timeout has elapsed.
+     *
+     * <pre>{@code
+     * List<Product> products = template.typedQuery("FROM Product", Product.class)
+     *                                  .timeout(Duration.ofSeconds(1))
+     *                                  .result();
+     * }</pre>
+     *
+     * @param timeout the maximum duration of each execution
+     * @return a query applying the timeout, for fluent chaining
+     * @throws NullPointerException     if timeout is null
+     * @throws IllegalArgumentException if timeout is not positive
+     * @see Query#timeout(Duration)
+     * @since 1.1.0
+     */
+    @Override
+    default TypedQuery<T> timeout(Duration timeout) {
+        return new TimedTypedQuery<>(this, timeout);
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * Records the inserts, updates, and deletes of a business operation in memory and writes them when it is
+ * committed, in a few batched calls per entity type rather than one round trip per mutation.
+ *
+ * <pre>{@code
+ * try (UnitOfWork work = template.unitOfWork()) {
+ *     work.insert(person)
+ *         .update(vehicle)
+ *         .delete(Book.class, isbn);
+ *     work.commit();
+ * }
+ * }</pre>
+ *
+ * <p>Mutations of the same entity, identified by its type and the value of its {@link Id} attribute, are
+ * merged so that only the last state is written: an insert followed by updates is written as one insert of
+ * the last state, and any write followed by a delete as the delete. A delete followed by an insert or an
+ * update is written as the delete and then the write. Entities without an identifier yet are merged only with
+ * mutations of the same instance.</p>
+ *
+ * <p>At commit, the mutations are grouped by entity type in the order each type was first recorded; for each
+ * type, the deletes are written first, then the inserts with {@link Template#insert(Iterable)}, then the
+ * updates with {@link Template#update(Iterable)}. A unit of work is not a transaction: when a batch fails,
+ * the batches written before it remain written, while the failed batch and the ones after it stay
+ * {@linkplain #pending() pending}, so that the commit can be retried. Closing the unit of work discards the
+ * mutations that were not committed.</p>
+ *
+ * <p>A unit of work is mutable and not thread-safe.</p>
+ *
+ * @see Template#unitOfWork()
+ * @since 1.1.0
+ */
+public interface UnitOfWork extends AutoCloseable {
+
+    /**
+     * Records the insert of an entity.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return this unit of work
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T> UnitOfWork insert(T entity);
+
+    /**
+     * Records the update of an entity.
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @return this unit of work
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T> UnitOfWork update(T entity);
+
+    /**
+     * Records the delete of an entity.
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return this unit of work
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T> UnitOfWork delete(T entity);
+
+    /**
+     * Records the delete of an entity by its identifier.
+     *
+     * @param type the entity class
+     * @param id   the id value
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return this unit of work
+     * @throws NullPointerException  when either the type or id are null
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    <T, K> UnitOfWork delete(Class<T> type, K id);
+
+    /**
+     * Returns the number of entities with recorded mutations not committed yet, after merging.
+     *
+     * @return the number of pending entities
+     */
+    int pending();
+
+    /**
+     * Writes the recorded mutations and clears them, so that the unit of work can record more. When a write
+     * fails, its exception is thrown and the mutations not written yet stay pending.
+     *
+     * @throws IllegalStateException when the unit of work is closed
+     */
+    void commit();
+
+    /**
+     * Discards the recorded mutations that were not committed.
+     */
+    void rollback();
+
+    /**
+     * Discards the recorded mutations that were not committed and closes the unit of work.
+     */
+    @Override
+    void close();
+}
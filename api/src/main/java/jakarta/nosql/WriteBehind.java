@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * Holds the latest state of frequently updated entities, such as counters and sessions, and writes it in the
+ * background, so that many updates of the same entity between two flushes cost a single write.
+ *
+ * <pre>{@code
+ * try (WriteBehind sessions = template.writeBehind(WriteBehindConfiguration.of())) {
+ *     sessions.update(session.touch());
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>Updates are keyed by the entity type and the value of its {@link Id} attribute; an update replaces the
+ * state held for the same key, and entities without an identifier are keyed by instance. The buffer is
+ * flushed in the background once it holds {@link WriteBehindConfiguration#flushSize()} entities and at every
+ * {@link WriteBehindConfiguration#flushInterval()}. Once it holds
+ * {@link WriteBehindConfiguration#capacity()} entities, an update of another entity flushes it on the calling
+ * thread first, which slows writers down to the pace of the database.</p>
+ *
+ * <p>A held state is lost if the process stops before it is flushed, and reads through the template do not
+ * see it until then. When a background flush fails, the failure is logged and the states not written are held
+ * again, unless a newer state was recorded meanwhile; {@link #flush()} throws the failure instead. A state that
+ * failed more than {@link WriteBehindConfiguration#maxRetries()} flushes, or that no longer fits in the buffer,
+ * is dropped and passed to the {@link WriteBehindConfiguration#failureHandler()}.</p>
+ *
+ * <p>A write-behind buffer is thread-safe.</p>
+ *
+ * @see Template#writeBehind(WriteBehindConfiguration)
+ * @since 1.1.0
+ */
+public interface WriteBehind extends AutoCloseable {
+
+    /**
+     * Records the latest state of an entity, to be written by the next flush.
+     *
+     * @param entity the entity to update
+     * @param <T>    the entity type
+     * @throws NullPointerException  when entity is null
+     * @throws IllegalStateException when the buffer is closed
+     */
+    <T> void update(T entity);
+
+    /**
+     * Returns the number of entities whose state is held and not flushed yet.
+     *
+     * @return the number of pending entities
+     */
+    int pending();
+
+    /**
+     * Writes every held state and waits until it is written, for example before shutdown.
+     */
+    void flush();
+
+    /**
+     * Stops the background flushes, then flushes the held states.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * The thresholds of a {@link WriteBehind} buffer.
+ *
+ * <pre>{@code
+ * WriteBehindConfiguration configuration = WriteBehindConfiguration.of()
+ *         .withCapacity(50_000)
+ *         .withFlushInterval(Duration.ofMillis(200))
+ *         .withFailureHandler((states, failure) -> deadLetters.addAll(states));
+ * }</pre>
+ *
+ * @param capacity       the maximum number of entities held; an update of another entity beyond it first
+ *                       flushes the buffer on the calling thread
+ * @param flushSize      the number of held entities that starts a flush in the background
+ * @param flushInterval  the interval between background flushes, bounding how long a state is held
+ * @param maxRetries     the number of flushes that may fail to write a state before it is dropped
+ * @param failureHandler called with the states dropped, because they failed more than {@code maxRetries}
+ *                       flushes or the buffer was full when they were to be held again, and the last failure
+ * @since 1.1.0
+ */
+public record WriteBehindConfiguration(int capacity, int flushSize, Duration flushInterval, int maxRetries,
+                                       BiConsumer<List<Object>, RuntimeException> failureHandler) {
+
+    /**
+     * The default capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    /**
+     * The default number of held entities that starts a flush.
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 1_000;
+
+    /**
+     * The default interval between flushes.
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The default number of failed flushes before a state is dropped.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * The default failure handler, which logs the number of dropped states and the failure.
+     */
+    public static final BiConsumer<List<Object>, RuntimeException> LOGGING_FAILURE_HANDLER = (states, failure) ->
+            System.getLogger(WriteBehind.class.getName()).log(System.Logger.Level.ERROR,
+                    "Dropped " + states.size() + " states of the write-behind buffer", failure);
+
+    /**
+     * Validates the thresholds.
+     *
+     * @throws NullPointerException     when flushInterval or failureHandler is null
+     * @throws IllegalArgumentException when a threshold is not positive, flushSize exceeds capacity, or
+     *                                  maxRetries is negative
+     */
+    public WriteBehindConfiguration {
+        Objects.requireNonNull(flushInterval, "flushInterval is required");
+        Objects.requireNonNull(failureHandler, "failureHandler is required");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (flushSize <= 0 || flushSize > capacity) {
+            throw new IllegalArgumentException("flushSize must be between 1 and the capacity " + capacity + ": " + flushSize);
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("flushInterval must be positive: " + flushInterval);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+    }
+
+    /**
+     * Creates a configuration with the default thresholds.
+     *
+     * @return the configuration
+     */
+    public static WriteBehindConfiguration of() {
+        return new WriteBehindConfiguration(DEFAULT_CAPACITY, DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_INTERVAL,
+                DEFAULT_MAX_RETRIES, LOGGING_FAILURE_HANDLER);
+    }
+
+    /**
+     * Returns a copy with another capacity, lowering the flush size to it when needed.
+     *
+     * @param capacity the maximum number of entities held
+     * @return the configuration
+     */
+    public WriteBehindConfiguration withCapacity(int capacity) {
+        return new WriteBehindConfiguration(capacity, Math.min(flushSize, capacity), flushInterval, maxRetries,
+                failureHandler);
+    }
+
+    /**
+     * Returns a copy with another flush size.
+     *
+     * @param flushSize the number of held entities that starts a flush
+     * @return the configuration
+     */
+    public WriteBehindConfiguration withFlushSize(int flushSize) {
+        return new WriteBehindConfiguration(capacity, flushSize, flushInterval, maxRetries, failureHandler);
+    }
+
+    /**
+     * Returns a copy with another flush interval.
+     *
+     * @param flushInterval the interval between flushes
+     * @return the configuration
+     */
+    public WriteBehindConfiguration withFlushInterval(Duration flushInterval) {
+        return new WriteBehindConfiguration(capacity, flushSize, flushInterval, maxRetries, failureHandler);
+    }
+
+    /**
+     * Returns a copy with another number of failed flushes before a state is dropped.
+     *
+     * @param maxRetries the number of flushes that may fail to write a state
+     * @return the configuration
+     */
+    public WriteBehindConfiguration withMaxRetries(int maxRetries) {
+        return new WriteBehindConfiguration(capacity, flushSize, flushInterval, maxRetries, failureHandler);
+    }
+
+    /**
+     * Returns a copy with another handler of the dropped states.
+     *
+     * @param failureHandler called with the dropped states and the last failure
+     * @return the configuration
+     */
+    public WriteBehindConfiguration withFailureHandler(BiConsumer<List<Object>, RuntimeException> failureHandler) {
+        return new WriteBehindConfiguration(capacity, flushSize, flushInterval, maxRetries, failureHandler);
+    }
+}
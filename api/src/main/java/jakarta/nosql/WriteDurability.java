@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+/**
+ * The acknowledgement a write waits for before it returns, trading durability for write throughput. Providers
+ * map each level to their native write concern, such as a consistency level, a write concern, or when the
+ * journal is forced to the storage device.
+ *
+ * <pre>{@code
+ * template.durability(WriteDurability.NONE).insert(reading);
+ * template.durability(WriteDurability.MAJORITY).insert(invoice);
+ * }</pre>
+ *
+ * <p>Without a level, writes use the default write concern of the provider. Providers declaring
+ * {@link Capability#WRITE_DURABILITY} support every level; a level that the deployment cannot tell apart from
+ * another, such as {@link #ALL} and {@link #LEADER} on a single node, is acknowledged as that level.</p>
+ *
+ * @see Template#durability(WriteDurability)
+ * @since 1.1.0
+ */
+public enum WriteDurability {
+
+    /**
+     * The write returns once it is sent, without waiting for any acknowledgement. Acknowledged by nobody, it
+     * may be lost without the caller noticing.
+     */
+    NONE,
+
+    /**
+     * The write returns once the leader, or the single node receiving it, has applied it.
+     */
+    LEADER,
+
+    /**
+     * The write returns once a majority of replicas has applied it, so that it survives the loss of a
+     * minority of them.
+     */
+    MAJORITY,
+
+    /**
+     * The write returns once every replica has applied it.
+     */
+    ALL,
+
+    /**
+     * The write returns once it is written to the journal on the storage device, so that it survives a crash
+     * of the machine that acknowledged it.
+     */
+    JOURNALED
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free Bloom filter backed by an {@link AtomicLongArray} of bits.
+ * The probe positions are derived with double hashing over a 64-bit mix of the key, where numbers of equal
+ * value share their hash whatever their type, and character sequences hash as their {@link String}.
+ */
+final class BloomMembershipFilter<K> implements MembershipFilter<K> {
+
+    private static final double LN2 = Math.log(2);
+
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+    private final AtomicLongArray words;
+
+    private final long bits;
+
+    private final int hashes;
+
+    private final LongAdder bitsSet = new LongAdder();
+
+    BloomMembershipFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("expectedKeys must be positive: " + expectedKeys);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long wordCount = (Math.min(Math.max(optimalBits, Long.SIZE), MAX_BITS) + Long.SIZE - 1) / Long.SIZE;
+        this.words = new AtomicLongArray(Math.toIntExact(wordCount));
+        this.bits = wordCount * Long.SIZE;
+        this.hashes = (int) Math.max(1, Math.round((double) this.bits / expectedKeys * LN2));
+    }
+
+    @Override
+    public void add(K key) {
+        long hash1 = hash(Objects.requireNonNull(key, "key is required"));
+        long hash2 = mix(hash1) | 1L;
+        for (int index = 0; index < hashes; index++) {
+            long bit = Math.floorMod(hash1 + index * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                long witness = words.compareAndExchange(word, current, current | mask);
+                if (witness == current) {
+                    bitsSet.increment();
+                    break;
+                }
+                current = witness;
+            }
+        }
+    }
+
+    @Override
+    public boolean mightContain(K key) {
+        long hash1 = hash(Objects.requireNonNull(key, "key is required"));
+        long hash2 = mix(hash1) | 1L;
+        for (int index = 0; index < hashes; index++) {
+            long bit = Math.floorMod(hash1 + index * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double falsePositiveRate() {
+        return Math.pow((double) bitsSet.sum() / bits, hashes);
+    }
+
+    @Override
+    public String toString() {
+        return "BloomMembershipFilter{" +
+                "bits=" + bits +
+                ", hashes=" + hashes +
+                ", falsePositiveRate=" + falsePositiveRate() +
+                '}';
+    }
+
+    /**
+     * Hashes a key so that {@code 1}, {@code 1L}, {@code 1.0} and {@code BigDecimal.ONE} probe the same bits, as
+     * they identify the same entity, while {@code "1"} remains a distinct key.
+     */
+    private static long hash(Object key) {
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return mix(((Number) key).longValue());
+        } else if (key instanceof Double || key instanceof Float) {
+            return hash(((Number) key).doubleValue());
+        } else if (key instanceof BigInteger integer) {
+            return integer.bitLength() < Long.SIZE ? mix(integer.longValue()) : hash(integer.doubleValue());
+        } else if (key instanceof BigDecimal decimal) {
+            try {
+                return mix(decimal.longValueExact());
+            } catch (ArithmeticException exception) {
+                return hash(decimal.doubleValue());
+            }
+        } else if (key instanceof CharSequence text) {
+            return mix(text.toString().hashCode());
+        }
+        return mix(key.hashCode());
+    }
+
+    private static long hash(double value) {
+        if (value == Math.rint(value) && value >= Long.MIN_VALUE && value < Long.MAX_VALUE) {
+            return mix((long) value);
+        }
+        return mix(Double.doubleToLongBits(value));
+    }
+
+    private static long mix(long value) {
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
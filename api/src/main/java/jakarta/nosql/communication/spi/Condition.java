@@ -20,6 +20,8 @@ package jakarta.nosql.communication.spi;
  *
  * <p>The structure, semantics, and evaluation of this token are entirely
  * provider-defined and opaque to this specification.</p>
+ *
+ * <p>{@link StandardCondition} is the inspectable form of this token, defined by this specification.</p>
  */
 public interface Condition {
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.lang.ref.Cleaner;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reports result streams that are garbage collected while their provider cursor is still open, with the stack
+ * trace of the code that opened them.
+ *
+ * <p>A provider passes each result stream through {@link #track(Stream, String)} before returning it. When
+ * detection is disabled, the default, the stream is returned unchanged. When it is enabled, with the
+ * {@value #ENABLED_PROPERTY} system property set to {@code true} or through {@link #enable(boolean)}, the
+ * returned stream releases the cursor as soon as it is closed or fully read; a stream that becomes
+ * unreachable before either is logged through {@link System.Logger} at {@link System.Logger.Level#WARNING},
+ * counted in {@link #leakedCursors()}, and closed:</p>
+ * <pre>{@code
+ * Cursor cursor = database.find(query);
+ * return CursorLeakDetector.track(cursor.stream().onClose(cursor::close), "orders");
+ * }</pre>
+ *
+ * <p>Detection records a stack trace per stream and relies on garbage collection to find leaks, so it is
+ * meant for development and tests rather than production.</p>
+ *
+ * @since 1.1.0
+ */
+public final class CursorLeakDetector {
+
+    /**
+     * The system property enabling detection when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "jakarta.nosql.cursor.leak-detection";
+
+    private static final System.Logger LOGGER = System.getLogger(CursorLeakDetector.class.getName());
+
+    private static final LongAdder OPEN = new LongAdder();
+
+    private static final LongAdder LEAKED = new LongAdder();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private CursorLeakDetector() {
+    }
+
+    /**
+     * Returns whether streams are tracked.
+     *
+     * @return whether detection is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables detection for the streams tracked from now on.
+     *
+     * @param enabled whether to track streams
+     */
+    public static void enable(boolean enabled) {
+        CursorLeakDetector.enabled = enabled;
+    }
+
+    /**
+     * Tracks a result stream until it is closed, fully read, or garbage collected.
+     *
+     * @param cursor      the result stream, whose close handlers release the provider cursor
+     * @param description what the stream reads, such as a collection name, used in the report
+     * @param <T>         the type of the elements
+     * @return the tracked stream, or the given stream when detection is disabled
+     * @throws NullPointerException when any parameter is null
+     */
+    public static <T> Stream<T> track(Stream<T> cursor, String description) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        Objects.requireNonNull(description, "description is required");
+        if (!enabled) {
+            return cursor;
+        }
+        Leak leak = new Leak(description, cursor::close);
+        Stream<T> tracked = StreamSupport.stream(new Tracking<>(cursor.spliterator(), leak), cursor.isParallel())
+                .onClose(leak::release);
+        Cleaners.CLEANER.register(tracked, leak);
+        OPEN.increment();
+        return tracked;
+    }
+
+    /**
+     * Returns the number of tracked streams neither closed, fully read, nor garbage collected.
+     *
+     * @return the number of open cursors
+     */
+    public static long openCursors() {
+        return OPEN.sum();
+    }
+
+    /**
+     * Returns the number of tracked streams garbage collected while open.
+     *
+     * @return the number of leaked cursors
+     */
+    public static long leakedCursors() {
+        return LEAKED.sum();
+    }
+
+    /**
+     * Creates the cleaner thread only once detection is used.
+     */
+    private static final class Cleaners {
+
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+
+    /**
+     * The state of a tracked stream, which must not refer to the stream so that the stream can be collected.
+     */
+    private static final class Leak implements Runnable {
+
+        private final String description;
+
+        private final Throwable origin;
+
+        private final Runnable close;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private final AtomicInteger unread = new AtomicInteger(1);
+
+        private Leak(String description, Runnable close) {
+            this.description = description;
+            this.origin = new Throwable("The cursor on " + description + " was opened here");
+            this.origin.setStackTrace(Arrays.stream(origin.getStackTrace())
+                    .filter(element -> !element.getClassName().startsWith(CursorLeakDetector.class.getName()))
+                    .toArray(StackTraceElement[]::new));
+            this.close = close;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                OPEN.decrement();
+                close.run();
+            }
+        }
+
+        /**
+         * Called by the cleaner once the stream is unreachable.
+         */
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                OPEN.decrement();
+                LEAKED.increment();
+                LOGGER.log(System.Logger.Level.WARNING, "A stream on " + description
+                        + " was garbage collected without being closed or fully read", origin);
+                try {
+                    close.run();
+                } catch (RuntimeException exception) {
+                    LOGGER.log(System.Logger.Level.WARNING, "The leaked cursor on " + description + " failed to close", exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the cursor once every part the stream was split into is fully read.
+     */
+    private static final class Tracking<T> implements Spliterator<T> {
+
+        private final Spliterator<T> delegate;
+
+        private final Leak leak;
+
+        private boolean read;
+
+        private Tracking(Spliterator<T> delegate, Leak leak) {
+            this.delegate = delegate;
+            this.leak = leak;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (delegate.tryAdvance(action)) {
+                return true;
+            }
+            exhausted();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            delegate.forEachRemaining(action);
+            exhausted();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = delegate.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            leak.unread.incrementAndGet();
+            return new Tracking<>(prefix, leak);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+
+        private void exhausted() {
+            if (!read) {
+                read = true;
+                if (leak.unread.decrementAndGet() == 0) {
+                    leak.release();
+                }
+            }
+        }
+    }
+}
@@ -15,7 +15,17 @@
  */
 package jakarta.nosql.communication.spi;
 
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.ReadConsistency;
+import jakarta.nosql.WriteDurability;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 
 /**
  * Provides basic data manipulation operations for a provider-specific
@@ -51,6 +61,78 @@ public interface DatabaseManager<T> {
      */
     String name();
 
+    /**
+     * Returns the optional features this manager supports, such as conditional selects, ordering, or
+     * expiration. Frameworks read them once to pick the fastest supported path, instead of calling an
+     * operation and catching {@link UnsupportedOperationException}.
+     *
+     * <pre>{@code
+     * if (manager.capabilities().supports(Capability.BATCH_WRITES)) {
+     *     manager.insert(orders);
+     * } else {
+     *     orders.forEach(manager::insert);
+     * }
+     * }</pre>
+     *
+     * <p>The capabilities must not change during the lifetime of the manager. By default, they are
+     * {@linkplain Capabilities#undeclared() undeclared}.</p>
+     *
+     * @return the capabilities of this manager
+     * @since 1.1.0
+     */
+    default Capabilities capabilities() {
+        return Capabilities.undeclared();
+    }
+
+    /**
+     * Returns a publisher of the changes of the structures of a collection.
+     *
+     * <pre>{@code
+     * manager.watch("orders").subscribe(subscriber);
+     * }</pre>
+     *
+     * <p>By default, an {@link UnsupportedOperationException} is thrown.
+     * Providers declaring {@link jakarta.nosql.Capability#CHANGE_STREAMS}
+     * publish the changes applied after each subscription, backed by the
+     * native change feed where the database has one.</p>
+     *
+     * @param collection the collection name
+     * @return a publisher of the changes of the collection
+     * @throws NullPointerException          if the collection is null
+     * @throws UnsupportedOperationException if the provider does not
+     *                                       publish changes
+     * @since 1.1.0
+     */
+    default Flow.Publisher<ChangeEvent<T>> watch(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        throw new UnsupportedOperationException("The provider does not support watching changes");
+    }
+
+    /**
+     * Returns a view of this manager whose inserts, updates, and deletes,
+     * including those of the delete and update executors, are acknowledged
+     * at the given durability. Reads and selects behave as on this manager.
+     *
+     * <pre>{@code
+     * manager.durability(WriteDurability.JOURNALED).insert(invoice);
+     * }</pre>
+     *
+     * <p>By default, an {@link UnsupportedOperationException} is thrown.
+     * Providers declaring {@link jakarta.nosql.Capability#WRITE_DURABILITY}
+     * map each level to their native write concern.</p>
+     *
+     * @param durability the acknowledgement that writes wait for
+     * @return a manager writing at the given durability
+     * @throws NullPointerException          if the durability is null
+     * @throws UnsupportedOperationException if the provider cannot choose
+     *                                       the durability of writes
+     * @since 1.1.0
+     */
+    default DatabaseManager<T> durability(WriteDurability durability) {
+        Objects.requireNonNull(durability, "durability is required");
+        throw new UnsupportedOperationException("The provider does not support choosing the durability of writes");
+    }
+
     /**
      * Inserts a structure into the database.
      *
@@ -93,6 +175,56 @@ public interface DatabaseManager<T> {
      */
     Iterable<T> insert(Iterable<T> entities);
 
+    /**
+     * Inserts a structure that expires after the given time to live.
+     *
+     * <p>Once the time to live has elapsed, the structure is no longer
+     * returned and is eventually removed. Providers without native
+     * expiration do not implement this method.</p>
+     *
+     * <pre>{@code
+     * ProviderStructure session = new ProviderStructure()
+     *         .put("_id", "abc123")
+     *         .put("user", "user-42");
+     *
+     * ProviderStructure persisted = manager.insert(session, Duration.ofMinutes(30));
+     * }</pre>
+     *
+     * @param entity the structure to insert
+     * @param ttl    the time to live
+     * @return the persisted structure
+     * @throws NullPointerException          if the structure or the time to live is null
+     * @throws UnsupportedOperationException if the provider does not support expiration
+     * @since 1.1.0
+     */
+    default T insert(T entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        throw new UnsupportedOperationException("This provider does not support expiration");
+    }
+
+    /**
+     * Inserts multiple structures that expire after the given time to live.
+     *
+     * <p>By default, each structure is inserted with {@link #insert(Object, Duration)}.</p>
+     *
+     * @param entities structures to insert
+     * @param ttl      the time to live
+     * @return the persisted structures
+     * @throws NullPointerException          if the iterable, any element, or the time to live is null
+     * @throws UnsupportedOperationException if the provider does not support expiration
+     * @since 1.1.0
+     */
+    default Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<T> persisted = new ArrayList<>();
+        for (T entity : entities) {
+            persisted.add(insert(entity, ttl));
+        }
+        return persisted;
+    }
+
     /**
      * Updates an existing structure.
      *
@@ -156,6 +288,32 @@ public interface DatabaseManager<T> {
      */
     <K> Optional<T> findById(K id);
 
+    /**
+     * Retrieves a structure by a provider-defined identifier, reading at the
+     * requested consistency.
+     *
+     * <pre>{@code
+     * Optional<ProviderStructure> order =
+     *         manager.findById("A1", ReadConsistency.LOCAL);
+     * }</pre>
+     *
+     * <p>By default, the consistency is ignored and the structure is read by
+     * {@link #findById(Object)}. Providers declaring
+     * {@link jakarta.nosql.Capability#READ_CONSISTENCY} map it to their native read
+     * preference.</p>
+     *
+     * @param id          provider-defined identifier
+     * @param consistency the requested consistency
+     * @param <K>         identifier type
+     * @return the matching structure, if found
+     * @throws NullPointerException if the identifier or the consistency is null
+     * @since 1.1.0
+     */
+    default <K> Optional<T> findById(K id, ReadConsistency consistency) {
+        Objects.requireNonNull(consistency, "consistency is required");
+        return findById(id);
+    }
+
     /**
      * Deletes a structure by a provider-defined identifier.
      *
@@ -15,6 +15,8 @@
  */
 package jakarta.nosql.communication.spi;
 
+import jakarta.nosql.Capabilities;
+
 /**
  * Factory responsible for creating {@link DatabaseManager} instances based on
  * a logical database identifier.
@@ -85,4 +87,18 @@ public interface DatabaseManagerFactory  {
      */
     <T>DatabaseManager<T> create(String databaseName);
 
+    /**
+     * Returns the optional features supported by every manager this factory creates, so that a runtime can
+     * check them before resolving any database.
+     *
+     * <p>A manager may support more than its factory declares. By default, the capabilities are
+     * {@linkplain Capabilities#undeclared() undeclared}.</p>
+     *
+     * @return the capabilities common to the created managers
+     * @since 1.1.0
+     */
+    default Capabilities capabilities() {
+        return Capabilities.undeclared();
+    }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Emits the Flight Recorder events of this package only when the {@code jdk.jfr} module can be read, so
+ * runtimes without it never load {@link OperationEvent} or {@link QueryTranslationEvent}. The events are
+ * handled as plain objects outside of {@link Events}, the only class that references them.
+ */
+final class FlightRecording {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr")
+            .map(FlightRecording.class.getModule()::canRead)
+            .orElse(false);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Checks whether the operation event is enabled in a running recording.
+     */
+    static boolean enabled() {
+        return AVAILABLE && Events.enabled();
+    }
+
+    /**
+     * Starts an operation event, returning {@code null} when it is not recorded.
+     */
+    static Object start(OperationContext context) {
+        return AVAILABLE ? Events.start(context) : null;
+    }
+
+    static void complete(Object event, long rows) {
+        if (event != null) {
+            ((OperationEvent) event).complete(rows);
+        }
+    }
+
+    static void fail(Object event, Throwable error) {
+        if (event != null) {
+            ((OperationEvent) event).fail(error);
+        }
+    }
+
+    /**
+     * Runs a query translation within a translation event, when one can be recorded.
+     */
+    static int translate(Operation operation, String entity, Supplier<String> query, IntSupplier translation) {
+        return AVAILABLE ? Events.translate(operation, entity, query, translation) : translation.getAsInt();
+    }
+
+    private static final class Events {
+
+        private static final EventType OPERATION = type(OperationEvent.class);
+
+        private static final EventType TRANSLATION = type(QueryTranslationEvent.class);
+
+        /**
+         * Looks the type of an event up once, so that checking whether it is enabled on every operation
+         * neither allocates nor registers anything; {@code null} when this JVM cannot record events.
+         */
+        private static EventType type(Class<? extends Event> event) {
+            try {
+                return EventType.getEventType(event);
+            } catch (IllegalStateException | InternalError unsupported) {
+                return null;
+            }
+        }
+
+        private static boolean enabled() {
+            return OPERATION != null && OPERATION.isEnabled();
+        }
+
+        private static Object start(OperationContext context) {
+            OperationEvent event = OperationEvent.start(context.operation(), context.entity(), context.conditions());
+            return event.isEnabled() ? event : null;
+        }
+
+        private static int translate(Operation operation, String entity, Supplier<String> query, IntSupplier translation) {
+            if (TRANSLATION == null || !TRANSLATION.isEnabled()) {
+                return translation.getAsInt();
+            }
+            QueryTranslationEvent event = QueryTranslationEvent.start(operation, entity, query.get());
+            int conditions = translation.getAsInt();
+            event.complete(conditions);
+            return conditions;
+        }
+    }
+}
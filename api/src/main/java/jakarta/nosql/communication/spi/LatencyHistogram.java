@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link OperationListener} that records the latency of every operation in a histogram
+ * per entity and {@link Operation}.
+ *
+ * <p>Latencies are stored in log-linear buckets with a relative error below 7%, from one
+ * nanosecond up to {@link Long#MAX_VALUE}. Recording is lock-free and does not allocate once
+ * the histogram of an entity and operation exists.</p>
+ *
+ * <p>To enable it for every provider in the application, register it as a service in
+ * {@code META-INF/services/jakarta.nosql.communication.spi.OperationListener}, then read it through
+ * {@link OperationListeners#discovered()}:</p>
+ * <pre>{@code
+ * LatencyHistogram histogram = OperationListeners.discovered()
+ *         .find(LatencyHistogram.class)
+ *         .orElseThrow();
+ *
+ * LatencyHistogram.Snapshot find = histogram.snapshot("Person", Operation.FIND);
+ * Duration p99 = find.percentile(0.99);
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class LatencyHistogram implements OperationListener {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final ConcurrentMap<String, Recorder[]> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+    }
+
+    @Override
+    public void after(OperationContext context, long rows, long bytes) {
+        recorder(context).record(context.elapsedNanos(), rows);
+    }
+
+    @Override
+    public void error(OperationContext context, Throwable error) {
+        recorder(context).failure(context.elapsedNanos());
+    }
+
+    /**
+     * Records the latency of an operation measured by the caller, for example by a provider timing an
+     * operation it did not report through a {@link OperationContext}.
+     *
+     * @param entity    the entity or structure name
+     * @param operation the operation
+     * @param nanos     the latency, in nanoseconds
+     * @param rows      the number of entities written, read, or counted, or {@code -1} when unknown
+     * @throws NullPointerException     when entity or operation is null
+     * @throws IllegalArgumentException when nanos is negative
+     */
+    public void record(String entity, Operation operation, long nanos, long rows) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(operation, "operation is required");
+        if (nanos < 0) {
+            throw new IllegalArgumentException("nanos must not be negative: " + nanos);
+        }
+        recorder(entity, operation).record(nanos, rows);
+    }
+
+    /**
+     * Returns the entities for which at least one operation was recorded.
+     *
+     * @return the entity names
+     */
+    public Set<String> entities() {
+        return Set.copyOf(recorders.keySet());
+    }
+
+    /**
+     * Returns a point-in-time view of the latencies recorded for the given entity and operation.
+     *
+     * @param entity    the entity or structure name
+     * @param operation the operation
+     * @return the snapshot, empty when nothing was recorded
+     * @throws NullPointerException when entity or operation is null
+     */
+    public Snapshot snapshot(String entity, Operation operation) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(operation, "operation is required");
+        Recorder[] byOperation = recorders.get(entity);
+        if (byOperation == null || byOperation[operation.ordinal()] == null) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, new long[BUCKETS]);
+        }
+        return byOperation[operation.ordinal()].snapshot();
+    }
+
+    /**
+     * Discards every recorded value.
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "entities=" + recorders.keySet() +
+                '}';
+    }
+
+    private Recorder recorder(OperationContext context) {
+        return recorder(context.entity(), context.operation());
+    }
+
+    private Recorder recorder(String entity, Operation operation) {
+        Recorder[] byOperation = recorders.computeIfAbsent(entity, ignored -> new Recorder[OPERATIONS.length]);
+        int index = operation.ordinal();
+        Recorder recorder = byOperation[index];
+        if (recorder == null) {
+            synchronized (byOperation) {
+                recorder = byOperation[index];
+                if (recorder == null) {
+                    recorder = new Recorder();
+                    byOperation[index] = recorder;
+                }
+            }
+        }
+        return recorder;
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long width(int bucket) {
+        return bucket < SUB_BUCKETS ? 1 : 1L << (bucket / SUB_BUCKETS - 1);
+    }
+
+    private static final class Recorder {
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        private final LongAdder total = new LongAdder();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos, long rows) {
+            track(nanos);
+            if (rows > 0) {
+                this.rows.add(rows);
+            }
+        }
+
+        void failure(long nanos) {
+            track(nanos);
+            errors.increment();
+        }
+
+        private void track(long nanos) {
+            counts.incrementAndGet(bucket(nanos));
+            total.add(nanos);
+            min.accumulateAndGet(nanos, Math::min);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        Snapshot snapshot() {
+            long[] copy = new long[BUCKETS];
+            long count = 0;
+            for (int index = 0; index < BUCKETS; index++) {
+                copy[index] = counts.get(index);
+                count += copy[index];
+            }
+            long lowest = count == 0 ? 0 : min.get();
+            return new Snapshot(count, errors.sum(), rows.sum(), total.sum(), lowest, max.get(), copy);
+        }
+    }
+
+    /**
+     * A point-in-time view of one histogram.
+     *
+     * @param count      the number of recorded operations, including failures
+     * @param errors     the number of failed operations
+     * @param rows       the total number of rows reported by successful operations
+     * @param totalNanos the sum of all recorded latencies, in nanoseconds
+     * @param minNanos   the lowest recorded latency, in nanoseconds
+     * @param maxNanos   the highest recorded latency, in nanoseconds
+     * @param buckets    the count per bucket
+     */
+    public record Snapshot(long count, long errors, long rows, long totalNanos, long minNanos, long maxNanos, long[] buckets) {
+
+        /**
+         * Creates a snapshot, keeping a private copy of the buckets.
+         */
+        public Snapshot {
+            buckets = buckets.clone();
+        }
+
+        @Override
+        public long[] buckets() {
+            return buckets.clone();
+        }
+
+        /**
+         * Combines this snapshot with another, for example to aggregate the operations of several entities
+         * or the histograms of several processes.
+         *
+         * <pre>{@code
+         * LatencyHistogram.Snapshot reads = histogram.snapshot("Person", Operation.FIND)
+         *         .merge(histogram.snapshot("Person", Operation.SELECT));
+         * }</pre>
+         *
+         * @param other the snapshot to combine with this one
+         * @return a snapshot holding the operations of both
+         * @throws NullPointerException when other is null
+         */
+        public Snapshot merge(Snapshot other) {
+            Objects.requireNonNull(other, "other is required");
+            if (other.count == 0) {
+                return this;
+            }
+            if (count == 0) {
+                return other;
+            }
+            long[] merged = new long[buckets.length];
+            for (int index = 0; index < merged.length; index++) {
+                merged[index] = buckets[index] + other.buckets[index];
+            }
+            return new Snapshot(count + other.count, errors + other.errors, rows + other.rows,
+                    totalNanos + other.totalNanos, Math.min(minNanos, other.minNanos),
+                    Math.max(maxNanos, other.maxNanos), merged);
+        }
+
+        /**
+         * Returns the mean latency.
+         *
+         * @return the mean, or {@link Duration#ZERO} when nothing was recorded
+         */
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+        }
+
+        /**
+         * Returns the latency below which the given fraction of operations completed.
+         *
+         * <pre>{@code
+         * Duration p99 = snapshot.percentile(0.99);
+         * }</pre>
+         *
+         * @param fraction the fraction, between {@code 0} and {@code 1}
+         * @return the estimated latency, or {@link Duration#ZERO} when nothing was recorded
+         * @throws IllegalArgumentException when the fraction is out of range
+         */
+        public Duration percentile(double fraction) {
+            if (!(fraction >= 0 && fraction <= 1)) {
+                throw new IllegalArgumentException("fraction must be between 0 and 1: " + fraction);
+            }
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int index = 0; index < buckets.length; index++) {
+                seen += buckets[index];
+                if (seen >= rank) {
+                    long estimate = lowerBound(index) + (width(index) - 1) / 2;
+                    return Duration.ofNanos(Math.min(Math.max(estimate, minNanos), maxNanos));
+                }
+            }
+            return Duration.ofNanos(maxNanos);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Snapshot that)) {
+                return false;
+            }
+            return count == that.count && errors == that.errors && rows == that.rows
+                    && totalNanos == that.totalNanos && minNanos == that.minNanos && maxNanos == that.maxNanos
+                    && Arrays.equals(buckets, that.buckets);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(count, errors, rows, totalNanos, minNanos, maxNanos) + Arrays.hashCode(buckets);
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "count=" + count +
+                    ", errors=" + errors +
+                    ", rows=" + rows +
+                    ", mean=" + mean() +
+                    ", p50=" + percentile(0.5) +
+                    ", p99=" + percentile(0.99) +
+                    ", max=" + Duration.ofNanos(maxNanos) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A probabilistic set of keys used to answer "is this key definitely absent?"
+ * without querying the database.
+ *
+ * <p>A membership filter never produces false negatives: when
+ * {@link #mightContain(Object)} returns {@code false}, the key was never
+ * {@linkplain #add(Object) added} to the filter. A {@code true} answer only means
+ * the key may be present, and the caller must still consult the database.</p>
+ *
+ * <p>Keys are compared as identifiers: numbers of equal value, such as {@code 1}, {@code 1L}, and
+ * {@code 1.0}, are the same key, and a character sequence is the same key as its {@link String}. A number
+ * and its text, such as {@code 1} and {@code "1"}, are distinct keys.</p>
+ *
+ * <p>Providers may keep one filter per entity type to short-circuit
+ * {@code Template.find(Class, Object)} for keys that do not exist. In that case the
+ * provider is responsible for:</p>
+ * <ul>
+ *   <li>adding the key of every entity written through {@code insert} or {@code update};</li>
+ *   <li>tolerating deletions: removed keys stay in the filter and only cost a regular
+ *   database lookup, so {@code delete} requires no filter maintenance;</li>
+ *   <li>rebuilding the filter from a keys-only scan, via {@link #bloom(Stream, long, double)},
+ *   when it is first enabled, after writes that bypass the provider, or when deletions have
+ *   made it stale.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * MembershipFilter<Object> filter = MembershipFilter.bloom(1_000_000, 0.01);
+ * filter.add("A1");
+ *
+ * if (!filter.mightContain(id)) {
+ *     return Optional.empty(); // no round-trip
+ * }
+ * return manager.findById(id);
+ * }</pre>
+ *
+ * <p>Implementations must be safe for concurrent use.</p>
+ *
+ * @param <K> the key type
+ * @since 1.1.0
+ */
+public interface MembershipFilter<K> {
+
+    /**
+     * Records the given key as a member of this filter.
+     *
+     * @param key the key to add
+     * @throws NullPointerException if the key is null
+     */
+    void add(K key);
+
+    /**
+     * Checks whether the given key may have been added to this filter.
+     *
+     * @param key the key to check
+     * @return {@code false} if the key was definitely never added, {@code true} if it may have been
+     * @throws NullPointerException if the key is null
+     */
+    boolean mightContain(K key);
+
+    /**
+     * Returns the expected probability that {@link #mightContain(Object)} returns {@code true}
+     * for a key that was never added, given the keys recorded so far.
+     *
+     * @return the current false positive probability, between {@code 0} and {@code 1}
+     */
+    double falsePositiveRate();
+
+    /**
+     * Creates an empty Bloom filter sized for the given number of keys and false positive rate.
+     *
+     * @param expectedKeys      the expected number of keys, must be positive
+     * @param falsePositiveRate the desired false positive rate, in the open interval {@code (0, 1)}
+     * @param <K>               the key type
+     * @return a new, empty filter
+     * @throws IllegalArgumentException if {@code expectedKeys} is not positive or
+     *                                  {@code falsePositiveRate} is out of range
+     */
+    static <K> MembershipFilter<K> bloom(long expectedKeys, double falsePositiveRate) {
+        return new BloomMembershipFilter<>(expectedKeys, falsePositiveRate);
+    }
+
+    /**
+     * Creates a Bloom filter populated with the given keys, typically the result of a keys-only scan.
+     * The stream is fully consumed but not closed.
+     *
+     * @param keys              the keys to add
+     * @param expectedKeys      the expected number of keys, must be positive
+     * @param falsePositiveRate the desired false positive rate, in the open interval {@code (0, 1)}
+     * @param <K>               the key type
+     * @return a new filter containing every key of the stream
+     * @throws NullPointerException     if the stream is null or contains null keys
+     * @throws IllegalArgumentException if {@code expectedKeys} is not positive or
+     *                                  {@code falsePositiveRate} is out of range
+     */
+    static <K> MembershipFilter<K> bloom(Stream<? extends K> keys, long expectedKeys, double falsePositiveRate) {
+        Objects.requireNonNull(keys, "keys is required");
+        MembershipFilter<K> filter = bloom(expectedKeys, falsePositiveRate);
+        keys.forEach(filter::add);
+        return filter;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+/**
+ * The kinds of database operations reported to an {@link OperationListener}.
+ *
+ * <p>The constants map to the operations of {@code jakarta.nosql.Template} and
+ * {@link DatabaseManager}, so providers report the same operation whichever layer
+ * they instrument.</p>
+ *
+ * @since 1.1.0
+ */
+public enum Operation {
+
+    /**
+     * A single or batch insert, such as {@code Template.insert} or {@link DatabaseManager#insert(Object)}.
+     */
+    INSERT,
+
+    /**
+     * A single or batch update by entity, or a fluent {@code Template.update(Class)} execution.
+     */
+    UPDATE,
+
+    /**
+     * A delete by entity or identifier, or a fluent {@code Template.delete(Class)} execution.
+     */
+    DELETE,
+
+    /**
+     * A lookup by identifier, such as {@code Template.find} or {@link DatabaseManager#findById(Object)}.
+     */
+    FIND,
+
+    /**
+     * A fluent select execution returning entities, such as {@code result()}, {@code stream()} or
+     * {@code singleResult()}, or {@link SelectExecutor.FinalStep#fetch()}.
+     */
+    SELECT,
+
+    /**
+     * A fluent select execution returning the number of matches, such as {@code count()}.
+     */
+    COUNT,
+
+    /**
+     * A string-based query, such as {@code Template.query} or {@code Template.typedQuery}.
+     */
+    QUERY
+}
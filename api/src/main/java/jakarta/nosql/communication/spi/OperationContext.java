@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.Objects;
+
+/**
+ * Describes a single database operation while it is observed by an {@link OperationListener}.
+ *
+ * <p>A provider creates one context when the operation starts, passes it to
+ * {@link OperationListener#before(OperationContext)}, and passes the same instance to either
+ * {@link OperationListener#after(OperationContext, long, long)} or
+ * {@link OperationListener#error(OperationContext, Throwable)} when the operation completes.</p>
+ *
+ * <pre>{@code
+ * OperationContext context = OperationContext.start(Operation.FIND, "Person", 1);
+ *
+ * OperationContext query = OperationContext.start(Operation.QUERY, "Person", 1,
+ *         QueryFingerprint.of(Operation.QUERY, "Person", "SELECT * FROM Person WHERE age > ?1"));
+ * }</pre>
+ *
+ * @param operation   the kind of operation
+ * @param entity      the entity or provider-defined structure name, such as {@code Person} or {@code orders}
+ * @param conditions  the number of conditions applied, or {@code 0} when the operation has none
+ * @param fingerprint the shape of the query, or {@code null} for operations without one, such as {@code find}
+ * @param startNanos  the {@link System#nanoTime()} value captured when the operation started
+ * @since 1.1.0
+ */
+public record OperationContext(Operation operation, String entity, int conditions, QueryFingerprint fingerprint, long startNanos) {
+
+    /**
+     * Validates the context.
+     *
+     * @throws NullPointerException     when operation or entity is null
+     * @throws IllegalArgumentException when conditions is negative
+     */
+    public OperationContext {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(entity, "entity is required");
+        if (conditions < 0) {
+            throw new IllegalArgumentException("conditions must not be negative: " + conditions);
+        }
+    }
+
+    /**
+     * Creates a context for an operation that starts now.
+     *
+     * @param operation  the kind of operation
+     * @param entity     the entity or structure name
+     * @param conditions the number of conditions applied
+     * @return a new context
+     * @throws NullPointerException     when operation or entity is null
+     * @throws IllegalArgumentException when conditions is negative
+     */
+    public static OperationContext start(Operation operation, String entity, int conditions) {
+        return new OperationContext(operation, entity, conditions, null, System.nanoTime());
+    }
+
+    /**
+     * Creates a context for a query that starts now.
+     *
+     * @param operation   the kind of operation
+     * @param entity      the entity or structure name
+     * @param conditions  the number of conditions applied
+     * @param fingerprint the shape of the query
+     * @return a new context
+     * @throws NullPointerException     when operation, entity, or fingerprint is null
+     * @throws IllegalArgumentException when conditions is negative
+     */
+    public static OperationContext start(Operation operation, String entity, int conditions, QueryFingerprint fingerprint) {
+        Objects.requireNonNull(fingerprint, "fingerprint is required");
+        return new OperationContext(operation, entity, conditions, fingerprint, System.nanoTime());
+    }
+
+    /**
+     * Creates a context, without conditions, for an operation that starts now.
+     *
+     * @param operation the kind of operation
+     * @param entity    the entity or structure name
+     * @return a new context
+     * @throws NullPointerException when operation or entity is null
+     */
+    public static OperationContext start(Operation operation, String entity) {
+        return start(operation, entity, 0);
+    }
+
+    /**
+     * Returns the nanoseconds elapsed since this operation started.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
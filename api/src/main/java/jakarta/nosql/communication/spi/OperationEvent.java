@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event emitted for each {@code jakarta.nosql.Template} or
+ * {@link DatabaseManager} operation, so recordings attribute time to Jakarta NoSQL operations
+ * rather than to anonymous driver threads.
+ *
+ * <p>The event is disabled by default. It is enabled in a recording with
+ * {@code jfr configure jakarta.nosql.Operation#enabled=true} or, at startup, with
+ * {@code -XX:StartFlightRecording:jakarta.nosql.Operation#enabled=true}. While disabled, the JIT
+ * removes the event entirely, so instrumented code pays nothing.</p>
+ *
+ * <pre>{@code
+ * OperationEvent event = OperationEvent.start(Operation.SELECT, "Person", 2);
+ * try {
+ *     List<ProviderStructure> result = execute(query);
+ *     event.complete(result.size());
+ *     return result;
+ * } catch (RuntimeException exception) {
+ *     event.fail(exception);
+ *     throw exception;
+ * }
+ * }</pre>
+ *
+ * <p>{@link OperationListeners#observe(java.util.function.Supplier, java.util.function.Supplier,
+ * java.util.function.ToLongFunction) OperationListeners} emits this event around the operations of the
+ * providers that use it. The API module declares {@code requires static transitive jdk.jfr}: runtimes
+ * without the {@code jdk.jfr} module must not load this class.</p>
+ *
+ * @see QueryTranslationEvent
+ * @since 1.1.0
+ */
+@Name("jakarta.nosql.Operation")
+@Label("NoSQL Operation")
+@Category("Jakarta NoSQL")
+@Description("A Template or DatabaseManager operation executed by a Jakarta NoSQL provider")
+@Enabled(false)
+@StackTrace(false)
+public final class OperationEvent extends Event {
+
+    @Label("Entity")
+    @Description("The entity or provider-defined structure name")
+    private String entity;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Conditions")
+    @Description("The number of conditions applied to the operation")
+    private int conditions;
+
+    @Label("Results")
+    @Description("The number of entities written, read, or counted, or -1 when unknown")
+    private long results;
+
+    @Label("Error")
+    @Description("The class of the exception that failed the operation")
+    private String error;
+
+    private OperationEvent() {
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param operation  the kind of operation
+     * @param entity     the entity or structure name
+     * @param conditions the number of conditions applied
+     * @return the started event
+     */
+    public static OperationEvent start(Operation operation, String entity, int conditions) {
+        OperationEvent event = new OperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation.name();
+            event.entity = entity;
+            event.conditions = conditions;
+            event.results = -1;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the operation successfully and commits the event when the recording threshold is met.
+     *
+     * @param results the number of entities written, read, or counted, or {@code -1} when unknown
+     */
+    public void complete(long results) {
+        end();
+        if (shouldCommit()) {
+            this.results = results;
+            commit();
+        }
+    }
+
+    /**
+     * Ends the operation with a failure and commits the event when the recording threshold is met.
+     *
+     * @param error the failure raised to the caller
+     */
+    public void fail(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            this.error = error == null ? null : error.getClass().getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+/**
+ * Observes the database operations executed by a provider, for example to collect metrics
+ * or traces without wrapping {@code jakarta.nosql.Template} or {@link DatabaseManager} in proxies.
+ *
+ * <p>Providers notify listeners around each {@code Template} and {@link DatabaseManager}
+ * operation: {@link #before(OperationContext)} when the operation starts, then exactly one of
+ * {@link #after(OperationContext, long, long)} or {@link #error(OperationContext, Throwable)}.
+ * For operations returning a {@link java.util.stream.Stream}, completion is signaled when the
+ * stream is closed.</p>
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}, through
+ * {@link OperationListeners#discovered()}, and must therefore provide a public no-argument
+ * constructor. Listeners are invoked on the thread executing the operation, must be thread-safe,
+ * and should avoid blocking or allocating on these paths.</p>
+ *
+ * <pre>{@code
+ * public class SlowFindListener implements OperationListener {
+ *
+ *     @Override
+ *     public void after(OperationContext context, long rows, long bytes) {
+ *         if (context.operation() == Operation.FIND && context.elapsedNanos() > 1_000_000) {
+ *             System.out.println("Slow find on " + context.entity());
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see OperationListeners
+ * @see LatencyHistogram
+ * @since 1.1.0
+ */
+public interface OperationListener {
+
+    /**
+     * Invoked before the operation is sent to the database.
+     *
+     * @param context the operation being executed
+     */
+    default void before(OperationContext context) {
+    }
+
+    /**
+     * Invoked after the operation completed successfully.
+     *
+     * @param context the operation that completed
+     * @param rows    the number of entities written, read, or counted, or {@code -1} when unknown
+     * @param bytes   the number of bytes exchanged with the database, or {@code -1} when unknown
+     */
+    default void after(OperationContext context, long rows, long bytes) {
+    }
+
+    /**
+     * Invoked when the operation failed.
+     *
+     * @param context the operation that failed
+     * @param error   the failure raised to the caller
+     */
+    default void error(OperationContext context, Throwable error) {
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable group of {@link OperationListener} instances notified as one.
+ *
+ * <p>A failure raised by one listener is logged and does not prevent the remaining listeners
+ * from being notified, nor does it affect the observed operation.</p>
+ *
+ * <p>Providers usually obtain the group once, at bootstrap:</p>
+ * <pre>{@code
+ * OperationListeners listeners = OperationListeners.discovered();
+ *
+ * OperationContext context = OperationContext.start(Operation.FIND, "Person", 1);
+ * listeners.before(context);
+ * try {
+ *     Optional<ProviderStructure> result = manager.findById(id);
+ *     listeners.after(context, result.isPresent() ? 1 : 0, -1);
+ *     return result;
+ * } catch (RuntimeException exception) {
+ *     listeners.error(context, exception);
+ *     throw exception;
+ * }
+ * }</pre>
+ *
+ * <p>{@link #observe(Supplier, Supplier, ToLongFunction)} and {@link #observeStream(Supplier, Supplier)} do the
+ * same around an operation, and skip creating the context when the group is empty:</p>
+ * <pre>{@code
+ * return listeners.observe(() -> OperationContext.start(Operation.FIND, "Person", 1),
+ *         () -> manager.findById(id), result -> result.isPresent() ? 1 : 0);
+ * }</pre>
+ *
+ * <p>Applications reach the discovered instances through the same group:</p>
+ * <pre>{@code
+ * OperationListeners.discovered()
+ *         .find(LatencyHistogram.class)
+ *         .map(histogram -> histogram.snapshot("Person", Operation.FIND))
+ *         .ifPresent(System.out::println);
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class OperationListeners implements OperationListener {
+
+    private static final System.Logger LOGGER = System.getLogger(OperationListeners.class.getName());
+
+    private final List<OperationListener> listeners;
+
+    private OperationListeners(List<OperationListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Returns the listeners registered through {@link ServiceLoader}, along with a {@link SlowQueryLog} when the
+     * {@value SlowQueryLog#THRESHOLD_PROPERTY} system property is set and none was registered. The lookup happens
+     * once, on first use, so every caller shares the same listener instances.
+     *
+     * @return the discovered listeners, possibly empty
+     */
+    public static OperationListeners discovered() {
+        return Discovered.INSTANCE;
+    }
+
+    /**
+     * Creates a group from the given listeners.
+     *
+     * @param listeners the listeners to notify, in order
+     * @return a new group
+     * @throws NullPointerException if the array or any listener is null
+     */
+    public static OperationListeners of(OperationListener... listeners) {
+        return new OperationListeners(List.of(listeners));
+    }
+
+    /**
+     * Returns the first listener of the given type in this group.
+     *
+     * @param type the listener type
+     * @param <L>  the listener type
+     * @return the listener, or {@link Optional#empty()} when the group has none of that type
+     * @throws NullPointerException if the type is null
+     */
+    public <L extends OperationListener> Optional<L> find(Class<L> type) {
+        Objects.requireNonNull(type, "type is required");
+        return listeners.stream().filter(type::isInstance).map(type::cast).findFirst();
+    }
+
+    /**
+     * Checks whether this group has no listeners, letting providers skip creating a
+     * {@link OperationContext} entirely.
+     *
+     * @return {@code true} when there is no listener to notify
+     */
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * Runs an operation, notifying this group before it starts and once it completes or fails, within an
+     * {@link OperationEvent} when the {@code jdk.jfr} module is present.
+     *
+     * @param context   creates the context of the operation, only called when the group is not empty or an
+     *                  {@link OperationEvent} is recorded
+     * @param operation the operation
+     * @param rows      returns the number of entities written, read, or counted from the result, or {@code -1}
+     * @param <R>       the result type
+     * @return the result of the operation
+     * @throws NullPointerException when any parameter is null
+     * @since 1.1.0
+     */
+    public <R> R observe(Supplier<OperationContext> context, Supplier<R> operation, ToLongFunction<? super R> rows) {
+        Objects.requireNonNull(context, "context is required");
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(rows, "rows is required");
+        if (listeners.isEmpty() && !FlightRecording.enabled()) {
+            return operation.get();
+        }
+        OperationContext started = context.get();
+        before(started);
+        Object event = FlightRecording.start(started);
+        R result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException | Error exception) {
+            FlightRecording.fail(event, exception);
+            error(started, exception);
+            throw exception;
+        }
+        long read = rows.applyAsLong(result);
+        FlightRecording.complete(event, read);
+        after(started, read, -1);
+        return result;
+    }
+
+    /**
+     * Runs an operation returning a stream, notifying this group before it starts, when it fails to open or
+     * read the stream, or once the stream is fully read or closed, whichever comes first, with the number of
+     * elements read. The stream is timed by an {@link OperationEvent} until then, when the {@code jdk.jfr} module
+     * is present. The elements are counted as they are read, so the returned stream is not sized: a terminal
+     * operation such as {@code count()} reads every element.
+     *
+     * @param context   creates the context of the operation, only called when the group is not empty or an
+     *                  {@link OperationEvent} is recorded
+     * @param operation the operation
+     * @param <E>       the element type
+     * @return the stream of the operation
+     * @throws NullPointerException when any parameter is null
+     * @since 1.1.0
+     */
+    public <E> Stream<E> observeStream(Supplier<OperationContext> context, Supplier<Stream<E>> operation) {
+        Objects.requireNonNull(context, "context is required");
+        Objects.requireNonNull(operation, "operation is required");
+        if (listeners.isEmpty() && !FlightRecording.enabled()) {
+            return operation.get();
+        }
+        OperationContext started = context.get();
+        before(started);
+        Object event = FlightRecording.start(started);
+        Stream<E> stream;
+        try {
+            stream = operation.get();
+        } catch (RuntimeException | Error exception) {
+            FlightRecording.fail(event, exception);
+            error(started, exception);
+            throw exception;
+        }
+        Observation observation = new Observation(started, event);
+        return StreamSupport.stream(new Counting<>(stream.spliterator(), observation), stream.isParallel())
+                .onClose(stream::close)
+                .onClose(observation::complete);
+    }
+
+    /**
+     * Translates a query into the native query of the database within a {@link QueryTranslationEvent}, when
+     * the {@code jdk.jfr} module is present and the event is enabled.
+     *
+     * @param operation   the kind of operation the query performs
+     * @param entity      the entity or structure name
+     * @param query       describes the query without bound values, only called when the event is recorded
+     * @param translation translates the query and returns the number of conditions of the translated query
+     * @return the number of conditions returned by the translation
+     * @throws NullPointerException when any parameter is null
+     * @since 1.1.0
+     */
+    public static int translate(Operation operation, String entity, Supplier<String> query, IntSupplier translation) {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(translation, "translation is required");
+        return FlightRecording.translate(operation, entity, query, translation);
+    }
+
+    @Override
+    public void before(OperationContext context) {
+        for (OperationListener listener : listeners) {
+            try {
+                listener.before(context);
+            } catch (RuntimeException exception) {
+                LOGGER.log(System.Logger.Level.WARNING, "The listener " + listener + " failed before " + context, exception);
+            }
+        }
+    }
+
+    @Override
+    public void after(OperationContext context, long rows, long bytes) {
+        for (OperationListener listener : listeners) {
+            try {
+                listener.after(context, rows, bytes);
+            } catch (RuntimeException exception) {
+                LOGGER.log(System.Logger.Level.WARNING, "The listener " + listener + " failed after " + context, exception);
+            }
+        }
+    }
+
+    @Override
+    public void error(OperationContext context, Throwable error) {
+        for (OperationListener listener : listeners) {
+            try {
+                listener.error(context, error);
+            } catch (RuntimeException exception) {
+                LOGGER.log(System.Logger.Level.WARNING, "The listener " + listener + " failed on error of " + context, exception);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OperationListeners{" +
+                "listeners=" + listeners +
+                '}';
+    }
+
+    /**
+     * The notification of a stream operation, completed once, when the stream is fully read or closed.
+     */
+    private final class Observation {
+
+        private final OperationContext context;
+
+        private final Object event;
+
+        private final LongAdder read = new LongAdder();
+
+        private final AtomicInteger unread = new AtomicInteger(1);
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Observation(OperationContext context, Object event) {
+            this.context = context;
+            this.event = event;
+        }
+
+        void complete() {
+            if (completed.compareAndSet(false, true)) {
+                long rows = read.sum();
+                FlightRecording.complete(event, rows);
+                after(context, rows, -1);
+            }
+        }
+
+        void fail(Throwable exception) {
+            if (completed.compareAndSet(false, true)) {
+                FlightRecording.fail(event, exception);
+                error(context, exception);
+            }
+        }
+    }
+
+    /**
+     * Counts the elements read from a stream and completes its observation once every split is exhausted. The
+     * spliterator is never sized, so that no terminal operation skips reading, and counting, the elements.
+     */
+    private static final class Counting<E> implements Spliterator<E> {
+
+        private final Spliterator<E> delegate;
+
+        private final Observation observation;
+
+        private boolean exhausted;
+
+        private Counting(Spliterator<E> delegate, Observation observation) {
+            this.delegate = delegate;
+            this.observation = observation;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            boolean advanced;
+            try {
+                advanced = delegate.tryAdvance(element -> {
+                    observation.read.increment();
+                    action.accept(element);
+                });
+            } catch (RuntimeException | Error exception) {
+                observation.fail(exception);
+                throw exception;
+            }
+            if (!advanced) {
+                exhausted();
+            }
+            return advanced;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            try {
+                delegate.forEachRemaining(element -> {
+                    observation.read.increment();
+                    action.accept(element);
+                });
+            } catch (RuntimeException | Error exception) {
+                observation.fail(exception);
+                throw exception;
+            }
+            exhausted();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            Spliterator<E> prefix = delegate.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            observation.unread.incrementAndGet();
+            return new Counting<>(prefix, observation);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics() & ~(SIZED | SUBSIZED);
+        }
+
+        @Override
+        public Comparator<? super E> getComparator() {
+            return delegate.getComparator();
+        }
+
+        private void exhausted() {
+            if (!exhausted) {
+                exhausted = true;
+                if (observation.unread.decrementAndGet() == 0) {
+                    observation.complete();
+                }
+            }
+        }
+    }
+
+    private static final class Discovered {
+
+        private static final OperationListeners INSTANCE = discover();
+
+        private static OperationListeners discover() {
+            List<OperationListener> listeners = new ArrayList<>();
+            ServiceLoader.load(OperationListener.class).forEach(listeners::add);
+            if (System.getProperty(SlowQueryLog.THRESHOLD_PROPERTY) != null
+                    && listeners.stream().noneMatch(SlowQueryLog.class::isInstance)) {
+                listeners.add(new SlowQueryLog());
+            }
+            return new OperationListeners(List.copyOf(listeners));
+        }
+    }
+}
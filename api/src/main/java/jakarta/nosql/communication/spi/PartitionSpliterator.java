@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The spliterator returned by {@link ScanPartition#spliterator(List, int)}.
+ *
+ * <p>It covers the partitions from {@code from} to {@code to}, and the opened partition before them, if any.
+ * A split hands over the first half of the partitions by size; once a single partition is left, it is opened
+ * and its own spliterator is split.</p>
+ */
+final class PartitionSpliterator<T> implements Spliterator<T> {
+
+    private static final int SUPPORTED = ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+    private final List<? extends ScanPartition<T>> partitions;
+
+    /**
+     * The sizes of the partitions before each index, shared by every split.
+     */
+    private final long[] offsets;
+
+    private final int characteristics;
+
+    private int from;
+
+    private final int to;
+
+    private Spliterator<T> current;
+
+    private PartitionSpliterator(List<? extends ScanPartition<T>> partitions, long[] offsets, int characteristics,
+                                 int from, int to) {
+        this.partitions = partitions;
+        this.offsets = offsets;
+        this.characteristics = characteristics;
+        this.from = from;
+        this.to = to;
+    }
+
+    static <T> Spliterator<T> of(List<? extends ScanPartition<T>> partitions, int characteristics) {
+        List<? extends ScanPartition<T>> copy = List.copyOf(partitions);
+        if ((characteristics & (SORTED | CONCURRENT)) != 0) {
+            throw new IllegalArgumentException("A partitioned scan cannot be SORTED or CONCURRENT");
+        }
+        long[] offsets = new long[copy.size() + 1];
+        for (int index = 0; index < copy.size(); index++) {
+            long size = copy.get(index).size();
+            if (size < 0) {
+                throw new IllegalArgumentException("The size of a partition must not be negative: " + size);
+            }
+            long offset = offsets[index] + size;
+            offsets[index + 1] = offset < 0 ? Long.MAX_VALUE : offset;
+        }
+        int sized = (characteristics & SIZED) != 0 ? SIZED | SUBSIZED : 0;
+        return new PartitionSpliterator<>(copy, offsets, (characteristics & SUPPORTED & ~(SIZED | SUBSIZED)) | sized,
+                0, copy.size());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is required");
+        while (true) {
+            if (current == null) {
+                if (from >= to) {
+                    return false;
+                }
+                current = partitions.get(from++).open();
+            }
+            if (current.tryAdvance(action)) {
+                return true;
+            }
+            current = null;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is required");
+        if (current != null) {
+            current.forEachRemaining(action);
+            current = null;
+        }
+        while (from < to) {
+            partitions.get(from++).open().forEachRemaining(action);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (current != null) {
+            if (from < to) {
+                Spliterator<T> prefix = current;
+                current = null;
+                return prefix;
+            }
+            return current.trySplit();
+        }
+        int remaining = to - from;
+        if (remaining == 0) {
+            return null;
+        }
+        if (remaining == 1) {
+            current = partitions.get(from++).open();
+            return current.trySplit();
+        }
+        int middle = middle();
+        PartitionSpliterator<T> prefix = new PartitionSpliterator<>(partitions, offsets, characteristics, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = offsets[to] - offsets[from];
+        if (current != null) {
+            long opened = current.estimateSize();
+            size = opened == Long.MAX_VALUE || size + opened < 0 ? Long.MAX_VALUE : size + opened;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        if (current == null || current.hasCharacteristics(SUBSIZED)) {
+            return characteristics;
+        }
+        return characteristics & ~SUBSIZED;
+    }
+
+    /**
+     * Returns the index splitting the remaining partitions into two halves of about the same size, leaving at
+     * least one partition on each side.
+     */
+    private int middle() {
+        long half = offsets[from] + (offsets[to] - offsets[from]) / 2;
+        int low = from + 1;
+        int high = to - 1;
+        while (low < high) {
+            int index = (low + high) >>> 1;
+            if (offsets[index] < half) {
+                low = index + 1;
+            } else {
+                high = index;
+            }
+        }
+        return low;
+    }
+}
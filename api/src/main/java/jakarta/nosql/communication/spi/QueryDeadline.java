@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jakarta.nosql.QueryCancelledException;
+import jakarta.nosql.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The time budget of one query execution, started when the query is executed, together with the thread
+ * that executes it.
+ *
+ * <p>Providers pass {@link #remaining()} to the database when it supports server-side timeouts, and call
+ * {@link #check()} between round trips. {@link #guard(Stream)} enforces the deadline cooperatively on a
+ * result stream: before each element, the stream fails with {@link QueryTimeoutException} once the deadline
+ * has passed, or with {@link QueryCancelledException} once the executing thread is interrupted, after
+ * closing the source stream and therefore the provider cursor:</p>
+ * <pre>{@code
+ * QueryDeadline deadline = QueryDeadline.after(timeout);
+ * Cursor cursor = database.find(query, deadline.remaining());
+ * return deadline.guard(cursor.stream().onClose(cursor::close));
+ * }</pre>
+ *
+ * <p>A blocking call is not interrupted by a deadline: the deadline is checked when the call returns.</p>
+ *
+ * @since 1.1.0
+ */
+public final class QueryDeadline {
+
+    private final Duration timeout;
+
+    private final long deadline;
+
+    private final Thread owner;
+
+    private QueryDeadline(Duration timeout, long deadline, Thread owner) {
+        this.timeout = timeout;
+        this.deadline = deadline;
+        this.owner = owner;
+    }
+
+    /**
+     * Starts a deadline for the current thread.
+     *
+     * @param timeout the time budget
+     * @return a deadline expiring once the timeout has elapsed
+     * @throws NullPointerException     when timeout is null
+     * @throws IllegalArgumentException when timeout is not positive
+     */
+    public static QueryDeadline after(Duration timeout) {
+        requirePositive(timeout);
+        long nanos = timeout.compareTo(Duration.ofDays(365L * 100)) > 0 ? Long.MAX_VALUE / 2 : timeout.toNanos();
+        return new QueryDeadline(timeout, System.nanoTime() + nanos, Thread.currentThread());
+    }
+
+    /**
+     * Validates a timeout, as the {@code timeout} methods of the query APIs do.
+     *
+     * @param timeout the timeout
+     * @return the timeout
+     * @throws NullPointerException     when timeout is null
+     * @throws IllegalArgumentException when timeout is not positive
+     */
+    public static Duration requirePositive(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is required");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the time budget of the query.
+     *
+     * @return the timeout
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the time left before the deadline.
+     *
+     * @return the remaining time, {@link Duration#ZERO} once expired
+     */
+    public Duration remaining() {
+        long remaining = deadline - System.nanoTime();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    /**
+     * Returns whether the deadline has passed.
+     *
+     * @return whether the query has run out of time
+     */
+    public boolean expired() {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Fails when the query must stop.
+     *
+     * @throws QueryTimeoutException   when the deadline has passed
+     * @throws QueryCancelledException when the thread that started the deadline is interrupted; its interrupt
+     *                                 status is kept
+     */
+    public void check() {
+        if (owner.isInterrupted()) {
+            throw new QueryCancelledException("The query was cancelled because " + owner.getName() + " was interrupted");
+        }
+        if (expired()) {
+            throw new QueryTimeoutException("The query exceeded its timeout of " + timeout);
+        }
+    }
+
+    /**
+     * Returns a stream checking this deadline before each element. When the check fails, the source is
+     * closed before the exception is thrown; closing the returned stream also closes the source.
+     *
+     * @param source the result stream
+     * @param <T>    the type of the elements
+     * @return the guarded stream, parallel when the source is
+     * @throws NullPointerException when source is null
+     */
+    public <T> Stream<T> guard(Stream<T> source) {
+        Objects.requireNonNull(source, "source is required");
+        return StreamSupport.stream(new Guard<>(source.spliterator(), source), source.isParallel())
+                .onClose(source::close);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryDeadline{" +
+                "timeout=" + timeout +
+                ", remaining=" + remaining() +
+                '}';
+    }
+
+    private final class Guard<T> implements Spliterator<T> {
+
+        private final Spliterator<T> delegate;
+
+        private final Stream<T> source;
+
+        private Guard(Spliterator<T> delegate, Stream<T> source) {
+            this.delegate = delegate;
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                check();
+            } catch (QueryCancelledException exception) {
+                source.close();
+                throw exception;
+            }
+            return delegate.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (tryAdvance(action)) {
+                // checks the deadline before each element
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = delegate.trySplit();
+            return prefix == null ? null : new Guard<>(prefix, source);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+}
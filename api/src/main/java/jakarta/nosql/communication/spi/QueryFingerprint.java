@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The shape of a query with every value stripped, so that executions differing only in their
+ * parameters share the same fingerprint.
+ *
+ * <p>Fingerprints are built either from a Jakarta Common Query Language string passed to
+ * {@code Template.query} or {@code Template.typedQuery}, or from the steps of a
+ * {@code jakarta.nosql.QueryMapper} chain:</p>
+ * <pre>{@code
+ * QueryFingerprint text = QueryFingerprint.of(Operation.QUERY, "Person",
+ *         "SELECT * FROM Person WHERE age > 30 AND name = 'Ada'");
+ * // SELECT * FROM Person WHERE age > ? AND name = ?
+ *
+ * QueryFingerprint fluent = QueryFingerprint.builder(Operation.SELECT, "Person")
+ *         .where("age", "gt")
+ *         .and("name", "eq")
+ *         .orderBy("name", true)
+ *         .limit()
+ *         .build();
+ * // SELECT Person WHERE age gt ? AND name eq ? ORDER BY name ASC LIMIT ?
+ * }</pre>
+ *
+ * @param operation the kind of operation
+ * @param entity    the entity or structure name
+ * @param shape     the normalized query, without values
+ * @since 1.1.0
+ */
+public record QueryFingerprint(Operation operation, String entity, String shape) {
+
+    private static final Set<String> KEYWORDS = Set.of("SELECT", "FROM", "WHERE", "AND", "OR", "NOT", "ORDER", "BY",
+            "ASC", "DESC", "LIMIT", "OFFSET", "UPDATE", "SET", "DELETE", "IN", "BETWEEN", "LIKE", "IS", "NULL");
+
+    private static final Set<String> LITERALS = Set.of("TRUE", "FALSE");
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Validates the fingerprint.
+     *
+     * @throws NullPointerException when any component is null
+     */
+    public QueryFingerprint {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(shape, "shape is required");
+    }
+
+    /**
+     * Returns a short, stable identifier of this fingerprint, suitable for log correlation.
+     * Equal fingerprints always have the same identifier, across JVMs.
+     *
+     * @return a 16-digit hexadecimal identifier
+     */
+    public String id() {
+        long hash = FNV_OFFSET;
+        String text = operation.name() + ' ' + entity + ' ' + shape;
+        for (int index = 0; index < text.length(); index++) {
+            hash ^= text.charAt(index);
+            hash *= FNV_PRIME;
+        }
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * Creates the fingerprint of a query string by replacing string, numeric, and boolean literals with
+     * {@code ?}, including the sign of a negative number, collapsing {@code IN} lists, upper-casing keywords, and normalizing whitespace.
+     * Parameter markers such as {@code ?1} or {@code :name} are kept.
+     *
+     * @param operation the kind of operation
+     * @param entity    the entity or structure name
+     * @param query     the query string
+     * @return the fingerprint of the query
+     * @throws NullPointerException when any parameter is null
+     */
+    public static QueryFingerprint of(Operation operation, String entity, String query) {
+        Objects.requireNonNull(query, "query is required");
+        return new QueryFingerprint(operation, entity, normalize(query));
+    }
+
+    /**
+     * Creates the fingerprint of a {@link StandardCondition}, keeping its fields and operators but none of
+     * its values. Nested conjunctions and disjunctions are parenthesized, and {@code IN} lists are collapsed,
+     * so queries differing only in the number of accepted values share the same fingerprint.
+     *
+     * <pre>{@code
+     * QueryFingerprint fingerprint = QueryFingerprint.of(Operation.SELECT, "Person",
+     *         StandardCondition.and(StandardCondition.gte("age", 18), StandardCondition.in("city", cities)));
+     * // SELECT Person WHERE age gte ? AND city in ?
+     * }</pre>
+     *
+     * @param operation the kind of operation
+     * @param entity    the entity or structure name
+     * @param condition the condition of the query
+     * @return the fingerprint of the condition
+     * @throws NullPointerException when any parameter is null
+     */
+    public static QueryFingerprint of(Operation operation, String entity, StandardCondition condition) {
+        return builder(operation, entity).where(condition).build();
+    }
+
+    /**
+     * Starts the fingerprint of a {@code jakarta.nosql.QueryMapper} chain.
+     *
+     * @param operation the kind of operation
+     * @param entity    the entity name
+     * @return a new builder
+     * @throws NullPointerException when any parameter is null
+     */
+    public static Builder builder(Operation operation, String entity) {
+        return new Builder(operation, entity);
+    }
+
+    private static String normalize(String query) {
+        StringBuilder shape = new StringBuilder(query.length());
+        int index = 0;
+        boolean operand = false;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (Character.isWhitespace(current)) {
+                while (index < query.length() && Character.isWhitespace(query.charAt(index))) {
+                    index++;
+                }
+                if (!shape.isEmpty()) {
+                    shape.append(' ');
+                }
+            } else if (current == '\'' || current == '"') {
+                index = skipQuoted(query, index, current);
+                shape.append('?');
+                operand = true;
+            } else if ((current == '-' || current == '+') && !operand && index + 1 < query.length()
+                    && Character.isDigit(query.charAt(index + 1))) {
+                index++;
+            } else if (Character.isDigit(current)) {
+                while (index < query.length() && (Character.isLetterOrDigit(query.charAt(index)) || query.charAt(index) == '.'
+                        || exponentSign(query, index))) {
+                    index++;
+                }
+                shape.append('?');
+                operand = true;
+            } else if (current == '?' || current == ':') {
+                shape.append(current);
+                index++;
+                while (index < query.length() && Character.isLetterOrDigit(query.charAt(index))) {
+                    shape.append(query.charAt(index++));
+                }
+                operand = true;
+            } else if (Character.isJavaIdentifierStart(current)) {
+                int start = index;
+                while (index < query.length() && (Character.isJavaIdentifierPart(query.charAt(index)) || query.charAt(index) == '.')) {
+                    index++;
+                }
+                String word = query.substring(start, index);
+                String upper = word.toUpperCase(Locale.ROOT);
+                if (LITERALS.contains(upper)) {
+                    shape.append('?');
+                } else {
+                    shape.append(KEYWORDS.contains(upper) ? upper : word);
+                }
+                operand = !KEYWORDS.contains(upper);
+            } else {
+                shape.append(current);
+                index++;
+                operand = current == ')';
+            }
+        }
+        return shape.toString().strip().replaceAll("(?i)\\bIN ?\\( ?\\?( ?, ?\\?)* ?\\)", "IN (?)");
+    }
+
+    private static void shape(StandardCondition condition, StringBuilder shape, boolean nested) {
+        if (condition instanceof StandardCondition.Constant constant) {
+            shape.append(constant.value() ? "TRUE" : "FALSE");
+        } else if (condition instanceof StandardCondition.Comparison comparison) {
+            shape.append(comparison.field()).append(' ').append(comparison.operator().name().toLowerCase(Locale.ROOT))
+                    .append(" ?");
+        } else if (condition instanceof StandardCondition.Between between) {
+            shape.append(between.field()).append(" between ? AND ?");
+        } else if (condition instanceof StandardCondition.In in) {
+            shape.append(in.field()).append(" in ?");
+        } else if (condition instanceof StandardCondition.Like like) {
+            shape.append(like.field()).append(" like ?");
+        } else if (condition instanceof StandardCondition.Not not) {
+            shape.append("NOT ");
+            shape(not.condition(), shape, true);
+        } else if (condition instanceof StandardCondition.And and) {
+            junction(and.conditions(), " AND ", shape, nested);
+        } else if (condition instanceof StandardCondition.Or or) {
+            junction(or.conditions(), " OR ", shape, nested);
+        }
+    }
+
+    private static void junction(List<StandardCondition> conditions, String connector, StringBuilder shape, boolean nested) {
+        if (nested) {
+            shape.append('(');
+        }
+        for (int index = 0; index < conditions.size(); index++) {
+            if (index > 0) {
+                shape.append(connector);
+            }
+            shape(conditions.get(index), shape, true);
+        }
+        if (nested) {
+            shape.append(')');
+        }
+    }
+
+    private static boolean exponentSign(String query, int index) {
+        char current = query.charAt(index);
+        char previous = query.charAt(index - 1);
+        return (current == '-' || current == '+') && (previous == 'e' || previous == 'E');
+    }
+
+    private static int skipQuoted(String query, int start, char quote) {
+        int index = start + 1;
+        while (index < query.length()) {
+            if (query.charAt(index) == quote) {
+                if (index + 1 < query.length() && query.charAt(index + 1) == quote) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Builds the fingerprint of a fluent chain. Each method appends one step, in the order the
+     * chain was called; no method accepts a value, so values can never leak into the fingerprint.
+     */
+    public static final class Builder {
+
+        private final Operation operation;
+
+        private final String entity;
+
+        private final StringBuilder shape;
+
+        private Builder(Operation operation, String entity) {
+            this.operation = Objects.requireNonNull(operation, "operation is required");
+            this.entity = Objects.requireNonNull(entity, "entity is required");
+            this.shape = new StringBuilder(operation.name()).append(' ').append(entity);
+        }
+
+        /**
+         * Appends the first condition.
+         *
+         * @param field    the field name
+         * @param operator the operator name, such as {@code eq} or {@code between}
+         * @return this builder
+         */
+        public Builder where(String field, String operator) {
+            return condition(" WHERE ", field, operator);
+        }
+
+        /**
+         * Appends a whole condition tree, without its values.
+         *
+         * @param condition the condition
+         * @return this builder
+         */
+        public Builder where(StandardCondition condition) {
+            Objects.requireNonNull(condition, "condition is required");
+            shape.append(" WHERE ");
+            shape(condition, shape, false);
+            return this;
+        }
+
+        /**
+         * Appends a condition combined with a logical conjunction.
+         *
+         * @param field    the field name
+         * @param operator the operator name
+         * @return this builder
+         */
+        public Builder and(String field, String operator) {
+            return condition(" AND ", field, operator);
+        }
+
+        /**
+         * Appends a condition combined with a logical disjunction.
+         *
+         * @param field    the field name
+         * @param operator the operator name
+         * @return this builder
+         */
+        public Builder or(String field, String operator) {
+            return condition(" OR ", field, operator);
+        }
+
+        /**
+         * Appends a field assignment of an update.
+         *
+         * @param field the field name
+         * @return this builder
+         */
+        public Builder set(String field) {
+            shape.append(" SET ").append(Objects.requireNonNull(field, "field is required")).append(" = ?");
+            return this;
+        }
+
+        /**
+         * Appends an ordering.
+         *
+         * @param field     the field name
+         * @param ascending whether the order is ascending
+         * @return this builder
+         */
+        public Builder orderBy(String field, boolean ascending) {
+            shape.append(" ORDER BY ").append(Objects.requireNonNull(field, "field is required"))
+                    .append(ascending ? " ASC" : " DESC");
+            return this;
+        }
+
+        /**
+         * Appends the presence of a skip, without its value.
+         *
+         * @return this builder
+         */
+        public Builder skip() {
+            shape.append(" SKIP ?");
+            return this;
+        }
+
+        /**
+         * Appends the presence of a limit, without its value.
+         *
+         * @return this builder
+         */
+        public Builder limit() {
+            shape.append(" LIMIT ?");
+            return this;
+        }
+
+        /**
+         * Creates the fingerprint.
+         *
+         * @return the fingerprint of the chain
+         */
+        public QueryFingerprint build() {
+            return new QueryFingerprint(operation, entity, shape.toString());
+        }
+
+        private Builder condition(String connector, String field, String operator) {
+            Objects.requireNonNull(field, "field is required");
+            Objects.requireNonNull(operator, "operator is required");
+            shape.append(connector).append(field).append(' ').append(operator).append(" ?");
+            return this;
+        }
+    }
+}
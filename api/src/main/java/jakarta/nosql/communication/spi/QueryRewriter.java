@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Rewrites a {@link StandardCondition} into an equivalent condition that is cheaper to execute, before it
+ * reaches a {@link SelectExecutor}, {@link DeleteExecutor}, or {@link UpdateExecutor}.
+ *
+ * <p>A rewriter must preserve the meaning of the condition: it only changes its shape, so that providers
+ * receive index-friendly queries whatever the order in which the application combined its conditions.
+ * Rewriters are stateless and thread-safe.</p>
+ *
+ * <p>{@link #standard()} applies the normalizations valid for every provider. Additional rewriters are
+ * registered through {@link ServiceLoader} and chained after it by {@link #discovered()}:</p>
+ * <pre>{@code
+ * StandardCondition condition = StandardCondition.or(
+ *         StandardCondition.eq("city", "Lisbon"),
+ *         StandardCondition.eq("city", "Porto"));
+ *
+ * QueryRewriter.standard().rewrite(condition);
+ * // in("city", [Lisbon, Porto])
+ *
+ * DatabaseManager<ProviderStructure> rewriting = QueryRewriter.discovered().decorate(manager);
+ * }</pre>
+ *
+ * @see StandardCondition
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface QueryRewriter {
+
+    /**
+     * Rewrites a condition.
+     *
+     * @param condition the condition to rewrite
+     * @return an equivalent condition, possibly the same instance
+     * @throws NullPointerException when condition is null
+     */
+    StandardCondition rewrite(StandardCondition condition);
+
+    /**
+     * Returns a rewriter applying this rewriter, then the given one.
+     *
+     * @param next the rewriter applied to the result of this one
+     * @return the composed rewriter
+     * @throws NullPointerException when next is null
+     */
+    default QueryRewriter andThen(QueryRewriter next) {
+        Objects.requireNonNull(next, "next is required");
+        return condition -> next.rewrite(rewrite(condition));
+    }
+
+    /**
+     * Returns a manager rewriting every {@link StandardCondition} passed to its executors with this
+     * rewriter before delegating to the given manager.
+     *
+     * <p>When a condition is rewritten to {@link StandardCondition#never()}, the manager is not called: a
+     * select returns an empty stream, and a delete or an update does nothing. Conditions of other types are
+     * passed through unchanged.</p>
+     *
+     * @param manager the manager to delegate to
+     * @param <T>     the provider-specific database structure
+     * @return the rewriting manager
+     * @throws NullPointerException when manager is null
+     */
+    default <T> DatabaseManager<T> decorate(DatabaseManager<T> manager) {
+        return new RewritingDatabaseManager<>(manager, this);
+    }
+
+    /**
+     * Returns the normalizations valid for every provider, applied until the condition no longer changes:
+     *
+     * <ul>
+     *   <li>nested conjunctions and disjunctions are flattened, and single-condition ones unwrapped;</li>
+     *   <li>double negations are removed, and constants are folded;</li>
+     *   <li>equalities and {@code in} conditions on the same field combined by a disjunction become a single
+     *   {@code in} condition;</li>
+     *   <li>range conditions on the same field combined by a conjunction are merged into the tightest range,
+     *   a {@code between} condition when both bounds are inclusive;</li>
+     *   <li>contradictions, such as two different equalities or an empty range on the same field, become
+     *   {@link StandardCondition#never()}.</li>
+     * </ul>
+     *
+     * <p>Ranges and equalities are only merged for numbers, booleans, and {@code java.time} values of the same
+     * type, whose ordering every provider agrees on; text ordering depends on collation and is left
+     * untouched.</p>
+     *
+     * @return the standard rewriter
+     */
+    static QueryRewriter standard() {
+        return StandardRewriter.INSTANCE;
+    }
+
+    /**
+     * Returns the {@linkplain #standard() standard} rewriter followed by the rewriters registered through
+     * {@link ServiceLoader}. The lookup happens once, on first use.
+     *
+     * @return the discovered rewriters
+     */
+    static QueryRewriter discovered() {
+        return StandardRewriter.discovered();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event emitted while a provider translates a query, either a
+ * {@code jakarta.nosql.QueryMapper} chain or a {@code Template.query} string, into the
+ * native query of the database.
+ *
+ * <p>The event is disabled by default and enabled with
+ * {@code jakarta.nosql.QueryTranslation#enabled=true}. As with {@link OperationEvent}, it costs
+ * nothing while disabled.</p>
+ *
+ * <pre>{@code
+ * QueryTranslationEvent event = QueryTranslationEvent.start(Operation.QUERY, "Person",
+ *         "SELECT * FROM Person WHERE age > ?1");
+ * NativeQuery nativeQuery = translate(query);
+ * event.complete(nativeQuery.conditions());
+ * }</pre>
+ *
+ * <p>Providers that must also run without the {@code jdk.jfr} module emit it through
+ * {@link OperationListeners#translate(Operation, String, java.util.function.Supplier, java.util.function.IntSupplier)
+ * OperationListeners.translate}, which never loads this class on such runtimes.</p>
+ *
+ * @see OperationEvent
+ * @since 1.1.0
+ */
+@Name("jakarta.nosql.QueryTranslation")
+@Label("NoSQL Query Translation")
+@Category("Jakarta NoSQL")
+@Description("The translation of a Jakarta NoSQL query into the native query of the database")
+@Enabled(false)
+@StackTrace(false)
+public final class QueryTranslationEvent extends Event {
+
+    @Label("Entity")
+    @Description("The entity or provider-defined structure name")
+    private String entity;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Query")
+    @Description("The query being translated, without bound parameter values")
+    private String query;
+
+    @Label("Conditions")
+    @Description("The number of conditions in the translated query")
+    private int conditions;
+
+    private QueryTranslationEvent() {
+    }
+
+    /**
+     * Starts timing a query translation.
+     *
+     * @param operation the kind of operation the query performs
+     * @param entity    the entity or structure name
+     * @param query     the query text or a description of the fluent chain; it must not contain bound values
+     * @return the started event
+     */
+    public static QueryTranslationEvent start(Operation operation, String entity, String query) {
+        QueryTranslationEvent event = new QueryTranslationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation.name();
+            event.entity = entity;
+            event.query = query;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the translation and commits the event when the recording threshold is met.
+     *
+     * @param conditions the number of conditions in the translated query
+     */
+    public void complete(int conditions) {
+        end();
+        if (shouldCommit()) {
+            this.conditions = conditions;
+            commit();
+        }
+    }
+}
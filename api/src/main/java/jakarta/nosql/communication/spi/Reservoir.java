@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Draws a uniform random sample of a stream of unknown length in a single pass, holding no more than the
+ * sample in memory, for providers without native sampling and for the default {@code sample} methods of the
+ * query APIs.
+ *
+ * <p>The sample is drawn with Li's Algorithm L: once the reservoir is full, the number of elements to skip
+ * before the next replacement is drawn from a geometric distribution, so that only {@code O(n log(N/n))}
+ * random numbers are drawn for {@code N} elements. The source stream is closed once the sample is drawn.</p>
+ * <pre>{@code
+ * List<Document> sample = Reservoir.sample(collection.find(filter).stream(), 100);
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class Reservoir {
+
+    /**
+     * The largest sample that can be drawn.
+     */
+    public static final long MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private Reservoir() {
+    }
+
+    /**
+     * Draws a sample of up to {@code size} elements, with {@link ThreadLocalRandom}.
+     *
+     * @param source the elements to sample
+     * @param size   the number of elements to draw
+     * @param <T>    the type of the elements
+     * @return an unmodifiable list of the drawn elements, in no particular order, holding every element when
+     * the source has no more than {@code size}
+     * @throws NullPointerException     when source is null
+     * @throws IllegalArgumentException when size is negative or greater than {@link #MAX_SIZE}
+     */
+    public static <T> List<T> sample(Stream<T> source, long size) {
+        return sample(source, size, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Draws a sample of up to {@code size} elements.
+     *
+     * @param source the elements to sample
+     * @param size   the number of elements to draw
+     * @param random the source of randomness
+     * @param <T>    the type of the elements
+     * @return an unmodifiable list of the drawn elements, in no particular order, holding every element when
+     * the source has no more than {@code size}
+     * @throws NullPointerException     when source or random is null
+     * @throws IllegalArgumentException when size is negative or greater than {@link #MAX_SIZE}
+     */
+    public static <T> List<T> sample(Stream<T> source, long size, Random random) {
+        Objects.requireNonNull(source, "source is required");
+        Objects.requireNonNull(random, "random is required");
+        requireSize(size);
+        try (source) {
+            return Collections.unmodifiableList(draw(source.iterator(), (int) size, random));
+        }
+    }
+
+    /**
+     * Validates a sample size, as the {@code sample} methods of the query APIs do.
+     *
+     * @param size the sample size
+     * @return the sample size
+     * @throws IllegalArgumentException when size is negative or greater than {@link #MAX_SIZE}
+     */
+    public static long requireSize(long size) {
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 0 and " + MAX_SIZE + ": " + size);
+        }
+        return size;
+    }
+
+    private static <T> List<T> draw(Iterator<T> elements, int size, Random random) {
+        List<T> reservoir = new ArrayList<>(Math.min(size, 1_024));
+        while (reservoir.size() < size && elements.hasNext()) {
+            reservoir.add(elements.next());
+        }
+        if (size == 0) {
+            return reservoir;
+        }
+        double weight = Math.exp(Math.log(uniform(random)) / size);
+        while (elements.hasNext()) {
+            long skip = (long) Math.floor(Math.log(uniform(random)) / Math.log1p(-weight));
+            for (long skipped = 0; skipped < skip; skipped++) {
+                if (!elements.hasNext()) {
+                    return reservoir;
+                }
+                elements.next();
+            }
+            if (!elements.hasNext()) {
+                return reservoir;
+            }
+            reservoir.set(random.nextInt(size), elements.next());
+            weight *= Math.exp(Math.log(uniform(random)) / size);
+        }
+        return reservoir;
+    }
+
+    /**
+     * Returns a uniform random number in {@code (0, 1]}, whose logarithm is finite.
+     */
+    private static double uniform(Random random) {
+        return 1 - random.nextDouble();
+    }
+}
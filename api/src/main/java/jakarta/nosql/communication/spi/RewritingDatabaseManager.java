@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.ReadConsistency;
+import jakarta.nosql.WriteDurability;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The manager returned by {@link QueryRewriter#decorate(DatabaseManager)}.
+ *
+ * <p>The executor steps are recorded rather than forwarded, because the whole condition is only known once
+ * the chain ends: the conditions are then combined, rewritten, and replayed on the delegate with the other
+ * steps in their original order.</p>
+ */
+final class RewritingDatabaseManager<T> implements DatabaseManager<T> {
+
+    private final DatabaseManager<T> delegate;
+
+    private final QueryRewriter rewriter;
+
+    RewritingDatabaseManager(DatabaseManager<T> delegate, QueryRewriter rewriter) {
+        this.delegate = Objects.requireNonNull(delegate, "manager is required");
+        this.rewriter = Objects.requireNonNull(rewriter, "rewriter is required");
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return delegate.capabilities();
+    }
+
+    @Override
+    public Flow.Publisher<ChangeEvent<T>> watch(String collection) {
+        return delegate.watch(collection);
+    }
+
+    @Override
+    public DatabaseManager<T> durability(WriteDurability durability) {
+        return new RewritingDatabaseManager<>(delegate.durability(durability), rewriter);
+    }
+
+    @Override
+    public T insert(T entity) {
+        return delegate.insert(entity);
+    }
+
+    @Override
+    public Iterable<T> insert(Iterable<T> entities) {
+        return delegate.insert(entities);
+    }
+
+    @Override
+    public T insert(T entity, Duration ttl) {
+        return delegate.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        return delegate.insert(entities, ttl);
+    }
+
+    @Override
+    public T update(T entity) {
+        return delegate.update(entity);
+    }
+
+    @Override
+    public Iterable<T> update(Iterable<T> entities) {
+        return delegate.update(entities);
+    }
+
+    @Override
+    public void delete(T entity) {
+        delegate.delete(entity);
+    }
+
+    @Override
+    public <K> Optional<T> findById(K id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public <K> Optional<T> findById(K id, ReadConsistency consistency) {
+        return delegate.findById(id, consistency);
+    }
+
+    @Override
+    public <K> void deleteById(K id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public SelectExecutor<T> select() {
+        return name -> new SelectSteps(delegate::select, name);
+    }
+
+    @Override
+    public SelectExecutor<T> select(String... names) {
+        Objects.requireNonNull(names, "names is required");
+        return name -> new SelectSteps(() -> delegate.select(names), name);
+    }
+
+    @Override
+    public DeleteExecutor delete() {
+        return name -> new DeleteSteps(delegate::delete, name);
+    }
+
+    @Override
+    public DeleteExecutor delete(String... names) {
+        Objects.requireNonNull(names, "names is required");
+        return name -> new DeleteSteps(() -> delegate.delete(names), name);
+    }
+
+    @Override
+    public UpdateExecutor update() {
+        return name -> new UpdateSteps(name);
+    }
+
+    @Override
+    public String toString() {
+        return "RewritingDatabaseManager{" +
+                "delegate=" + delegate +
+                ", rewriter=" + rewriter +
+                '}';
+    }
+
+    /**
+     * Combines conditions as the junction steps do: {@code and} and {@code or} apply to everything before them.
+     * Standard conditions are rewritten; any other condition is kept as given, together with the standard
+     * conditions combined before it.
+     */
+    private final class Where {
+
+        private Condition condition;
+
+        void where(Condition next) {
+            condition = Objects.requireNonNull(next, "condition is required");
+        }
+
+        void and(Condition next) {
+            Objects.requireNonNull(next, "condition is required");
+            condition = condition == null ? next : combine(condition, next, true);
+        }
+
+        void or(Condition next) {
+            Objects.requireNonNull(next, "condition is required");
+            condition = condition == null ? next : combine(condition, next, false);
+        }
+
+        private Condition combine(Condition left, Condition right, boolean conjunction) {
+            if (left instanceof StandardCondition standardLeft && right instanceof StandardCondition standardRight) {
+                return conjunction ? StandardCondition.and(standardLeft, standardRight) : StandardCondition.or(standardLeft, standardRight);
+            }
+            return new Opaque(left, right, conjunction);
+        }
+
+        /**
+         * Returns the rewritten condition, {@code null} when there is none.
+         */
+        Condition rewritten() {
+            return condition instanceof StandardCondition standard ? rewriter.rewrite(standard) : condition;
+        }
+
+        boolean never(Condition rewritten) {
+            return rewritten instanceof StandardCondition.Constant constant && !constant.value();
+        }
+
+        <S> S apply(Condition rewritten, S from, Function<Condition, S> where, Opaque.Junction<S> junction) {
+            if (rewritten == null || rewritten instanceof StandardCondition.Constant constant && constant.value()) {
+                return from;
+            }
+            if (rewritten instanceof Opaque opaque) {
+                return opaque.replay(where, junction, rewriter);
+            }
+            return where.apply(rewritten);
+        }
+    }
+
+    /**
+     * A combination involving a provider-defined condition, replayed step by step.
+     */
+    private record Opaque(Condition left, Condition right, boolean conjunction) implements Condition {
+
+        interface Junction<S> {
+
+            S and(S step, Condition condition);
+
+            S or(S step, Condition condition);
+        }
+
+        <S> S replay(Function<Condition, S> where, Junction<S> junction, QueryRewriter rewriter) {
+            S step = left instanceof Opaque opaque ? opaque.replay(where, junction, rewriter)
+                    : where.apply(left instanceof StandardCondition standard ? rewriter.rewrite(standard) : left);
+            Condition next = right instanceof StandardCondition standard ? rewriter.rewrite(standard) : right;
+            return conjunction ? junction.and(step, next) : junction.or(step, next);
+        }
+    }
+
+    private final class SelectSteps implements SelectExecutor.From<T>, SelectExecutor.Junction<T>,
+            SelectExecutor.Ordering<T>, SelectExecutor.Pagination<T> {
+
+        private final Supplier<SelectExecutor<T>> executor;
+
+        private final String name;
+
+        private final Where where = new Where();
+
+        private final List<Function<Object, Object>> steps = new ArrayList<>();
+
+        private SelectSteps(Supplier<SelectExecutor<T>> executor, String name) {
+            this.executor = executor;
+            this.name = Objects.requireNonNull(name, "name is required");
+        }
+
+        @Override
+        public SelectExecutor.Junction<T> where(Condition condition) {
+            where.where(condition);
+            return this;
+        }
+
+        @Override
+        public SelectExecutor.Junction<T> and(Condition condition) {
+            where.and(condition);
+            return this;
+        }
+
+        @Override
+        public SelectExecutor.Junction<T> or(Condition condition) {
+            where.or(condition);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.Ordering<T> orderBy(Order order) {
+            Objects.requireNonNull(order, "order is required");
+            steps.add(step -> ((SelectExecutor.FinalStep<T>) step).orderBy(order));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.Ordering<T> then(Order order) {
+            Objects.requireNonNull(order, "order is required");
+            steps.add(step -> ((SelectExecutor.Ordering<T>) step).then(order));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.Pagination<T> limit(long limit) {
+            steps.add(step -> ((SelectExecutor.FinalStep<T>) step).limit(limit));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.FinalStep<T> skip(long skip) {
+            steps.add(step -> ((SelectExecutor.Pagination<T>) step).skip(skip));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.FinalStep<T> fetchSize(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size must be positive: " + size);
+            }
+            steps.add(step -> ((SelectExecutor.FinalStep<T>) step).fetchSize(size));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.FinalStep<T> consistency(ReadConsistency consistency) {
+            Objects.requireNonNull(consistency, "consistency is required");
+            steps.add(step -> ((SelectExecutor.FinalStep<T>) step).consistency(consistency));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public SelectExecutor.FinalStep<T> timeout(Duration timeout) {
+            QueryDeadline.requirePositive(timeout);
+            steps.add(step -> ((SelectExecutor.FinalStep<T>) step).timeout(timeout));
+            return this;
+        }
+
+        @Override
+        public Stream<T> fetch() {
+            return fetch(false);
+        }
+
+        @Override
+        public Stream<T> parallelFetch() {
+            return fetch(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Stream<Object> fetchKeys() {
+            Object step = step();
+            if (step == null) {
+                return Stream.empty();
+            }
+            return step instanceof SelectExecutor.Pagination<?> pagination
+                    ? pagination.fetchKeys()
+                    : ((SelectExecutor.FinalStep<T>) step).fetchKeys();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Stream<Object> distinct(String field) {
+            Objects.requireNonNull(field, "field is required");
+            Object step = step();
+            return step == null ? Stream.empty() : ((SelectExecutor.FinalStep<T>) step).distinct(field);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public List<T> sample(long n) {
+            Reservoir.requireSize(n);
+            Object step = step();
+            return step == null ? List.of() : ((SelectExecutor.FinalStep<T>) step).sample(n);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public long count(Accuracy accuracy) {
+            Objects.requireNonNull(accuracy, "accuracy is required");
+            Object step = step();
+            return step == null ? 0 : ((SelectExecutor.FinalStep<T>) step).count(accuracy);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public long countUpTo(long max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("max must not be negative: " + max);
+            }
+            Object step = step();
+            return step == null ? 0 : ((SelectExecutor.FinalStep<T>) step).countUpTo(max);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Stream<T> fetch(boolean parallel) {
+            Object step = step();
+            if (step == null) {
+                return parallel ? Stream.<T>empty().parallel() : Stream.empty();
+            }
+            if (step instanceof SelectExecutor.Pagination<?> pagination) {
+                SelectExecutor.Pagination<T> last = (SelectExecutor.Pagination<T>) pagination;
+                return parallel ? last.parallelFetch() : last.fetch();
+            }
+            SelectExecutor.FinalStep<T> last = (SelectExecutor.FinalStep<T>) step;
+            return parallel ? last.parallelFetch() : last.fetch();
+        }
+
+        /**
+         * Replays the rewritten condition and the recorded steps on the delegate, returning the last step, or
+         * {@code null} when the condition matches nothing.
+         */
+        @SuppressWarnings("unchecked")
+        private Object step() {
+            Condition condition = where.rewritten();
+            if (where.never(condition)) {
+                return null;
+            }
+            SelectExecutor.From<T> from = executor.get().from(name);
+            Object step = where.apply(condition, (SelectExecutor.FinalStep<T>) from, from::where,
+                    new Opaque.Junction<>() {
+                        @Override
+                        public SelectExecutor.FinalStep<T> and(SelectExecutor.FinalStep<T> current, Condition next) {
+                            return ((SelectExecutor.Junction<T>) current).and(next);
+                        }
+
+                        @Override
+                        public SelectExecutor.FinalStep<T> or(SelectExecutor.FinalStep<T> current, Condition next) {
+                            return ((SelectExecutor.Junction<T>) current).or(next);
+                        }
+                    });
+            for (Function<Object, Object> next : steps) {
+                step = next.apply(step);
+            }
+            return step;
+        }
+    }
+
+    private final class DeleteSteps implements DeleteExecutor.From, DeleteExecutor.Junction {
+
+        private final Supplier<DeleteExecutor> executor;
+
+        private final String name;
+
+        private final Where where = new Where();
+
+        private DeleteSteps(Supplier<DeleteExecutor> executor, String name) {
+            this.executor = executor;
+            this.name = Objects.requireNonNull(name, "name is required");
+        }
+
+        @Override
+        public DeleteExecutor.Junction where(Condition condition) {
+            where.where(condition);
+            return this;
+        }
+
+        @Override
+        public DeleteExecutor.Junction and(Condition condition) {
+            where.and(condition);
+            return this;
+        }
+
+        @Override
+        public DeleteExecutor.Junction or(Condition condition) {
+            where.or(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            Condition condition = where.rewritten();
+            if (where.never(condition)) {
+                return;
+            }
+            DeleteExecutor.From from = executor.get().from(name);
+            DeleteExecutor.Junction junction = where.apply(condition, null, from::where, new Opaque.Junction<>() {
+                @Override
+                public DeleteExecutor.Junction and(DeleteExecutor.Junction current, Condition next) {
+                    return current.and(next);
+                }
+
+                @Override
+                public DeleteExecutor.Junction or(DeleteExecutor.Junction current, Condition next) {
+                    return current.or(next);
+                }
+            });
+            if (junction == null) {
+                from.execute();
+            } else {
+                junction.execute();
+            }
+        }
+    }
+
+    private final class UpdateSteps implements UpdateExecutor.From {
+
+        private final String name;
+
+        private final List<UpdateExecutor.Update> updates = new ArrayList<>();
+
+        private final Where where = new Where();
+
+        private UpdateSteps(String name) {
+            this.name = Objects.requireNonNull(name, "name is required");
+        }
+
+        @Override
+        public UpdateExecutor.From set(UpdateExecutor.Update update) {
+            updates.add(Objects.requireNonNull(update, "update is required"));
+            return this;
+        }
+
+        @Override
+        public UpdateExecutor.From where(Condition condition) {
+            where.and(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            Condition condition = where.rewritten();
+            if (where.never(condition)) {
+                return;
+            }
+            UpdateExecutor.From steps = delegate.update().from(name);
+            for (UpdateExecutor.Update update : updates) {
+                steps = steps.set(update);
+            }
+            UpdateExecutor.From from = steps;
+            UpdateExecutor.From target = where.apply(condition, from, from::where, new Opaque.Junction<>() {
+                @Override
+                public UpdateExecutor.From and(UpdateExecutor.From current, Condition next) {
+                    return current.where(next);
+                }
+
+                @Override
+                public UpdateExecutor.From or(UpdateExecutor.From current, Condition next) {
+                    throw new IllegalStateException("An update cannot combine conditions with or");
+                }
+            });
+            target.execute();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+
+/**
+ * A part of a collection that a provider reads independently of the others, such as a token range, a
+ * shard, a range of identifiers, or a segment of a local store.
+ *
+ * <p>A provider implements {@link SelectExecutor.FinalStep#parallelFetch()} by listing the partitions of a
+ * scan and combining them with {@link #spliterator(List, int)}. The resulting {@link Spliterator} hands
+ * whole partitions to the threads of a parallel stream, and splits the last partition through its own
+ * spliterator, so that the work is spread across cores instead of being buffered from a single cursor:</p>
+ * <pre>{@code
+ * List<ScanPartition<ProviderStructure>> partitions = shards.stream()
+ *         .map(shard -> ScanPartition.of(shard.size(), () -> shard.scan(condition)))
+ *         .toList();
+ * return StreamSupport.stream(ScanPartition.spliterator(partitions, Spliterator.SIZED | Spliterator.NONNULL), true);
+ * }</pre>
+ *
+ * <p>A partition is opened lazily, when a thread first reads from it, and is read at most once.</p>
+ *
+ * @param <T> the provider-specific structure
+ * @since 1.1.0
+ */
+public interface ScanPartition<T> {
+
+    /**
+     * Returns the number of structures in this partition, exact when the scan reports
+     * {@link Spliterator#SIZED}, an estimate otherwise.
+     *
+     * @return the size of the partition, not negative
+     */
+    long size();
+
+    /**
+     * Starts reading this partition.
+     *
+     * @return a spliterator over the structures of the partition
+     */
+    Spliterator<T> open();
+
+    /**
+     * Creates a partition from its size and the reader of its structures.
+     *
+     * @param size   the exact or estimated number of structures
+     * @param opener opens the partition when it is first read
+     * @param <T>    the provider-specific structure
+     * @return a new partition
+     * @throws IllegalArgumentException when size is negative
+     * @throws NullPointerException     when opener is null
+     */
+    static <T> ScanPartition<T> of(long size, Supplier<? extends Spliterator<T>> opener) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        Objects.requireNonNull(opener, "opener is required");
+        return new ScanPartition<>() {
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public Spliterator<T> open() {
+                return opener.get();
+            }
+        };
+    }
+
+    /**
+     * Combines partitions into one spliterator, traversing them in list order.
+     *
+     * <p>The characteristics describe the whole scan: {@link Spliterator#SIZED} when every partition reports
+     * its exact size, in which case the spliterator is also {@link Spliterator#SUBSIZED};
+     * {@link Spliterator#ORDERED} when the list order is the order of the results; and
+     * {@link Spliterator#NONNULL}, {@link Spliterator#DISTINCT}, or {@link Spliterator#IMMUTABLE} as for any
+     * spliterator. {@link Spliterator#SORTED} and {@link Spliterator#CONCURRENT} are not supported.</p>
+     *
+     * @param partitions      the partitions of the scan
+     * @param characteristics the characteristics of the scan
+     * @param <T>             the provider-specific structure
+     * @return a spliterator over every partition
+     * @throws NullPointerException     when partitions is or contains null
+     * @throws IllegalArgumentException when characteristics include SORTED or CONCURRENT
+     */
+    static <T> Spliterator<T> spliterator(List<? extends ScanPartition<T>> partitions, int characteristics) {
+        return PartitionSpliterator.of(partitions, characteristics);
+    }
+}
@@ -16,6 +16,12 @@
 package jakarta.nosql.communication.spi;
 
 
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.ReadConsistency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -175,12 +181,263 @@ public interface SelectExecutor<T> {
          *        .fetch();
          * }</pre>
          *
+         * <p>Closing the stream must release the provider cursor, even when only part of the results were
+         * read, and the cursor should also be released once the stream is fully read. Providers pass the stream
+         * through {@link CursorLeakDetector#track(Stream, String)} so that unclosed streams can be reported.</p>
+         *
          * @return a stream of provider-specific structures
          * @throws UnsupportedOperationException if the provider
          * does not support select execution or the provider does not support the
          * operation or any condition applied is not supported by the provider.
          */
         Stream<T> fetch();
+
+        /**
+         * Executes the select operation, returning a parallel stream that splits
+         * across the partitions of the underlying database.
+         *
+         * <p>Providers declaring {@link jakarta.nosql.Capability#PARALLEL_SCAN}
+         * back the stream with a spliterator over independently readable
+         * partitions, see {@link ScanPartition}. By default, this method returns
+         * {@code fetch().parallel()}, whose single cursor is buffered rather than
+         * split.</p>
+         *
+         * <pre>{@code
+         * long total = manager.select()
+         *        .from("orders")
+         *        .parallelFetch()
+         *        .mapToLong(provider::amount)
+         *        .sum();
+         * }</pre>
+         *
+         * @return a parallel stream of provider-specific structures
+         * @throws UnsupportedOperationException if the provider
+         * does not support select execution or the provider does not support the
+         * operation or any condition applied is not supported by the provider.
+         * @since 1.1.0
+         */
+        default Stream<T> parallelFetch() {
+            return fetch().parallel();
+        }
+
+        /**
+         * Executes the select operation, returning only the keys of the
+         * structures rather than the structures themselves.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("sessions")
+         *        .where(provider.lt("expiresAt", now))
+         *        .fetchKeys();
+         * }</pre>
+         *
+         * <p>Providers declaring {@link jakarta.nosql.Capability#KEYS_ONLY}
+         * read the keys with a covered or index-only read, without reading or
+         * decoding the structures. As with {@link #fetch()}, closing the stream
+         * releases the provider cursor. By default, this method throws
+         * {@link UnsupportedOperationException}, since the key of a
+         * provider-specific structure cannot be read here.</p>
+         *
+         * @return a stream of the keys, in the order of the structures
+         * @throws UnsupportedOperationException if the provider does not
+         * support keys-only reads
+         * @since 1.1.0
+         */
+        default Stream<Object> fetchKeys() {
+            throw new UnsupportedOperationException("The provider does not support keys-only reads");
+        }
+
+        /**
+         * Returns the distinct non-null values of a field of the structures the
+         * select operation returns, without returning the structures.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("vehicles")
+         *        .distinct("transmission");
+         * }</pre>
+         *
+         * <p>Providers declaring {@link jakarta.nosql.Capability#DISTINCT}
+         * ask the database for the values, such as with a distinct command or
+         * by reading the keys of an index. As with {@link #fetch()}, closing the
+         * stream releases the provider cursor. By default, this method throws
+         * {@link UnsupportedOperationException}, since the fields of a
+         * provider-specific structure cannot be read here.</p>
+         *
+         * @param field the name of the field
+         * @return the distinct values of the field
+         * @throws NullPointerException if {@code field} is {@code null}
+         * @throws UnsupportedOperationException if the provider does not
+         * support distinct values
+         * @since 1.1.0
+         */
+        default Stream<Object> distinct(String field) {
+            Objects.requireNonNull(field, "field is required");
+            throw new UnsupportedOperationException("The provider does not support distinct values");
+        }
+
+        /**
+         * Executes the select operation and returns a uniform random sample of
+         * up to {@code n} of the structures it returns.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("readings")
+         *        .sample(1_000);
+         * }</pre>
+         *
+         * <p>Providers declaring {@link jakarta.nosql.Capability#SAMPLING}
+         * draw the sample in the database, such as with a sampling stage or a
+         * table sample. By default, the structures are fetched and sampled with
+         * {@link Reservoir}, holding no more than {@code n} of them in
+         * memory.</p>
+         *
+         * @param n the number of structures to draw
+         * @return the drawn structures, in no particular order, or every
+         * structure when there are no more than {@code n}
+         * @throws IllegalArgumentException if {@code n} is negative or greater
+         * than {@link Reservoir#MAX_SIZE}
+         * @since 1.1.0
+         */
+        default List<T> sample(long n) {
+            Reservoir.requireSize(n);
+            return Reservoir.sample(fetch(), n);
+        }
+
+        /**
+         * Counts the structures the select operation returns, as exact as
+         * {@code accuracy} requires.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("events")
+         *        .count(Accuracy.APPROXIMATE);
+         * }</pre>
+         *
+         * <p>Providers declaring {@link jakarta.nosql.Capability#APPROXIMATE_COUNT}
+         * answer an approximate count from collection statistics, sketches, or
+         * sampled scans. By default, the structures are fetched and counted.</p>
+         *
+         * @param accuracy how exact the count must be
+         * @return the number of structures, or an estimate of it
+         * @throws NullPointerException if {@code accuracy} is {@code null}
+         * @since 1.1.0
+         */
+        default long count(Accuracy accuracy) {
+            Objects.requireNonNull(accuracy, "accuracy is required");
+            try (Stream<T> stream = fetch()) {
+                return stream.count();
+            }
+        }
+
+        /**
+         * Counts the structures the select operation returns, stopping once
+         * {@code max} are found.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("orders")
+         *        .countUpTo(100);
+         * }</pre>
+         *
+         * <p>By default, at most {@code max} structures are read from the
+         * fetched stream.</p>
+         *
+         * @param max the number of structures after which counting stops
+         * @return the number of structures, or {@code max} if there are more
+         * @throws IllegalArgumentException if {@code max} is negative
+         * @since 1.1.0
+         */
+        default long countUpTo(long max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("max must not be negative: " + max);
+            }
+            try (Stream<T> stream = fetch()) {
+                return stream.limit(max).count();
+            }
+        }
+
+        /**
+         * Hints how many structures the provider reads from the database per
+         * round trip. The hint does not change the result of the operation.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("orders")
+         *        .fetchSize(500)
+         *        .fetch();
+         * }</pre>
+         *
+         * <p>By default, the hint is ignored.</p>
+         *
+         * @param size the number of structures per round trip
+         * @return the final step
+         * @throws IllegalArgumentException if {@code size} is not positive
+         * @since 1.1.0
+         */
+        default FinalStep<T> fetchSize(int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size must be positive: " + size);
+            }
+            return this;
+        }
+
+        /**
+         * Hints the consistency of the reads of the operation, which the
+         * provider maps to its native read preference.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("orders")
+         *        .consistency(ReadConsistency.QUORUM)
+         *        .fetch();
+         * }</pre>
+         *
+         * <p>By default, the hint is ignored; see
+         * {@link jakarta.nosql.Capability#READ_CONSISTENCY}.</p>
+         *
+         * @param consistency the requested consistency
+         * @return the final step
+         * @throws NullPointerException if {@code consistency} is {@code null}
+         * @since 1.1.0
+         */
+        default FinalStep<T> consistency(ReadConsistency consistency) {
+            Objects.requireNonNull(consistency, "consistency is required");
+            return this;
+        }
+
+        /**
+         * Limits how long the operation may run, from the moment it is
+         * executed. Once the timeout has elapsed, the provider stops the
+         * operation, closes its cursor, and fails with
+         * {@link jakarta.nosql.QueryTimeoutException}; when the executing thread
+         * is interrupted, it fails with
+         * {@link jakarta.nosql.QueryCancelledException} instead.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("orders")
+         *        .timeout(Duration.ofSeconds(2))
+         *        .fetch();
+         * }</pre>
+         *
+         * <p>By default, the timeout is enforced on the fetched stream by a
+         * {@link QueryDeadline}, checked before each structure, while
+         * {@link #count(Accuracy)}, {@link #countUpTo(long)}
+         * and {@link #sample(long)} are only checked after they return.
+         * Providers override this method to apply the deadline while they
+         * execute those operations too, and pass it to the database when it
+         * supports server-side timeouts.</p>
+         *
+         * @param timeout the maximum duration of the operation
+         * @return the final step
+         * @throws NullPointerException if {@code timeout} is {@code null}
+         * @throws IllegalArgumentException if {@code timeout} is not positive
+         * @since 1.1.0
+         */
+        default FinalStep<T> timeout(Duration timeout) {
+            return new TimedSteps<>(this, timeout);
+        }
     }
 
     /**
@@ -242,11 +499,54 @@ public interface SelectExecutor<T> {
          *        .fetch();
          * }</pre>
          *
+         * <p>The stream is closed as described in {@link FinalStep#fetch()}.</p>
+         *
          * @return a stream of provider-specific structures
          * @throws UnsupportedOperationException if the provider
          * does not support select execution or the provider does not support the
          * operation or any condition applied is not supported by the provider.
          */
         Stream<T> fetch();
+
+        /**
+         * Executes the select operation, returning a parallel stream, as
+         * {@link FinalStep#parallelFetch()} does.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("orders")
+         *        .limit(10_000)
+         *        .parallelFetch();
+         * }</pre>
+         *
+         * @return a parallel stream of provider-specific structures
+         * @throws UnsupportedOperationException if the provider
+         * does not support select execution or the provider does not support the
+         * operation or any condition applied is not supported by the provider.
+         * @since 1.1.0
+         */
+        default Stream<T> parallelFetch() {
+            return fetch().parallel();
+        }
+
+        /**
+         * Executes the select operation, returning only the keys of the
+         * structures, as {@link FinalStep#fetchKeys()} does.
+         *
+         * <pre>{@code
+         * manager.select()
+         *        .from("sessions")
+         *        .limit(1_000)
+         *        .fetchKeys();
+         * }</pre>
+         *
+         * @return a stream of the keys, in the order of the structures
+         * @throws UnsupportedOperationException if the provider does not
+         * support keys-only reads
+         * @since 1.1.0
+         */
+        default Stream<Object> fetchKeys() {
+            throw new UnsupportedOperationException("The provider does not support keys-only reads");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link OperationListener} that logs operations slower than a threshold and aggregates them
+ * per {@link QueryFingerprint}, so that the slow query shapes can be found without logging every query.
+ *
+ * <p>Operations faster than the threshold are discarded without allocation. Slow operations are
+ * logged through {@link System.Logger} at {@link System.Logger.Level#WARNING} and counted under the
+ * fingerprint of their {@link OperationContext}, or under their operation and entity when the
+ * provider supplied no fingerprint. Up to {@value #MAX_FINGERPRINTS} distinct fingerprints are kept;
+ * further shapes are counted under the {@code <other>} shape of their operation and entity.</p>
+ *
+ * <p>Setting the {@value #THRESHOLD_PROPERTY} system property, either to an ISO-8601 duration such as
+ * {@code PT0.2S} or to a number of milliseconds, adds a log with that threshold to
+ * {@link OperationListeners#discovered()}, which the providers notify. A log registered through
+ * {@link java.util.ServiceLoader} reads the same property, and defaults to 500 milliseconds.</p>
+ *
+ * <pre>{@code
+ * SlowQueryLog log = OperationListeners.discovered().find(SlowQueryLog.class).orElseThrow();
+ *
+ * log.entries().stream()
+ *         .limit(10)
+ *         .forEach(entry -> System.out.println(entry.count() + " x " + entry.fingerprint().shape()));
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class SlowQueryLog implements OperationListener {
+
+    /**
+     * The system property holding the default threshold.
+     */
+    public static final String THRESHOLD_PROPERTY = "jakarta.nosql.slow-query.threshold";
+
+    /**
+     * The maximum number of distinct fingerprints aggregated.
+     */
+    public static final int MAX_FINGERPRINTS = 1024;
+
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(500);
+
+    private static final String OTHER = "<other>";
+
+    private static final System.Logger LOGGER = System.getLogger(SlowQueryLog.class.getName());
+
+    private final long thresholdNanos;
+
+    private final ConcurrentMap<QueryFingerprint, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a log using the threshold of the {@value #THRESHOLD_PROPERTY} system property.
+     *
+     * @throws IllegalArgumentException when the property is neither a duration nor a number of milliseconds
+     */
+    public SlowQueryLog() {
+        this(threshold(System.getProperty(THRESHOLD_PROPERTY)));
+    }
+
+    /**
+     * Creates a log with the given threshold.
+     *
+     * @param threshold the minimum duration of a logged operation
+     * @throws NullPointerException     when the threshold is null
+     * @throws IllegalArgumentException when the threshold is negative
+     */
+    public SlowQueryLog(Duration threshold) {
+        Objects.requireNonNull(threshold, "threshold is required");
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Returns the minimum duration of a logged operation.
+     *
+     * @return the threshold
+     */
+    public Duration threshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    @Override
+    public void after(OperationContext context, long rows, long bytes) {
+        long elapsed = context.elapsedNanos();
+        if (elapsed >= thresholdNanos) {
+            record(context, elapsed, null);
+        }
+    }
+
+    @Override
+    public void error(OperationContext context, Throwable error) {
+        long elapsed = context.elapsedNanos();
+        if (elapsed >= thresholdNanos) {
+            record(context, elapsed, error);
+        }
+    }
+
+    /**
+     * Returns the aggregated slow operations, the most time-consuming fingerprint first.
+     *
+     * @return the aggregated entries
+     */
+    public List<Entry> entries() {
+        return aggregates.entrySet().stream()
+                .map(entry -> entry.getValue().entry(entry.getKey()))
+                .sorted(Comparator.comparing(Entry::total).reversed())
+                .toList();
+    }
+
+    /**
+     * Discards every aggregated entry.
+     */
+    public void reset() {
+        aggregates.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryLog{" +
+                "threshold=" + threshold() +
+                ", fingerprints=" + aggregates.size() +
+                '}';
+    }
+
+    private void record(OperationContext context, long elapsed, Throwable error) {
+        QueryFingerprint fingerprint = context.fingerprint();
+        if (fingerprint == null) {
+            fingerprint = new QueryFingerprint(context.operation(), context.entity(), "");
+        }
+        Aggregate aggregate = aggregates.get(fingerprint);
+        if (aggregate == null) {
+            if (aggregates.size() >= MAX_FINGERPRINTS) {
+                fingerprint = new QueryFingerprint(context.operation(), context.entity(), OTHER);
+            }
+            aggregate = aggregates.computeIfAbsent(fingerprint, key -> new Aggregate());
+        }
+        aggregate.add(elapsed);
+        if (LOGGER.isLoggable(System.Logger.Level.WARNING)) {
+            LOGGER.log(System.Logger.Level.WARNING, "Slow " + context.operation() + " on " + context.entity()
+                    + " took " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms"
+                    + (error == null ? "" : " and failed with " + error)
+                    + ", fingerprint " + fingerprint.id() + ": " + fingerprint.shape());
+        }
+    }
+
+    private static Duration threshold(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_THRESHOLD;
+        }
+        try {
+            return Duration.parse(value.strip());
+        } catch (DateTimeParseException exception) {
+            try {
+                return Duration.ofMillis(Long.parseLong(value.strip()));
+            } catch (NumberFormatException numberException) {
+                throw new IllegalArgumentException("The property " + THRESHOLD_PROPERTY
+                        + " must be an ISO-8601 duration or a number of milliseconds: " + value, numberException);
+            }
+        }
+    }
+
+    private static final class Aggregate {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder total = new LongAdder();
+
+        private final AtomicLong max = new AtomicLong();
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        Entry entry(QueryFingerprint fingerprint) {
+            return new Entry(fingerprint, count.sum(), Duration.ofNanos(total.sum()), Duration.ofNanos(max.get()));
+        }
+    }
+
+    /**
+     * The slow executions of one query shape.
+     *
+     * @param fingerprint the query shape
+     * @param count       the number of slow executions
+     * @param total       the total time spent in slow executions
+     * @param max         the slowest execution
+     */
+    public record Entry(QueryFingerprint fingerprint, long count, Duration total, Duration max) {
+
+        /**
+         * Returns the mean duration of the slow executions.
+         *
+         * @return the mean duration
+         */
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : total.dividedBy(count);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A standard, immutable condition tree that any provider can accept and translate, and that middleware such
+ * as caches, routers, and query optimizers can inspect without provider-specific knowledge.
+ *
+ * <p>Unlike a provider-defined {@link Condition}, every node exposes its field, operator, and values. Nodes
+ * are built with the static factories of this interface and inspected with {@code instanceof} patterns,
+ * the hierarchy being sealed:</p>
+ * <pre>{@code
+ * StandardCondition condition = StandardCondition.and(
+ *         StandardCondition.gte("age", 18),
+ *         StandardCondition.in("city", List.of("Lisbon", "Porto")));
+ *
+ * manager.select().from("Person").where(condition).fetch();
+ *
+ * if (condition instanceof StandardCondition.And and) {
+ *     and.conditions().forEach(child -> ...);
+ * }
+ * }</pre>
+ *
+ * <p>Values are kept as given; comparing values of different kinds, and the treatment of absent fields, are
+ * provider-defined. Providers that accept standard conditions document it and reject other conditions with
+ * {@link IllegalArgumentException}.</p>
+ *
+ * @see StandardOrder
+ * @see StandardUpdate
+ * @since 1.1.0
+ */
+public sealed interface StandardCondition extends Condition {
+
+    /**
+     * Returns the condition matching every structure.
+     *
+     * @return the constant true condition
+     */
+    static StandardCondition always() {
+        return Constant.TRUE;
+    }
+
+    /**
+     * Returns the condition matching no structure, typically produced by a {@link QueryRewriter} when the
+     * conditions of a query contradict each other.
+     *
+     * @return the constant false condition
+     */
+    static StandardCondition never() {
+        return Constant.FALSE;
+    }
+
+    /**
+     * Creates an equality condition.
+     *
+     * @param field the field name
+     * @param value the expected value, possibly {@code null}
+     * @return a new condition
+     * @throws NullPointerException when field is null
+     */
+    static StandardCondition eq(String field, Object value) {
+        return new Comparison(field, Operator.EQ, value);
+    }
+
+    /**
+     * Creates a greater-than condition.
+     *
+     * @param field the field name
+     * @param value the exclusive lower bound
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition gt(String field, Object value) {
+        return new Comparison(field, Operator.GT, value);
+    }
+
+    /**
+     * Creates a greater-than-or-equal condition.
+     *
+     * @param field the field name
+     * @param value the inclusive lower bound
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition gte(String field, Object value) {
+        return new Comparison(field, Operator.GTE, value);
+    }
+
+    /**
+     * Creates a less-than condition.
+     *
+     * @param field the field name
+     * @param value the exclusive upper bound
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition lt(String field, Object value) {
+        return new Comparison(field, Operator.LT, value);
+    }
+
+    /**
+     * Creates a less-than-or-equal condition.
+     *
+     * @param field the field name
+     * @param value the inclusive upper bound
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition lte(String field, Object value) {
+        return new Comparison(field, Operator.LTE, value);
+    }
+
+    /**
+     * Creates an inclusive range condition.
+     *
+     * @param field the field name
+     * @param low   the inclusive lower bound
+     * @param high  the inclusive upper bound
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition between(String field, Object low, Object high) {
+        return new Between(field, low, high);
+    }
+
+    /**
+     * Creates a membership condition.
+     *
+     * @param field  the field name
+     * @param values the accepted values, possibly including {@code null}
+     * @return a new condition
+     * @throws NullPointerException when field or values is null
+     */
+    static StandardCondition in(String field, Iterable<?> values) {
+        Objects.requireNonNull(values, "values is required");
+        List<Object> list = new ArrayList<>();
+        values.forEach(list::add);
+        return new In(field, list);
+    }
+
+    /**
+     * Creates a pattern condition, where {@code %} matches any sequence of characters and {@code _} matches
+     * exactly one character.
+     *
+     * @param field   the field name
+     * @param pattern the pattern
+     * @return a new condition
+     * @throws NullPointerException when any parameter is null
+     */
+    static StandardCondition like(String field, String pattern) {
+        return new Like(field, pattern);
+    }
+
+    /**
+     * Negates a condition.
+     *
+     * @param condition the condition to negate
+     * @return a new condition
+     * @throws NullPointerException when condition is null
+     */
+    static StandardCondition not(StandardCondition condition) {
+        return new Not(condition);
+    }
+
+    /**
+     * Combines conditions with a logical conjunction. Nested conjunctions are flattened.
+     *
+     * @param conditions the conditions
+     * @return a new condition
+     * @throws NullPointerException when conditions is null or contains null
+     */
+    static StandardCondition and(StandardCondition... conditions) {
+        return new And(flatten(true, conditions));
+    }
+
+    /**
+     * Combines conditions with a logical disjunction. Nested disjunctions are flattened.
+     *
+     * @param conditions the conditions
+     * @return a new condition
+     * @throws NullPointerException when conditions is null or contains null
+     */
+    static StandardCondition or(StandardCondition... conditions) {
+        return new Or(flatten(false, conditions));
+    }
+
+    private static List<StandardCondition> flatten(boolean conjunction, StandardCondition... conditions) {
+        Objects.requireNonNull(conditions, "conditions is required");
+        List<StandardCondition> flat = new ArrayList<>();
+        for (StandardCondition condition : conditions) {
+            if (conjunction && condition instanceof And and) {
+                flat.addAll(and.conditions());
+            } else if (!conjunction && condition instanceof Or or) {
+                flat.addAll(or.conditions());
+            } else {
+                flat.add(Objects.requireNonNull(condition, "condition is required"));
+            }
+        }
+        return flat;
+    }
+
+    /**
+     * The comparison operators of a {@link Comparison}.
+     */
+    enum Operator {
+
+        /**
+         * Equal to the value.
+         */
+        EQ,
+
+        /**
+         * Greater than the value.
+         */
+        GT,
+
+        /**
+         * Greater than or equal to the value.
+         */
+        GTE,
+
+        /**
+         * Less than the value.
+         */
+        LT,
+
+        /**
+         * Less than or equal to the value.
+         */
+        LTE
+    }
+
+    /**
+     * Matches every structure or none, whatever its fields.
+     *
+     * @param value whether the condition matches
+     */
+    record Constant(boolean value) implements StandardCondition {
+
+        private static final Constant TRUE = new Constant(true);
+
+        private static final Constant FALSE = new Constant(false);
+    }
+
+    /**
+     * Compares a field with a value.
+     *
+     * @param field    the field name
+     * @param operator the comparison
+     * @param value    the value, which may be {@code null} only for {@link Operator#EQ}
+     */
+    record Comparison(String field, Operator operator, Object value) implements StandardCondition {
+
+        /**
+         * Validates the comparison.
+         *
+         * @throws NullPointerException when field or operator is null, or value is null for a range comparison
+         */
+        public Comparison {
+            Objects.requireNonNull(field, "field is required");
+            Objects.requireNonNull(operator, "operator is required");
+            if (operator != Operator.EQ) {
+                Objects.requireNonNull(value, "value is required");
+            }
+        }
+    }
+
+    /**
+     * Matches a field within an inclusive range.
+     *
+     * @param field the field name
+     * @param low   the inclusive lower bound
+     * @param high  the inclusive upper bound
+     */
+    record Between(String field, Object low, Object high) implements StandardCondition {
+
+        /**
+         * Validates the range.
+         *
+         * @throws NullPointerException when any component is null
+         */
+        public Between {
+            Objects.requireNonNull(field, "field is required");
+            Objects.requireNonNull(low, "low is required");
+            Objects.requireNonNull(high, "high is required");
+        }
+    }
+
+    /**
+     * Matches a field equal to any of the values.
+     *
+     * @param field  the field name
+     * @param values the accepted values, as an unmodifiable list possibly containing {@code null}
+     */
+    record In(String field, List<Object> values) implements StandardCondition {
+
+        /**
+         * Validates the membership and copies the values.
+         *
+         * @throws NullPointerException when field or values is null
+         */
+        public In {
+            Objects.requireNonNull(field, "field is required");
+            Objects.requireNonNull(values, "values is required");
+            values = Collections.unmodifiableList(new ArrayList<>(values));
+        }
+    }
+
+    /**
+     * Matches a text field against a pattern.
+     *
+     * @param field   the field name
+     * @param pattern the pattern, with {@code %} and {@code _} wildcards
+     */
+    record Like(String field, String pattern) implements StandardCondition {
+
+        /**
+         * Validates the pattern condition.
+         *
+         * @throws NullPointerException when any component is null
+         */
+        public Like {
+            Objects.requireNonNull(field, "field is required");
+            Objects.requireNonNull(pattern, "pattern is required");
+        }
+    }
+
+    /**
+     * Negates a condition.
+     *
+     * @param condition the negated condition
+     */
+    record Not(StandardCondition condition) implements StandardCondition {
+
+        /**
+         * Validates the negation.
+         *
+         * @throws NullPointerException when condition is null
+         */
+        public Not {
+            Objects.requireNonNull(condition, "condition is required");
+        }
+    }
+
+    /**
+     * Matches when every condition matches. An empty conjunction matches everything.
+     *
+     * @param conditions the combined conditions
+     */
+    record And(List<StandardCondition> conditions) implements StandardCondition {
+
+        /**
+         * Validates and copies the conditions.
+         *
+         * @throws NullPointerException when conditions is null or contains null
+         */
+        public And {
+            conditions = List.copyOf(conditions);
+        }
+    }
+
+    /**
+     * Matches when any condition matches. An empty disjunction matches nothing.
+     *
+     * @param conditions the combined conditions
+     */
+    record Or(List<StandardCondition> conditions) implements StandardCondition {
+
+        /**
+         * Validates and copies the conditions.
+         *
+         * @throws NullPointerException when conditions is null or contains null
+         */
+        public Or {
+            conditions = List.copyOf(conditions);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.Objects;
+
+/**
+ * A standard ordering that any provider can accept and translate, exposing its field and direction.
+ *
+ * <pre>{@code
+ * manager.select().from("Person")
+ *         .orderBy(StandardOrder.desc("age"))
+ *         .then(StandardOrder.asc("name"))
+ *         .fetch();
+ * }</pre>
+ *
+ * <p>Where absent and {@code null} values sort is provider-defined.</p>
+ *
+ * @param field     the field name
+ * @param ascending whether the order is ascending
+ * @see StandardCondition
+ * @since 1.1.0
+ */
+public record StandardOrder(String field, boolean ascending) implements Order {
+
+    /**
+     * Validates the order.
+     *
+     * @throws NullPointerException when field is null
+     */
+    public StandardOrder {
+        Objects.requireNonNull(field, "field is required");
+    }
+
+    /**
+     * Creates an ascending order.
+     *
+     * @param field the field name
+     * @return a new order
+     * @throws NullPointerException when field is null
+     */
+    public static StandardOrder asc(String field) {
+        return new StandardOrder(field, true);
+    }
+
+    /**
+     * Creates a descending order.
+     *
+     * @param field the field name
+     * @return a new order
+     * @throws NullPointerException when field is null
+     */
+    public static StandardOrder desc(String field) {
+        return new StandardOrder(field, false);
+    }
+}
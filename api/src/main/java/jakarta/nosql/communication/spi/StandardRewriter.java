@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * The normalizations of {@link QueryRewriter#standard()}. Each pass rewrites the tree bottom-up; passes
+ * repeat until the tree no longer changes.
+ */
+final class StandardRewriter implements QueryRewriter {
+
+    static final StandardRewriter INSTANCE = new StandardRewriter();
+
+    private static final int MAX_PASSES = 8;
+
+    private static final int UNORDERED = Integer.MIN_VALUE;
+
+    private StandardRewriter() {
+    }
+
+    @Override
+    public StandardCondition rewrite(StandardCondition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        StandardCondition current = condition;
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            StandardCondition next = pass(current);
+            if (next.equals(current)) {
+                return next;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryRewriter.standard()";
+    }
+
+    static QueryRewriter discovered() {
+        return Discovered.INSTANCE;
+    }
+
+    private static StandardCondition pass(StandardCondition condition) {
+        if (condition instanceof StandardCondition.Not not) {
+            return negate(pass(not.condition()));
+        } else if (condition instanceof StandardCondition.And and) {
+            return conjunction(and.conditions());
+        } else if (condition instanceof StandardCondition.Or or) {
+            return disjunction(or.conditions());
+        } else if (condition instanceof StandardCondition.In in && in.values().isEmpty()) {
+            return StandardCondition.never();
+        } else if (condition instanceof StandardCondition.Between between) {
+            int comparison = compare(between.low(), between.high());
+            return comparison != UNORDERED && comparison > 0 ? StandardCondition.never() : condition;
+        }
+        return condition;
+    }
+
+    private static StandardCondition negate(StandardCondition condition) {
+        if (condition instanceof StandardCondition.Not not) {
+            return not.condition();
+        } else if (condition instanceof StandardCondition.Constant constant) {
+            return constant.value() ? StandardCondition.never() : StandardCondition.always();
+        }
+        return new StandardCondition.Not(condition);
+    }
+
+    private static StandardCondition conjunction(List<StandardCondition> conditions) {
+        List<StandardCondition> flat = new ArrayList<>();
+        for (StandardCondition condition : conditions) {
+            StandardCondition rewritten = pass(condition);
+            if (rewritten instanceof StandardCondition.And and) {
+                flat.addAll(and.conditions());
+            } else if (rewritten instanceof StandardCondition.Constant constant) {
+                if (!constant.value()) {
+                    return rewritten;
+                }
+            } else {
+                flat.add(rewritten);
+            }
+        }
+        List<StandardCondition> merged = mergeRanges(flat);
+        if (merged == null) {
+            return StandardCondition.never();
+        }
+        return switch (merged.size()) {
+            case 0 -> StandardCondition.always();
+            case 1 -> merged.get(0);
+            default -> new StandardCondition.And(merged);
+        };
+    }
+
+    private static StandardCondition disjunction(List<StandardCondition> conditions) {
+        List<StandardCondition> flat = new ArrayList<>();
+        for (StandardCondition condition : conditions) {
+            StandardCondition rewritten = pass(condition);
+            if (rewritten instanceof StandardCondition.Or or) {
+                flat.addAll(or.conditions());
+            } else if (rewritten instanceof StandardCondition.Constant constant) {
+                if (constant.value()) {
+                    return rewritten;
+                }
+            } else {
+                flat.add(rewritten);
+            }
+        }
+        List<StandardCondition> merged = mergeMemberships(flat);
+        return switch (merged.size()) {
+            case 0 -> StandardCondition.never();
+            case 1 -> merged.get(0);
+            default -> new StandardCondition.Or(merged);
+        };
+    }
+
+    /**
+     * Combines the non-null equalities and the memberships of each field into one membership, at the position
+     * of the first of them.
+     */
+    private static List<StandardCondition> mergeMemberships(List<StandardCondition> conditions) {
+        Map<String, Set<Object>> values = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (StandardCondition condition : conditions) {
+            String field = membershipField(condition);
+            if (field != null) {
+                counts.merge(field, 1, Integer::sum);
+                Set<Object> accepted = values.computeIfAbsent(field, key -> new LinkedHashSet<>());
+                if (condition instanceof StandardCondition.Comparison comparison) {
+                    accepted.add(comparison.value());
+                } else {
+                    accepted.addAll(((StandardCondition.In) condition).values());
+                }
+            }
+        }
+        if (counts.values().stream().noneMatch(count -> count > 1)) {
+            return conditions;
+        }
+        List<StandardCondition> merged = new ArrayList<>();
+        for (StandardCondition condition : conditions) {
+            String field = membershipField(condition);
+            if (field == null || counts.get(field) == 1) {
+                merged.add(condition);
+            } else if (values.containsKey(field)) {
+                merged.add(new StandardCondition.In(field, new ArrayList<>(values.remove(field))));
+            }
+        }
+        return merged;
+    }
+
+    private static String membershipField(StandardCondition condition) {
+        if (condition instanceof StandardCondition.Comparison comparison
+                && comparison.operator() == StandardCondition.Operator.EQ && comparison.value() != null) {
+            return comparison.field();
+        } else if (condition instanceof StandardCondition.In in) {
+            return in.field();
+        }
+        return null;
+    }
+
+    /**
+     * Merges the equalities and ranges of each field with ordered values into the tightest equivalent
+     * conditions, at the position of the first of them, or returns {@code null} when they contradict.
+     */
+    private static List<StandardCondition> mergeRanges(List<StandardCondition> conditions) {
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (StandardCondition condition : conditions) {
+            String field = rangeField(condition);
+            if (field != null) {
+                counts.merge(field, 1, Integer::sum);
+                Range range = ranges.computeIfAbsent(field, Range::new);
+                if (!range.add(condition)) {
+                    return null;
+                }
+            }
+        }
+        if (counts.values().stream().noneMatch(count -> count > 1)) {
+            return conditions;
+        }
+        List<StandardCondition> merged = new ArrayList<>();
+        for (StandardCondition condition : conditions) {
+            String field = rangeField(condition);
+            if (field == null || counts.get(field) == 1) {
+                merged.add(condition);
+            } else if (ranges.containsKey(field)) {
+                StandardCondition range = ranges.remove(field).toCondition();
+                if (range == null) {
+                    return null;
+                }
+                if (range instanceof StandardCondition.And and) {
+                    merged.addAll(and.conditions());
+                } else {
+                    merged.add(range);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static String rangeField(StandardCondition condition) {
+        if (condition instanceof StandardCondition.Comparison comparison && ordered(comparison.value())) {
+            return comparison.field();
+        } else if (condition instanceof StandardCondition.Between between
+                && ordered(between.low()) && ordered(between.high())) {
+            return between.field();
+        }
+        return null;
+    }
+
+    private static boolean ordered(Object value) {
+        return value instanceof Number && decimal(value) != null
+                || value instanceof Boolean
+                || value instanceof Temporal && value instanceof Comparable;
+    }
+
+    /**
+     * Compares two values whose ordering every provider agrees on, or returns {@link #UNORDERED}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            BigDecimal leftDecimal = decimal(left);
+            BigDecimal rightDecimal = decimal(right);
+            return leftDecimal == null || rightDecimal == null ? UNORDERED : leftDecimal.compareTo(rightDecimal);
+        }
+        if (ordered(left) && left.getClass() == right.getClass()) {
+            return Integer.signum(((Comparable) left).compareTo(right));
+        }
+        return UNORDERED;
+    }
+
+    private static BigDecimal decimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number) : null;
+        }
+        return null;
+    }
+
+    /**
+     * The bounds accumulated for one field of a conjunction.
+     */
+    private static final class Range {
+
+        private final String field;
+
+        private final List<StandardCondition> conditions = new ArrayList<>();
+
+        private Object equal;
+
+        private Object low;
+
+        private boolean lowInclusive;
+
+        private Object high;
+
+        private boolean highInclusive;
+
+        private boolean mixed;
+
+        Range(String field) {
+            this.field = field;
+        }
+
+        /**
+         * Adds a condition, returning {@code false} when it contradicts the previous ones.
+         */
+        boolean add(StandardCondition condition) {
+            conditions.add(condition);
+            if (condition instanceof StandardCondition.Between between) {
+                return lower(between.low(), true) && upper(between.high(), true);
+            }
+            StandardCondition.Comparison comparison = (StandardCondition.Comparison) condition;
+            Object value = comparison.value();
+            return switch (comparison.operator()) {
+                case EQ -> equal(value);
+                case GT -> lower(value, false);
+                case GTE -> lower(value, true);
+                case LT -> upper(value, false);
+                case LTE -> upper(value, true);
+            };
+        }
+
+        private boolean equal(Object value) {
+            if (equal != null) {
+                int comparison = compare(equal, value);
+                if (comparison == UNORDERED) {
+                    mixed = true;
+                    return true;
+                }
+                return comparison == 0;
+            }
+            equal = value;
+            return true;
+        }
+
+        private boolean lower(Object value, boolean inclusive) {
+            if (low == null) {
+                low = value;
+                lowInclusive = inclusive;
+                return true;
+            }
+            int comparison = compare(value, low);
+            if (comparison == UNORDERED) {
+                mixed = true;
+            } else if (comparison > 0 || comparison == 0 && !inclusive) {
+                low = value;
+                lowInclusive = inclusive;
+            }
+            return true;
+        }
+
+        private boolean upper(Object value, boolean inclusive) {
+            if (high == null) {
+                high = value;
+                highInclusive = inclusive;
+                return true;
+            }
+            int comparison = compare(value, high);
+            if (comparison == UNORDERED) {
+                mixed = true;
+            } else if (comparison < 0 || comparison == 0 && !inclusive) {
+                high = value;
+                highInclusive = inclusive;
+            }
+            return true;
+        }
+
+        /**
+         * Returns the tightest condition, or {@code null} when the range is empty. When some values cannot be
+         * ordered together, the conditions are returned as they were given.
+         */
+        StandardCondition toCondition() {
+            if (mixed) {
+                return original();
+            }
+            if (equal != null) {
+                int lowComparison = low == null ? 1 : compare(equal, low);
+                int highComparison = high == null ? -1 : compare(equal, high);
+                if (lowComparison == UNORDERED || highComparison == UNORDERED) {
+                    return original();
+                }
+                boolean aboveLow = lowComparison > 0 || lowComparison == 0 && lowInclusive;
+                boolean belowHigh = highComparison < 0 || highComparison == 0 && highInclusive;
+                return aboveLow && belowHigh ? StandardCondition.eq(field, equal) : null;
+            }
+            if (low != null && high != null) {
+                int comparison = compare(low, high);
+                if (comparison == UNORDERED) {
+                    return original();
+                }
+                if (comparison > 0 || comparison == 0 && !(lowInclusive && highInclusive)) {
+                    return null;
+                }
+                if (comparison == 0) {
+                    return StandardCondition.eq(field, low);
+                }
+                if (lowInclusive && highInclusive) {
+                    return StandardCondition.between(field, low, high);
+                }
+            }
+            List<StandardCondition> bounds = new ArrayList<>(2);
+            if (low != null) {
+                bounds.add(lowInclusive ? StandardCondition.gte(field, low) : StandardCondition.gt(field, low));
+            }
+            if (high != null) {
+                bounds.add(highInclusive ? StandardCondition.lte(field, high) : StandardCondition.lt(field, high));
+            }
+            return bounds.size() == 1 ? bounds.get(0) : new StandardCondition.And(bounds);
+        }
+
+        private StandardCondition original() {
+            return conditions.size() == 1 ? conditions.get(0) : new StandardCondition.And(conditions);
+        }
+    }
+
+    private static final class Discovered {
+
+        private static final QueryRewriter INSTANCE = discover();
+
+        private static QueryRewriter discover() {
+            QueryRewriter rewriter = StandardRewriter.INSTANCE;
+            for (QueryRewriter discovered : ServiceLoader.load(QueryRewriter.class)) {
+                rewriter = rewriter.andThen(discovered);
+            }
+            return rewriter;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import java.util.Objects;
+
+/**
+ * A standard update token that any provider can accept and translate: sets one field to a value.
+ *
+ * <pre>{@code
+ * manager.update().from("Person")
+ *         .set(StandardUpdate.set("active", false))
+ *         .where(StandardCondition.lt("age", 18))
+ *         .execute();
+ * }</pre>
+ *
+ * <p>Whether a provider lets the identifier be updated is provider-defined.</p>
+ *
+ * @param field the field name
+ * @param value the new value, possibly {@code null}
+ * @see StandardCondition
+ * @since 1.1.0
+ */
+public record StandardUpdate(String field, Object value) implements UpdateExecutor.Update {
+
+    /**
+     * Validates the update.
+     *
+     * @throws NullPointerException when field is null
+     */
+    public StandardUpdate {
+        Objects.requireNonNull(field, "field is required");
+    }
+
+    /**
+     * Creates an update.
+     *
+     * @param field the field name
+     * @param value the new value
+     * @return a new update
+     * @throws NullPointerException when field is null
+     */
+    public static StandardUpdate set(String field, Object value) {
+        return new StandardUpdate(field, value);
+    }
+}
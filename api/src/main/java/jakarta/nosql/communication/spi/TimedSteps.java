@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.ReadConsistency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The step returned by the default {@link SelectExecutor.FinalStep#timeout(Duration)}: it forwards the
+ * remaining steps to the provider and guards the fetched stream with a {@link QueryDeadline} started when
+ * the operation is executed.
+ */
+final class TimedSteps<T> implements SelectExecutor.Ordering<T>, SelectExecutor.Pagination<T> {
+
+    private Object step;
+
+    private final Duration timeout;
+
+    TimedSteps(SelectExecutor.FinalStep<T> step, Duration timeout) {
+        this.step = step;
+        this.timeout = QueryDeadline.requirePositive(timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.Ordering<T> orderBy(Order order) {
+        step = ((SelectExecutor.FinalStep<T>) step).orderBy(order);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.Ordering<T> then(Order order) {
+        step = ((SelectExecutor.Ordering<T>) step).then(order);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.Pagination<T> limit(long limit) {
+        step = ((SelectExecutor.FinalStep<T>) step).limit(limit);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.FinalStep<T> skip(long skip) {
+        step = ((SelectExecutor.Pagination<T>) step).skip(skip);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.FinalStep<T> fetchSize(int size) {
+        step = ((SelectExecutor.FinalStep<T>) step).fetchSize(size);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.FinalStep<T> consistency(ReadConsistency consistency) {
+        step = ((SelectExecutor.FinalStep<T>) step).consistency(consistency);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<Object> fetchKeys() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        Stream<Object> result = step instanceof SelectExecutor.Pagination<?> pagination
+                ? pagination.fetchKeys()
+                : ((SelectExecutor.FinalStep<T>) step).fetchKeys();
+        return deadline.guard(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<Object> distinct(String field) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        return deadline.guard(((SelectExecutor.FinalStep<T>) step).distinct(field));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<T> sample(long n) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        List<T> sample = ((SelectExecutor.FinalStep<T>) step).sample(n);
+        deadline.check();
+        return sample;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public long count(Accuracy accuracy) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        long count = ((SelectExecutor.FinalStep<T>) step).count(accuracy);
+        deadline.check();
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public long countUpTo(long max) {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        long count = ((SelectExecutor.FinalStep<T>) step).countUpTo(max);
+        deadline.check();
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public SelectExecutor.FinalStep<T> timeout(Duration timeout) {
+        return new TimedSteps<>((SelectExecutor.FinalStep<T>) step, timeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<T> fetch() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        Stream<T> result = step instanceof SelectExecutor.Pagination<?> pagination
+                ? ((SelectExecutor.Pagination<T>) pagination).fetch()
+                : ((SelectExecutor.FinalStep<T>) step).fetch();
+        return deadline.guard(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<T> parallelFetch() {
+        QueryDeadline deadline = QueryDeadline.after(timeout);
+        Stream<T> result = step instanceof SelectExecutor.Pagination<?> pagination
+                ? ((SelectExecutor.Pagination<T>) pagination).parallelFetch()
+                : ((SelectExecutor.FinalStep<T>) step).parallelFetch();
+        return deadline.guard(result);
+    }
+}
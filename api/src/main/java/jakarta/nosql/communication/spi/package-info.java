@@ -41,6 +41,12 @@
  * implement, partially implement, or reject specific operations, typically
  * signaling unsupported capabilities via {@link java.lang.UnsupportedOperationException}.</p>
  *
+ * <p>Alongside the opaque tokens, {@link jakarta.nosql.communication.spi.StandardCondition},
+ * {@link jakarta.nosql.communication.spi.StandardOrder}, and
+ * {@link jakarta.nosql.communication.spi.StandardUpdate} define an inspectable form of the same tokens.
+ * Providers may accept them in addition to, or instead of, their own tokens, so that middleware can analyze,
+ * fingerprint, or route a query without provider-specific knowledge.</p>
+ *
  * <p>The primary consumers of this SPI are expected to be:</p>
  * <ul>
  *   <li>Frameworks and runtime integrations</li>
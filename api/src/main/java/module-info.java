@@ -97,5 +97,11 @@
  * </pre>
  */
 module jakarta.nosql.core {
+    requires static transitive jdk.jfr;
+
     exports jakarta.nosql;
+    exports jakarta.nosql.communication.spi;
+
+    uses jakarta.nosql.communication.spi.OperationListener;
+    uses jakarta.nosql.communication.spi.QueryRewriter;
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+class CoalescingWriteBehindTest {
+
+    private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private final Template template = (Template) Proxy.newProxyInstance(Template.class.getClassLoader(),
+            new Class<?>[]{Template.class}, (proxy, method, arguments) -> {
+                if (!method.getName().equals("update") || !(arguments[0] instanceof Iterable<?> entities)) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                if (failing.getAndSet(false)) {
+                    throw new AssertionError("The driver failed");
+                }
+                List<Object> batch = new ArrayList<>();
+                entities.forEach(batch::add);
+                batches.add(batch);
+                return entities;
+            });
+
+    @Test
+    void shouldCoalesceTheStatesOfAnEntityAcrossSubclasses() {
+        try (WriteBehind buffer = new CoalescingWriteBehind(template, WriteBehindConfiguration.of())) {
+            Beer beer = new Beer("d1", "stout");
+            buffer.update(new Drink("d1"));
+            buffer.update(beer);
+            buffer.update(new Drink("d2"));
+
+            Assertions.assertThat(buffer.pending()).isEqualTo(2);
+            buffer.flush();
+
+            Assertions.assertThat(batches).hasSize(1);
+            Assertions.assertThat(batches.get(0)).hasSize(2).first().isSameAs(beer);
+        }
+    }
+
+    @Test
+    void shouldKeepFlushingInTheBackgroundAfterAnError() throws InterruptedException {
+        WriteBehindConfiguration configuration = WriteBehindConfiguration.of().withFlushInterval(Duration.ofMillis(10));
+        try (WriteBehind buffer = new CoalescingWriteBehind(template, configuration)) {
+            failing.set(true);
+            Drink first = new Drink("d1");
+            buffer.update(first);
+            await(() -> !failing.get());
+
+            Drink second = new Drink("d2");
+            buffer.update(second);
+            await(() -> buffer.pending() == 0 && batches.stream().mapToInt(List::size).sum() == 2);
+
+            Assertions.assertThat(batches.stream().flatMap(List::stream)).containsExactly(first, second);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        Assertions.assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Entity
+    static class Drink {
+
+        @Id
+        private String id;
+
+        Drink(String id) {
+            this.id = id;
+        }
+    }
+
+    @Entity
+    static class Beer extends Drink {
+
+        @Column
+        private String style;
+
+        Beer(String id, String style) {
+            super(id);
+            this.style = style;
+        }
+    }
+}
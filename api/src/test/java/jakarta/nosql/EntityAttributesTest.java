@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+class EntityAttributesTest {
+
+    @Test
+    void shouldReadAttributesByFieldOrColumnName() {
+        Vehicle vehicle = new Vehicle("v1", "manual", new Engine("diesel"));
+
+        Assertions.assertThat(EntityAttributes.read(vehicle, "transmission")).isEqualTo("manual");
+        Assertions.assertThat(EntityAttributes.read(vehicle, "gearbox")).isEqualTo("manual");
+        Assertions.assertThat(EntityAttributes.read(vehicle, "engine.fuel")).isEqualTo("diesel");
+    }
+
+    @Test
+    void shouldReturnNullForNullValuesOnThePath() {
+        Vehicle vehicle = new Vehicle("v1", null, null);
+
+        Assertions.assertThat(EntityAttributes.read(vehicle, "transmission")).isNull();
+        Assertions.assertThat(EntityAttributes.read(vehicle, "engine.fuel")).isNull();
+    }
+
+    @Test
+    void shouldRejectUnknownAttributes() {
+        Vehicle vehicle = new Vehicle("v1", "manual", new Engine("diesel"));
+
+        Assertions.assertThatThrownBy(() -> EntityAttributes.read(vehicle, "transmision"))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("transmision");
+        Assertions.assertThatThrownBy(() -> EntityAttributes.read(vehicle, "engine.fule"))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining(Engine.class.getName());
+        Assertions.assertThatThrownBy(() -> EntityAttributes.distinct(Stream.of(vehicle), "transmision").toList())
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    void shouldReturnDistinctValuesInEncounterOrder() {
+        Stream<Object> vehicles = Stream.of(new Vehicle("v1", "manual", null), new Vehicle("v2", null, null),
+                new Vehicle("v3", "automatic", null), new Vehicle("v4", "manual", null));
+
+        Assertions.assertThat(EntityAttributes.<String>distinct(vehicles, "transmission"))
+                .containsExactly("manual", "automatic");
+    }
+
+    @Entity
+    static class Vehicle {
+
+        @Id
+        private String id;
+
+        @Column("gearbox")
+        private String transmission;
+
+        @Column
+        private Engine engine;
+
+        Vehicle(String id, String transmission, Engine engine) {
+            this.id = id;
+            this.transmission = transmission;
+            this.engine = engine;
+        }
+    }
+
+    @Embeddable
+    static class Engine {
+
+        @Column
+        private String fuel;
+
+        Engine(String fuel) {
+            this.fuel = fuel;
+        }
+    }
+}
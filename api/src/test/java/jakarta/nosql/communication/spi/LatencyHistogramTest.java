@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void shouldKeepSmallLatenciesInBucketsOfTheirOwn() {
+        for (long nanos = 0; nanos < 32; nanos++) {
+            histogram.record("Person", Operation.FIND, nanos, 1);
+        }
+
+        long[] buckets = histogram.snapshot("Person", Operation.FIND).buckets();
+        Assertions.assertThat(IntStream.range(0, 32).mapToLong(index -> buckets[index])).containsOnly(1L);
+        Assertions.assertThat(IntStream.range(32, buckets.length).mapToLong(index -> buckets[index])).containsOnly(0L);
+    }
+
+    @Test
+    void shouldShareBucketsAboveSixteenSubBuckets() {
+        histogram.record("Person", Operation.FIND, 32, 1);
+        histogram.record("Person", Operation.FIND, 33, 1);
+        histogram.record("Person", Operation.FIND, 34, 1);
+        histogram.record("Person", Operation.FIND, 1L << 40, 1);
+        histogram.record("Person", Operation.FIND, (1L << 40) + (1L << 36) - 1, 1);
+        histogram.record("Person", Operation.FIND, (1L << 40) + (1L << 36), 1);
+        histogram.record("Person", Operation.FIND, Long.MAX_VALUE, 1);
+
+        long[] buckets = histogram.snapshot("Person", Operation.FIND).buckets();
+        Assertions.assertThat(IntStream.range(0, buckets.length).mapToLong(index -> buckets[index]).filter(count -> count > 0))
+                .containsExactly(2L, 1L, 2L, 1L, 1L);
+        Assertions.assertThat(buckets[buckets.length - 1]).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEstimatePercentilesWithinTheRelativeError() {
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record("Person", Operation.SELECT, micros * 1_000, 10);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot("Person", Operation.SELECT);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(snapshot.count()).isEqualTo(10_000);
+            soft.assertThat(snapshot.rows()).isEqualTo(100_000);
+            soft.assertThat(snapshot.minNanos()).isEqualTo(1_000);
+            soft.assertThat(snapshot.maxNanos()).isEqualTo(10_000_000);
+            soft.assertThat(snapshot.mean()).isEqualTo(Duration.ofNanos(5_000_500));
+            soft.assertThat(snapshot.percentile(0.5).toNanos()).isCloseTo(5_000_000, Assertions.withinPercentage(7));
+            soft.assertThat(snapshot.percentile(0.99).toNanos()).isCloseTo(9_900_000, Assertions.withinPercentage(7));
+            soft.assertThat(snapshot.percentile(0).toNanos()).isCloseTo(1_000, Assertions.withinPercentage(7));
+            soft.assertThat(snapshot.percentile(1).toNanos()).isCloseTo(10_000_000, Assertions.withinPercentage(7))
+                    .isLessThanOrEqualTo(10_000_000);
+        });
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> snapshot.percentile(1.5));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> snapshot.percentile(Double.NaN));
+    }
+
+    @Test
+    void shouldMergeSnapshots() {
+        LatencyHistogram all = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            String entity = nanos % 2 == 0 ? "Person" : "Book";
+            histogram.record(entity, Operation.FIND, nanos * 997, 1);
+            all.record("Any", Operation.FIND, nanos * 997, 1);
+        }
+        histogram.error(OperationContext.start(Operation.DELETE, "Book"), new IllegalStateException());
+
+        LatencyHistogram.Snapshot merged = histogram.snapshot("Person", Operation.FIND)
+                .merge(histogram.snapshot("Book", Operation.FIND));
+        LatencyHistogram.Snapshot expected = all.snapshot("Any", Operation.FIND);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(merged).isEqualTo(expected);
+            soft.assertThat(merged.percentile(0.5)).isEqualTo(expected.percentile(0.5));
+            soft.assertThat(merged.merge(histogram.snapshot("Book", Operation.DELETE)).errors()).isEqualTo(1);
+        });
+        LatencyHistogram.Snapshot empty = histogram.snapshot("Person", Operation.DELETE);
+        Assertions.assertThat(empty.merge(expected)).isEqualTo(expected);
+        Assertions.assertThat(expected.merge(empty)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRejectNegativeLatencies() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> histogram.record("Person", Operation.FIND, -1, 0));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+class MembershipFilterTest {
+
+    @Test
+    void shouldHaveNoFalseNegatives() {
+        MembershipFilter<Object> filter = MembershipFilter.bloom(10_000, 0.01);
+        LongStream.range(0, 10_000).forEach(index -> filter.add("key-" + index));
+
+        Assertions.assertThat(LongStream.range(0, 10_000).filter(index -> !filter.mightContain("key-" + index)).count())
+                .isZero();
+    }
+
+    @Test
+    void shouldMatchNumbersOfEqualValueWhateverTheirType() {
+        MembershipFilter<Object> filter = MembershipFilter.bloom(10_000, 0.01);
+        LongStream.range(-5_000, 5_000).forEach(index -> filter.add((int) index * 7919));
+
+        SoftAssertions.assertSoftly(soft -> LongStream.range(-5_000, 5_000).map(index -> index * 7919).forEach(value -> {
+            soft.assertThat(filter.mightContain(value)).isTrue();
+            soft.assertThat(filter.mightContain((double) value)).isTrue();
+            soft.assertThat(filter.mightContain(BigInteger.valueOf(value))).isTrue();
+            soft.assertThat(filter.mightContain(BigDecimal.valueOf(value).setScale(2))).isTrue();
+        }));
+    }
+
+    @Test
+    void shouldMatchCharacterSequencesAsStrings() {
+        MembershipFilter<Object> filter = MembershipFilter.bloom(100, 0.01);
+        filter.add(new StringBuilder("ada"));
+
+        Assertions.assertThat(filter.mightContain("ada")).isTrue();
+    }
+
+    @Test
+    void shouldKeepTheFalsePositiveRateNearTheConfiguredOne() {
+        MembershipFilter<Object> filter = MembershipFilter.bloom(Stream.iterate(0L, index -> index + 1).limit(10_000),
+                10_000, 0.01);
+
+        long positives = LongStream.range(0, 100_000).filter(index -> filter.mightContain("absent-" + index)).count();
+
+        Assertions.assertThat(positives / 100_000.0).isLessThan(0.02);
+        Assertions.assertThat(filter.falsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void shouldRejectInvalidSizes() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MembershipFilter.bloom(0, 0.01));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MembershipFilter.bloom(100, 1));
+    }
+}
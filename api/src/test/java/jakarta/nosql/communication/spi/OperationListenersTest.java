@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class OperationListenersTest {
+
+    private final List<String> notifications = new ArrayList<>();
+
+    private final OperationListeners listeners = OperationListeners.of(new OperationListener() {
+        @Override
+        public void before(OperationContext context) {
+            notifications.add("before " + context.operation());
+        }
+
+        @Override
+        public void after(OperationContext context, long rows, long bytes) {
+            notifications.add("after " + context.operation() + " " + rows);
+        }
+
+        @Override
+        public void error(OperationContext context, Throwable error) {
+            notifications.add("error " + context.operation() + " " + error.getClass().getSimpleName());
+        }
+    });
+
+    @Test
+    void shouldObserveAnOperation() {
+        List<Integer> result = listeners.observe(() -> OperationContext.start(Operation.SELECT, "Person"),
+                () -> List.of(1, 2), List::size);
+
+        Assertions.assertThat(result).containsExactly(1, 2);
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "after SELECT 2");
+    }
+
+    @Test
+    void shouldCountTheElementsOfSizedStreams() {
+        long count = listeners.observeStream(() -> OperationContext.start(Operation.SELECT, "Person"),
+                () -> List.of(1, 2, 3).stream()).count();
+
+        Assertions.assertThat(count).isEqualTo(3);
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "after SELECT 3");
+    }
+
+    @Test
+    void shouldCompleteOnceWhenAnExhaustedStreamIsClosed() {
+        try (Stream<Integer> stream = listeners.observeStream(() -> OperationContext.start(Operation.SELECT, "Person"),
+                () -> IntStream.range(0, 1_000).boxed().parallel())) {
+            Assertions.assertThat(stream.mapToInt(Integer::intValue).sum()).isEqualTo(499_500);
+            Assertions.assertThat(notifications).containsExactly("before SELECT", "after SELECT 1000");
+        }
+
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "after SELECT 1000");
+    }
+
+    @Test
+    void shouldCompleteAPartiallyReadStreamOnClose() {
+        List<String> closed = new ArrayList<>();
+        try (Stream<Integer> stream = listeners.observeStream(() -> OperationContext.start(Operation.SELECT, "Person"),
+                () -> Stream.of(1, 2, 3).onClose(() -> closed.add("source")))) {
+            Iterator<Integer> iterator = stream.iterator();
+            iterator.next();
+            Assertions.assertThat(notifications).containsExactly("before SELECT");
+        }
+
+        Assertions.assertThat(closed).containsExactly("source");
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "after SELECT 1");
+    }
+
+    @Test
+    void shouldReportFailuresWhileReading() {
+        Stream<Integer> stream = listeners.observeStream(() -> OperationContext.start(Operation.SELECT, "Person"),
+                () -> Stream.of(1, 0).map(value -> 1 / value));
+
+        Assertions.assertThatThrownBy(stream::toList).isInstanceOf(ArithmeticException.class);
+        stream.close();
+
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "error SELECT ArithmeticException");
+    }
+
+    @Test
+    void shouldReportFailuresToOpenTheStream() {
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> listeners.observeStream(
+                () -> OperationContext.start(Operation.SELECT, "Person"), () -> {
+                    throw new IllegalStateException();
+                }));
+
+        Assertions.assertThat(notifications).containsExactly("before SELECT", "error SELECT IllegalStateException");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class QueryFingerprintTest {
+
+    @Test
+    void shouldReplaceNegativeNumbersWithTheirSign() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(shape("SELECT * FROM Person WHERE age > -5")).isEqualTo("SELECT * FROM Person WHERE age > ?");
+            soft.assertThat(shape("SELECT * FROM Person WHERE age>-5")).isEqualTo("SELECT * FROM Person WHERE age>?");
+            soft.assertThat(shape("SELECT * FROM Person WHERE age BETWEEN -10 AND +1"))
+                    .isEqualTo("SELECT * FROM Person WHERE age BETWEEN ? AND ?");
+            soft.assertThat(shape("SELECT * FROM Person WHERE score >= -1.5e-3"))
+                    .isEqualTo("SELECT * FROM Person WHERE score >= ?");
+        });
+    }
+
+    @Test
+    void shouldKeepSubtractionsAsOperators() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(shape("SELECT * FROM Person WHERE age - 5 > 3")).isEqualTo("SELECT * FROM Person WHERE age - ? > ?");
+            soft.assertThat(shape("SELECT * FROM Person WHERE (age)-5 > 3")).isEqualTo("SELECT * FROM Person WHERE (age)-? > ?");
+        });
+    }
+
+    @Test
+    void shouldReplaceStringsAndBooleans() {
+        Assertions.assertThat(shape("select * from Person where name = 'O''Brien' and active = true limit 10"))
+                .isEqualTo("SELECT * FROM Person WHERE name = ? AND active = ? LIMIT ?");
+    }
+
+    @Test
+    void shouldCollapseInLists() {
+        Assertions.assertThat(shape("SELECT * FROM Person WHERE id IN (-1, 2, 3)"))
+                .isEqualTo(shape("SELECT * FROM Person WHERE id IN (7)"))
+                .isEqualTo("SELECT * FROM Person WHERE id IN (?)");
+    }
+
+    @Test
+    void shouldKeepParameters() {
+        Assertions.assertThat(shape("SELECT * FROM Person WHERE age > ?1 AND name = :name"))
+                .isEqualTo("SELECT * FROM Person WHERE age > ?1 AND name = :name");
+    }
+
+    @Test
+    void shouldShareTheFingerprintOfQueriesDifferingInValues() {
+        QueryFingerprint adults = QueryFingerprint.of(Operation.QUERY, "Person", "SELECT * FROM Person WHERE age > 18");
+        QueryFingerprint seniors = QueryFingerprint.of(Operation.QUERY, "Person", "SELECT * FROM Person WHERE age > 65");
+
+        Assertions.assertThat(adults).isEqualTo(seniors);
+        Assertions.assertThat(adults.id()).isEqualTo(seniors.id()).hasSize(16);
+    }
+
+    @Test
+    void shouldFingerprintConditionsWithoutValues() {
+        StandardCondition condition = StandardCondition.and(StandardCondition.gte("age", 18),
+                StandardCondition.or(StandardCondition.eq("city", "Lisbon"), StandardCondition.in("id", List.of(1, 2))));
+
+        Assertions.assertThat(QueryFingerprint.of(Operation.SELECT, "Person", condition).shape())
+                .isEqualTo("SELECT Person WHERE age gte ? AND (city eq ? OR id in ?)");
+    }
+
+    private static String shape(String query) {
+        return QueryFingerprint.of(Operation.QUERY, "Person", query).shape();
+    }
+}
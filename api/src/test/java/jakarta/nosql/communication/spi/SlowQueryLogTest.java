@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+class SlowQueryLogTest {
+
+    private static final QueryFingerprint ADULTS = QueryFingerprint.builder(Operation.SELECT, "Person")
+            .where("age", "gte").orderBy("age", true).limit().build();
+
+    @Test
+    void shouldAggregateSlowOperationsPerFingerprint() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ZERO);
+        OperationListeners listeners = OperationListeners.of(log);
+
+        for (int index = 0; index < 2; index++) {
+            listeners.observe(() -> OperationContext.start(Operation.SELECT, "Person", 1, ADULTS), () -> List.of(1, 2),
+                    List::size);
+        }
+        listeners.observe(() -> OperationContext.start(Operation.FIND, "Person", 1), () -> 1, found -> 1);
+
+        List<SlowQueryLog.Entry> entries = log.entries();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entries).extracting(SlowQueryLog.Entry::fingerprint).containsExactlyInAnyOrder(ADULTS,
+                    new QueryFingerprint(Operation.FIND, "Person", ""));
+            soft.assertThat(entries).filteredOn(entry -> entry.fingerprint().equals(ADULTS))
+                    .extracting(SlowQueryLog.Entry::count).containsExactly(2L);
+            soft.assertThat(entries).allSatisfy(entry -> Assertions.assertThat(entry.max()).isLessThanOrEqualTo(entry.total()));
+        });
+    }
+
+    @Test
+    void shouldCountFailedOperations() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ZERO);
+
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> OperationListeners.of(log)
+                .observe(() -> OperationContext.start(Operation.SELECT, "Person", 1, ADULTS), () -> {
+                    throw new IllegalStateException();
+                }, ignored -> -1));
+
+        Assertions.assertThat(log.entries()).extracting(SlowQueryLog.Entry::count).containsExactly(1L);
+    }
+
+    @Test
+    void shouldIgnoreOperationsFasterThanTheThreshold() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ofHours(1));
+
+        log.after(OperationContext.start(Operation.SELECT, "Person", 1, ADULTS), 2, -1);
+
+        Assertions.assertThat(log.entries()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepTheFingerprintsUnderTheBound() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ZERO);
+
+        for (int index = 0; index <= SlowQueryLog.MAX_FINGERPRINTS; index++) {
+            QueryFingerprint fingerprint = QueryFingerprint.builder(Operation.SELECT, "Person")
+                    .where("field" + index, "eq").build();
+            log.after(OperationContext.start(Operation.SELECT, "Person", 1, fingerprint), 1, -1);
+        }
+
+        Assertions.assertThat(log.entries()).hasSize(SlowQueryLog.MAX_FINGERPRINTS + 1)
+                .extracting(entry -> entry.fingerprint().shape()).contains("<other>");
+    }
+
+    @Test
+    void shouldRejectNegativeThresholds() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> new SlowQueryLog(Duration.ofMillis(-1)));
+    }
+}
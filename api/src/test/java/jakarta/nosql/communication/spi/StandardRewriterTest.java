@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.nosql.communication.spi;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static jakarta.nosql.communication.spi.StandardCondition.always;
+import static jakarta.nosql.communication.spi.StandardCondition.and;
+import static jakarta.nosql.communication.spi.StandardCondition.between;
+import static jakarta.nosql.communication.spi.StandardCondition.eq;
+import static jakarta.nosql.communication.spi.StandardCondition.gt;
+import static jakarta.nosql.communication.spi.StandardCondition.gte;
+import static jakarta.nosql.communication.spi.StandardCondition.in;
+import static jakarta.nosql.communication.spi.StandardCondition.like;
+import static jakarta.nosql.communication.spi.StandardCondition.lt;
+import static jakarta.nosql.communication.spi.StandardCondition.lte;
+import static jakarta.nosql.communication.spi.StandardCondition.never;
+import static jakarta.nosql.communication.spi.StandardCondition.not;
+import static jakarta.nosql.communication.spi.StandardCondition.or;
+
+class StandardRewriterTest {
+
+    private final QueryRewriter rewriter = QueryRewriter.standard();
+
+    @Test
+    void shouldMergeTheRangesOfAField() {
+        Assertions.assertThat(rewriter.rewrite(and(gt("age", 10), gte("age", 20), lt("age", 65), lte("age", 70))))
+                .isEqualTo(and(gte("age", 20), lt("age", 65)));
+        Assertions.assertThat(rewriter.rewrite(and(gte("age", 18), eq("name", "Ada"), lte("age", 65))))
+                .isEqualTo(and(between("age", 18, 65), eq("name", "Ada")));
+        Assertions.assertThat(rewriter.rewrite(and(gte("age", 18), lte("age", 18))))
+                .isEqualTo(eq("age", 18));
+        Assertions.assertThat(rewriter.rewrite(and(eq("age", 30), gt("age", 18), lt("age", 65))))
+                .isEqualTo(eq("age", 30));
+        Assertions.assertThat(rewriter.rewrite(and(between("age", 10, 50), between("age", 20, 60))))
+                .isEqualTo(between("age", 20, 50));
+    }
+
+    @Test
+    void shouldMergeRangesOfMixedNumberTypes() {
+        Assertions.assertThat(rewriter.rewrite(and(gt("age", 10), lt("age", 20.5), gte("age", 12L),
+                        lte("age", new BigDecimal("20")))))
+                .isEqualTo(between("age", 12L, new BigDecimal("20")));
+        Assertions.assertThat(rewriter.rewrite(and(eq("age", 1), eq("age", 1.0), lt("age", BigInteger.TWO))))
+                .isEqualTo(eq("age", 1));
+        Assertions.assertThat(rewriter.rewrite(and(eq("age", (short) 1), eq("age", 2L))))
+                .isEqualTo(never());
+    }
+
+    @Test
+    void shouldNotMergeValuesWithoutACommonOrder() {
+        StandardCondition temporals = and(gt("date", LocalDate.of(2020, 1, 1)),
+                lt("date", LocalDateTime.of(2021, 1, 1, 0, 0)));
+        StandardCondition notANumber = and(gt("score", Double.NaN), gt("score", 1));
+        StandardCondition strings = and(gt("name", "a"), gt("name", "b"));
+
+        Assertions.assertThat(rewriter.rewrite(temporals)).isEqualTo(temporals);
+        Assertions.assertThat(rewriter.rewrite(notANumber)).isEqualTo(notANumber);
+        Assertions.assertThat(rewriter.rewrite(strings)).isEqualTo(strings);
+        Assertions.assertThat(rewriter.rewrite(and(gt("date", LocalDate.of(2020, 1, 1)),
+                        gt("date", LocalDate.of(2021, 1, 1)))))
+                .isEqualTo(gt("date", LocalDate.of(2021, 1, 1)));
+    }
+
+    @Test
+    void shouldDetectContradictions() {
+        Assertions.assertThat(rewriter.rewrite(and(gt("age", 65), lt("age", 18)))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(gt("age", 18), lte("age", 18)))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(eq("age", 10), eq("age", 20)))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(eq("age", 10), gt("age", 20)))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(eq("active", true), eq("active", false)))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(between("age", 65, 18))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(in("age", List.of()))).isEqualTo(never());
+    }
+
+    @Test
+    void shouldFoldConstants() {
+        Assertions.assertThat(rewriter.rewrite(and(always(), eq("name", "Ada")))).isEqualTo(eq("name", "Ada"));
+        Assertions.assertThat(rewriter.rewrite(and(eq("name", "Ada"), never()))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(always(), always()))).isEqualTo(always());
+        Assertions.assertThat(rewriter.rewrite(or(never(), eq("name", "Ada")))).isEqualTo(eq("name", "Ada"));
+        Assertions.assertThat(rewriter.rewrite(or(eq("name", "Ada"), always()))).isEqualTo(always());
+        Assertions.assertThat(rewriter.rewrite(or(never(), never()))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(not(always()))).isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(not(not(eq("name", "Ada"))))).isEqualTo(eq("name", "Ada"));
+    }
+
+    @Test
+    void shouldMergeEqualitiesOfAFieldIntoAMembership() {
+        Assertions.assertThat(rewriter.rewrite(or(eq("city", "Lisbon"), eq("city", "Porto"),
+                        in("city", List.of("Porto", "Faro")))))
+                .isEqualTo(in("city", List.of("Lisbon", "Porto", "Faro")));
+        Assertions.assertThat(rewriter.rewrite(or(eq("city", "Lisbon"), like("name", "A%"), eq("city", "Porto"))))
+                .isEqualTo(or(in("city", List.of("Lisbon", "Porto")), like("name", "A%")));
+    }
+
+    @Test
+    void shouldKeepEqualitiesThatCannotBeMerged() {
+        StandardCondition fields = or(eq("city", "Lisbon"), eq("country", "Portugal"));
+        StandardCondition nulls = or(eq("city", "Lisbon"), eq("city", null));
+        StandardCondition ranges = or(eq("age", 10), gt("age", 65));
+
+        Assertions.assertThat(rewriter.rewrite(fields)).isEqualTo(fields);
+        Assertions.assertThat(rewriter.rewrite(nulls)).isEqualTo(nulls);
+        Assertions.assertThat(rewriter.rewrite(ranges)).isEqualTo(ranges);
+    }
+
+    @Test
+    void shouldNegateMergedRanges() {
+        Assertions.assertThat(rewriter.rewrite(not(and(gt("age", 10), gte("age", 20)))))
+                .isEqualTo(not(gte("age", 20)));
+        Assertions.assertThat(rewriter.rewrite(not(and(gt("age", 65), lt("age", 18))))).isEqualTo(always());
+        Assertions.assertThat(rewriter.rewrite(not(or(eq("city", "Lisbon"), eq("city", "Porto")))))
+                .isEqualTo(not(in("city", List.of("Lisbon", "Porto"))));
+    }
+
+    @Test
+    void shouldCollapseAnEmptyResultToFalse() {
+        StandardCondition rewritten = rewriter.rewrite(and(gt("age", 65), eq("name", "Ada"),
+                or(eq("city", "Lisbon"), eq("city", "Porto")), lt("age", 18)));
+
+        Assertions.assertThat(rewritten).isEqualTo(new StandardCondition.Constant(false));
+        Assertions.assertThat(rewriter.rewrite(or(and(gt("age", 65), lt("age", 18)), in("city", List.of()))))
+                .isEqualTo(never());
+        Assertions.assertThat(rewriter.rewrite(and(eq("name", "Ada"), or(never(), between("age", 65, 18)))))
+                .isEqualTo(never());
+    }
+
+    @Test
+    void shouldRewriteNestedConditionsUntilStable() {
+        Assertions.assertThat(rewriter.rewrite(and(or(eq("city", "Lisbon"), or(eq("city", "Porto"), never())),
+                        gt("age", 18), and(always(), gt("age", 21)))))
+                .isEqualTo(and(in("city", List.of("Lisbon", "Porto")), gt("age", 21)));
+    }
+}
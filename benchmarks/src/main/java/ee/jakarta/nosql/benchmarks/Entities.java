@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.benchmarks;
+
+import ee.jakarta.tck.nosql.entities.Animal;
+import ee.jakarta.tck.nosql.entities.Beer;
+import ee.jakarta.tck.nosql.entities.Book;
+import ee.jakarta.tck.nosql.entities.Fruit;
+import ee.jakarta.tck.nosql.entities.Person;
+import ee.jakarta.tck.nosql.entities.Vehicle;
+import net.datafaker.Faker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Generates reproducible pools of the TCK entities, so that the cost of fake data generation stays
+ * out of the measured code.
+ */
+final class Entities {
+
+    private static final long SEED = 42L;
+
+    private Entities() {
+    }
+
+    static List<Person> people(int size) {
+        List<Person> people = pool(Person::of, size);
+        for (int index = 0; index < people.size(); index++) {
+            people.get(index).setId("person-" + index);
+        }
+        return people;
+    }
+
+    static List<Animal> animals(int size) {
+        return pool(Animal::of, size);
+    }
+
+    static List<Vehicle> vehicles(int size) {
+        return pool(Vehicle::of, size);
+    }
+
+    static List<Book> books(int size) {
+        return pool(Book::of, size);
+    }
+
+    static List<Beer> beers(int size) {
+        List<Beer> beers = pool(Beer::of, size);
+        for (int index = 0; index < beers.size(); index++) {
+            beers.get(index).setId("beer-" + index);
+        }
+        return beers;
+    }
+
+    static List<Fruit> fruits(int size) {
+        List<Fruit> fruits = pool(Fruit::of, size);
+        for (int index = 0; index < fruits.size(); index++) {
+            fruits.get(index).setId("fruit-" + index);
+        }
+        return fruits;
+    }
+
+    private static <T> List<T> pool(Function<Faker, T> factory, int size) {
+        Faker faker = new Faker(new Random(SEED));
+        List<T> entities = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            entities.add(factory.apply(faker));
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.benchmarks;
+
+import ee.jakarta.tck.nosql.entities.Animal;
+import ee.jakarta.tck.nosql.entities.Beer;
+import ee.jakarta.tck.nosql.entities.Book;
+import ee.jakarta.tck.nosql.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code Template.find(Class, Object)} by identifier, for hits and misses, over a pre-inserted pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FindBenchmark {
+
+    private static final int POOL_SIZE = 1_000;
+
+    private String[] people;
+
+    private String[] animals;
+
+    private String[] books;
+
+    private String[] beers;
+
+    private String[] missing;
+
+    @Setup(Level.Trial)
+    public void setUp(TemplateState state) {
+        var template = state.template();
+        this.people = Entities.people(POOL_SIZE).stream().map(template::insert).map(Person::getId).toArray(String[]::new);
+        this.animals = Entities.animals(POOL_SIZE).stream().map(template::insert).map(Animal::getId).toArray(String[]::new);
+        this.books = Entities.books(POOL_SIZE).stream().map(template::insert).map(Book::id).toArray(String[]::new);
+        this.beers = Entities.beers(POOL_SIZE).stream().map(template::insert).map(Beer::getId).toArray(String[]::new);
+        this.missing = new String[POOL_SIZE];
+        for (int index = 0; index < POOL_SIZE; index++) {
+            missing[index] = "missing-" + index;
+        }
+    }
+
+    @Benchmark
+    public Optional<Person> findPerson(TemplateState state, Cursor cursor) {
+        return state.template().find(Person.class, people[cursor.next()]);
+    }
+
+    @Benchmark
+    public Optional<Animal> findAnimal(TemplateState state, Cursor cursor) {
+        return state.template().find(Animal.class, animals[cursor.next()]);
+    }
+
+    @Benchmark
+    public Optional<Book> findBook(TemplateState state, Cursor cursor) {
+        return state.template().find(Book.class, books[cursor.next()]);
+    }
+
+    @Benchmark
+    public Optional<Beer> findBeer(TemplateState state, Cursor cursor) {
+        return state.template().find(Beer.class, beers[cursor.next()]);
+    }
+
+    @Benchmark
+    public Optional<Person> findMissing(TemplateState state, Cursor cursor) {
+        return state.template().find(Person.class, missing[cursor.next()]);
+    }
+
+    /**
+     * Walks the pool per thread, so every thread reads different keys without contending on a shared counter.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next() {
+            return index++ % POOL_SIZE;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.benchmarks;
+
+import ee.jakarta.tck.nosql.entities.Animal;
+import ee.jakarta.tck.nosql.entities.Beer;
+import ee.jakarta.tck.nosql.entities.Book;
+import ee.jakarta.tck.nosql.entities.Fruit;
+import ee.jakarta.tck.nosql.entities.Person;
+import ee.jakarta.tck.nosql.entities.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code Template.insert(Object)} for each mapping shape of the TCK entities: a plain class,
+ * a class with a mapped superclass, an enum field, a record, single-table inheritance, and an attribute converter.
+ *
+ * <p>Each iteration inserts every entity of a freshly generated pool exactly once, into an empty
+ * database, so the measured time is never polluted by updates of existing keys.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = InsertBenchmark.POOL_SIZE)
+@Measurement(iterations = 10, batchSize = InsertBenchmark.POOL_SIZE)
+@Fork(1)
+public class InsertBenchmark {
+
+    static final int POOL_SIZE = 1_000;
+
+    private List<Person> people;
+
+    private List<Animal> animals;
+
+    private List<Vehicle> vehicles;
+
+    private List<Book> books;
+
+    private List<Beer> beers;
+
+    private List<Fruit> fruits;
+
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setUp(TemplateState state) {
+        state.clean();
+        this.people = Entities.people(POOL_SIZE);
+        this.animals = Entities.animals(POOL_SIZE);
+        this.vehicles = Entities.vehicles(POOL_SIZE);
+        this.books = Entities.books(POOL_SIZE);
+        this.beers = Entities.beers(POOL_SIZE);
+        this.fruits = Entities.fruits(POOL_SIZE);
+        this.index = 0;
+    }
+
+    @Benchmark
+    public Person insertPerson(TemplateState state) {
+        return state.template().insert(people.get(next()));
+    }
+
+    @Benchmark
+    public Animal insertAnimal(TemplateState state) {
+        return state.template().insert(animals.get(next()));
+    }
+
+    @Benchmark
+    public Vehicle insertVehicle(TemplateState state) {
+        return state.template().insert(vehicles.get(next()));
+    }
+
+    @Benchmark
+    public Book insertBook(TemplateState state) {
+        return state.template().insert(books.get(next()));
+    }
+
+    @Benchmark
+    public Beer insertBeer(TemplateState state) {
+        return state.template().insert(beers.get(next()));
+    }
+
+    @Benchmark
+    public Fruit insertFruit(TemplateState state) {
+        return state.template().insert(fruits.get(next()));
+    }
+
+    private int next() {
+        return index++ % POOL_SIZE;
+    }
+}
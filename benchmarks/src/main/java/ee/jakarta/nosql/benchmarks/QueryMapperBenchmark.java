@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.benchmarks;
+
+import ee.jakarta.tck.nosql.entities.Person;
+import jakarta.nosql.QueryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link QueryMapper} fluent API, separating the cost of building a chain from the cost
+ * of executing it, so regressions in query translation are visible apart from the database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class QueryMapperBenchmark {
+
+    private static final int POOL_SIZE = 1_000;
+
+    private String name;
+
+    @Setup(Level.Trial)
+    public void setUp(TemplateState state) {
+        List<Person> people = Entities.people(POOL_SIZE);
+        state.template().insert(people);
+        this.name = people.get(POOL_SIZE / 2).getName();
+    }
+
+    @Benchmark
+    public QueryMapper.MapperQueryBuild buildSelect(TemplateState state) {
+        return state.template().select(Person.class)
+                .where("age").gte(18)
+                .and("name").not().eq(name)
+                .orderBy("name").asc()
+                .limit(10);
+    }
+
+    @Benchmark
+    public List<Person> selectByName(TemplateState state) {
+        return state.template().select(Person.class)
+                .where("name").eq(name)
+                .result();
+    }
+
+    @Benchmark
+    public List<Person> selectRange(TemplateState state) {
+        return state.template().select(Person.class)
+                .where("age").between(20, 30)
+                .orderBy("name").asc()
+                .limit(10)
+                .result();
+    }
+
+    @Benchmark
+    public long countRange(TemplateState state) {
+        return state.template().select(Person.class)
+                .where("age").gt(50)
+                .count();
+    }
+}
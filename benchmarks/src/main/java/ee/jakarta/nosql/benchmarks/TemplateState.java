@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.benchmarks;
+
+import ee.jakarta.tck.nosql.TemplateSupplier;
+import ee.jakarta.tck.nosql.entities.Animal;
+import ee.jakarta.tck.nosql.entities.Book;
+import ee.jakarta.tck.nosql.entities.Drink;
+import ee.jakarta.tck.nosql.entities.Fruit;
+import ee.jakarta.tck.nosql.entities.Person;
+import ee.jakarta.tck.nosql.entities.Vehicle;
+import jakarta.nosql.Template;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Holds the {@link Template} shared by every benchmark thread.
+ *
+ * <p>As in the TCK, the {@link Template} is obtained from the {@link TemplateSupplier} registered by the
+ * provider under test, so the same benchmarks measure any Jakarta NoSQL implementation on the classpath.</p>
+ */
+@State(Scope.Benchmark)
+public class TemplateState {
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateState.class.getName());
+
+    private static final List<Class<?>> ENTITIES = List.of(Person.class, Animal.class, Vehicle.class, Book.class,
+            Drink.class, Fruit.class);
+
+    private Template template;
+
+    /**
+     * Resolves the template and starts from an empty database.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        LOGGER.info("Getting the template");
+        this.template = TemplateSupplier.template().get();
+        clean();
+    }
+
+    /**
+     * Leaves the database empty.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clean();
+    }
+
+    Template template() {
+        return template;
+    }
+
+    void clean() {
+        for (Class<?> entity : ENTITIES) {
+            try {
+                template.delete(entity).execute();
+            } catch (UnsupportedOperationException exception) {
+                LOGGER.warning("The delete operation is not supported for " + entity.getSimpleName());
+            }
+        }
+    }
+}
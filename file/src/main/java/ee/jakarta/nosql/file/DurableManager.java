@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.MemoryEntity;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.WriteDurability;
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DeleteExecutor;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * The manager returned by {@link FileDatabaseManager#durability(WriteDurability)}: every write, including the
+ * {@code execute} of the delete and update executors, commits under the fsync policy of the durability.
+ */
+final class DurableManager implements DatabaseManager<MemoryEntity> {
+
+    private final FileDatabaseManager manager;
+
+    private final WriteAheadLog log;
+
+    private final FsyncPolicy policy;
+
+    DurableManager(FileDatabaseManager manager, WriteAheadLog log, FsyncPolicy policy) {
+        this.manager = manager;
+        this.log = log;
+        this.policy = policy;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return manager.capabilities();
+    }
+
+    @Override
+    public Flow.Publisher<ChangeEvent<MemoryEntity>> watch(String collection) {
+        return manager.watch(collection);
+    }
+
+    @Override
+    public DatabaseManager<MemoryEntity> durability(WriteDurability durability) {
+        return manager.durability(durability);
+    }
+
+    @Override
+    public MemoryEntity insert(MemoryEntity entity) {
+        return scoped(() -> manager.insert(entity));
+    }
+
+    @Override
+    public Iterable<MemoryEntity> insert(Iterable<MemoryEntity> entities) {
+        return scoped(() -> manager.insert(entities));
+    }
+
+    @Override
+    public MemoryEntity update(MemoryEntity entity) {
+        return scoped(() -> manager.update(entity));
+    }
+
+    @Override
+    public Iterable<MemoryEntity> update(Iterable<MemoryEntity> entities) {
+        return scoped(() -> manager.update(entities));
+    }
+
+    @Override
+    public void delete(MemoryEntity entity) {
+        run(() -> manager.delete(entity));
+    }
+
+    @Override
+    public <K> Optional<MemoryEntity> findById(K id) {
+        return manager.findById(id);
+    }
+
+    @Override
+    public <K> void deleteById(K id) {
+        run(() -> manager.deleteById(id));
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select() {
+        return manager.select();
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select(String... names) {
+        return manager.select(names);
+    }
+
+    @Override
+    public DeleteExecutor delete() {
+        DeleteExecutor executor = manager.delete();
+        return name -> new DeleteSteps(executor.from(name));
+    }
+
+    @Override
+    public DeleteExecutor delete(String... names) {
+        DeleteExecutor executor = manager.delete(names);
+        return name -> new DeleteSteps(executor.from(name));
+    }
+
+    @Override
+    public UpdateExecutor update() {
+        UpdateExecutor executor = manager.update();
+        return name -> new UpdateSteps(executor.from(name));
+    }
+
+    private <R> R scoped(Supplier<R> operation) {
+        return log.scoped(policy, operation);
+    }
+
+    private void run(Runnable operation) {
+        log.scoped(policy, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private final class DeleteSteps implements DeleteExecutor.From, DeleteExecutor.Junction {
+
+        private final DeleteExecutor.From from;
+
+        private DeleteExecutor.Junction junction;
+
+        private DeleteSteps(DeleteExecutor.From from) {
+            this.from = from;
+        }
+
+        @Override
+        public DeleteExecutor.Junction where(Condition condition) {
+            junction = from.where(condition);
+            return this;
+        }
+
+        @Override
+        public DeleteExecutor.Junction and(Condition condition) {
+            junction = junction.and(condition);
+            return this;
+        }
+
+        @Override
+        public DeleteExecutor.Junction or(Condition condition) {
+            junction = junction.or(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            run(junction == null ? from::execute : junction::execute);
+        }
+    }
+
+    private final class UpdateSteps implements UpdateExecutor.From {
+
+        private UpdateExecutor.From from;
+
+        private UpdateSteps(UpdateExecutor.From from) {
+            this.from = from;
+        }
+
+        @Override
+        public UpdateExecutor.From set(UpdateExecutor.Update update) {
+            from = from.set(update);
+            return this;
+        }
+
+        @Override
+        public UpdateExecutor.From where(Condition condition) {
+            from = from.where(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            run(from::execute);
+        }
+    }
+}
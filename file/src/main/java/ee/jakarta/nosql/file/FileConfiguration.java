@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration of a {@link FileDatabaseManagerFactory}.
+ *
+ * <p>Recovery replays the write-ahead log written since the last snapshot, so the compaction threshold also
+ * bounds recovery time: a lower threshold means faster recovery and more frequent snapshots.</p>
+ *
+ * <pre>{@code
+ * FileConfiguration configuration = FileConfiguration.of(Path.of("data"))
+ *         .withFsync(FsyncPolicy.PERIODIC)
+ *         .withFsyncInterval(Duration.ofMillis(200))
+ *         .withCompactionThreshold(16 * 1024 * 1024);
+ * }</pre>
+ *
+ * @param directory           the directory holding one subdirectory per database
+ * @param fsync               when the log is forced to the storage device
+ * @param fsyncInterval       the interval between forces with {@link FsyncPolicy#PERIODIC}
+ * @param compactionThreshold the log size, in bytes, that triggers a snapshot; {@code 0} disables automatic compaction
+ */
+public record FileConfiguration(Path directory, FsyncPolicy fsync, Duration fsyncInterval, long compactionThreshold) {
+
+    /**
+     * The default compaction threshold, 64 MiB.
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * The default interval between forces with {@link FsyncPolicy#PERIODIC}.
+     */
+    public static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * Validates the configuration.
+     *
+     * @throws NullPointerException     when a component is null
+     * @throws IllegalArgumentException when the interval is not positive or the threshold is negative
+     */
+    public FileConfiguration {
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(fsync, "fsync is required");
+        Objects.requireNonNull(fsyncInterval, "fsyncInterval is required");
+        if (fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            throw new IllegalArgumentException("fsyncInterval must be positive: " + fsyncInterval);
+        }
+        if (compactionThreshold < 0) {
+            throw new IllegalArgumentException("compactionThreshold must not be negative: " + compactionThreshold);
+        }
+    }
+
+    /**
+     * Creates a configuration with {@link FsyncPolicy#GROUPED} forces and the default compaction threshold.
+     *
+     * @param directory the directory holding one subdirectory per database
+     * @return a new configuration
+     */
+    public static FileConfiguration of(Path directory) {
+        return new FileConfiguration(directory, FsyncPolicy.GROUPED, DEFAULT_FSYNC_INTERVAL, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns a copy with another fsync policy.
+     *
+     * @param fsync the fsync policy
+     * @return a new configuration
+     */
+    public FileConfiguration withFsync(FsyncPolicy fsync) {
+        return new FileConfiguration(directory, fsync, fsyncInterval, compactionThreshold);
+    }
+
+    /**
+     * Returns a copy with another interval between forces with {@link FsyncPolicy#PERIODIC}.
+     *
+     * @param fsyncInterval the interval
+     * @return a new configuration
+     */
+    public FileConfiguration withFsyncInterval(Duration fsyncInterval) {
+        return new FileConfiguration(directory, fsync, fsyncInterval, compactionThreshold);
+    }
+
+    /**
+     * Returns a copy with another compaction threshold.
+     *
+     * @param compactionThreshold the log size, in bytes, that triggers a snapshot, or {@code 0} to disable it
+     * @return a new configuration
+     */
+    public FileConfiguration withCompactionThreshold(long compactionThreshold) {
+        return new FileConfiguration(directory, fsync, fsyncInterval, compactionThreshold);
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.IndexType;
+import ee.jakarta.nosql.memory.MemoryDatabaseManager;
+import ee.jakarta.nosql.memory.MemoryDatabaseManagerFactory;
+import ee.jakarta.nosql.memory.MemoryEntity;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.WriteDurability;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DeleteExecutor;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * A durable {@link DatabaseManager} persisting {@link MemoryEntity} structures to a local directory.
+ *
+ * <p>Every change is appended to a write-ahead log before it is applied to the in-memory state, which answers
+ * every read and query as the {@code ee.jakarta.nosql.memory} provider does, secondary indexes included. The
+ * log is forced according to the {@link FsyncPolicy} of the {@link FileConfiguration}. Once the log written
+ * since the last snapshot exceeds the compaction threshold, a background task writes the whole state to a new
+ * snapshot file and deletes the log it covers.</p>
+ *
+ * <p>On open, the latest snapshot is read through memory mapping and the log written after it is replayed; an
+ * incomplete record left at the end of the log by a crash is discarded. A directory is locked by the manager
+ * that opened it, so two managers never write the same database.</p>
+ *
+ * <pre>{@code
+ * try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(FileConfiguration.of(Path.of("data")))) {
+ *     FileDatabaseManager manager = factory.database("library");
+ *     manager.insert(MemoryEntity.of("Book", Map.of(MemoryEntity.ID, "978-0134685991", "title", "Effective Java")));
+ * }
+ * }</pre>
+ *
+ * <p>{@link #durability(WriteDurability)} chooses the force per write: {@link WriteDurability#NONE} returns
+ * once the log is written to the operating system, and every other level once it is forced: on a single node,
+ * the leader, a majority, and all replicas are the node itself, whose copy only survives a crash once it is on
+ * the storage device. A configured {@link FsyncPolicy#PER_WRITE} policy is kept for those levels.</p>
+ *
+ * <p>Secondary indexes are not persisted; they are rebuilt by calling {@link #createIndex(String, String, IndexType)}
+ * after opening.</p>
+ */
+public final class FileDatabaseManager implements DatabaseManager<MemoryEntity>, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(FileDatabaseManager.class.getName());
+
+    private static final String LOCK = "LOCK";
+
+    private static final Capabilities CAPABILITIES = new MemoryDatabaseManagerFactory().capabilities()
+            .with(Capability.WRITE_DURABILITY);
+
+    private final Path directory;
+
+    private final WriteAheadLog log;
+
+    private final MemoryDatabaseManager delegate;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private final Object compactionLock = new Object();
+
+    private final FileChannel lockChannel;
+
+    private final FileLock lock;
+
+    private volatile boolean closed;
+
+    private FileDatabaseManager(String name, Path directory, FileConfiguration configuration) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException exception) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IllegalStateException("The database " + directory + " is already open");
+        }
+        this.lock = acquired;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jakarta-nosql-file-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.log = new WriteAheadLog(directory, configuration.fsync(), configuration.compactionThreshold(),
+                this::scheduleCompaction);
+        this.delegate = MemoryDatabaseManager.journaled(name, log);
+        try {
+            recover(configuration);
+        } catch (IOException | RuntimeException exception) {
+            try {
+                log.close();
+            } catch (IOException closing) {
+                exception.addSuppressed(closing);
+            }
+            release();
+            throw exception;
+        }
+    }
+
+    static FileDatabaseManager open(String name, FileConfiguration configuration) {
+        try {
+            return new FileDatabaseManager(name, configuration.directory().resolve(name), configuration);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void recover(FileConfiguration configuration) throws IOException {
+        long start = System.nanoTime();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(Snapshots.TEMPORARY)).toList()) {
+                Files.delete(file);
+            }
+        }
+        List<Long> snapshots = Snapshots.list(directory);
+        long from = snapshots.isEmpty() ? 0 : Snapshots.read(Snapshots.path(directory, snapshots.get(snapshots.size() - 1)),
+                delegate::insert);
+        long replayed = log.replay(from, delegate);
+        log.start(from);
+        LOGGER.log(System.Logger.Level.DEBUG, () -> "Recovered " + directory + " replaying " + replayed
+                + " bytes of log in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        if (configuration.fsync() == FsyncPolicy.PERIODIC) {
+            long interval = configuration.fsyncInterval().toNanos();
+            scheduler.scheduleWithFixedDelay(this::forceQuietly, interval, interval, TimeUnit.NANOSECONDS);
+        }
+        if (configuration.compactionThreshold() > 0 && replayed >= configuration.compactionThreshold()) {
+            compact();
+        }
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * Publishes the changes of a collection as {@link MemoryDatabaseManager#watch(String)} does, once the write
+     * that applied them has forced the log as its fsync policy requires.
+     */
+    @Override
+    public Flow.Publisher<ChangeEvent<MemoryEntity>> watch(String collection) {
+        return delegate.watch(collection);
+    }
+
+    @Override
+    public DatabaseManager<MemoryEntity> durability(WriteDurability durability) {
+        Objects.requireNonNull(durability, "durability is required");
+        FsyncPolicy configured = log.policy();
+        return new DurableManager(this, log, switch (durability) {
+            case NONE -> FsyncPolicy.PERIODIC;
+            case LEADER, MAJORITY, ALL, JOURNALED -> configured == FsyncPolicy.PER_WRITE ? FsyncPolicy.PER_WRITE : FsyncPolicy.GROUPED;
+        });
+    }
+
+    @Override
+    public MemoryEntity insert(MemoryEntity entity) {
+        return delegate.insert(entity);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> insert(Iterable<MemoryEntity> entities) {
+        return delegate.insert(entities);
+    }
+
+    @Override
+    public MemoryEntity update(MemoryEntity entity) {
+        return delegate.update(entity);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> update(Iterable<MemoryEntity> entities) {
+        return delegate.update(entities);
+    }
+
+    @Override
+    public void delete(MemoryEntity entity) {
+        delegate.delete(entity);
+    }
+
+    @Override
+    public <K> Optional<MemoryEntity> findById(K id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public <K> void deleteById(K id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select() {
+        return delegate.select();
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select(String... names) {
+        return delegate.select(names);
+    }
+
+    @Override
+    public DeleteExecutor delete() {
+        return delegate.delete();
+    }
+
+    @Override
+    public DeleteExecutor delete(String... names) {
+        return delegate.delete(names);
+    }
+
+    @Override
+    public UpdateExecutor update() {
+        return delegate.update();
+    }
+
+    /**
+     * Creates a secondary index, as {@link MemoryDatabaseManager#createIndex(String, String, IndexType)} does.
+     *
+     * @param collection the collection name
+     * @param field      the field name
+     * @param type       the kind of index
+     */
+    public void createIndex(String collection, String field, IndexType type) {
+        delegate.createIndex(collection, field, type);
+    }
+
+    /**
+     * Drops a secondary index.
+     *
+     * @param collection the collection name
+     * @param field      the field name
+     * @return whether an index was dropped
+     */
+    public boolean dropIndex(String collection, String field) {
+        return delegate.dropIndex(collection, field);
+    }
+
+    /**
+     * Returns the secondary indexes of a collection, by field.
+     *
+     * @param collection the collection name
+     * @return the index type of each indexed field
+     */
+    public Map<String, IndexType> indexes(String collection) {
+        return delegate.indexes(collection);
+    }
+
+    /**
+     * Returns the number of entities in a collection.
+     *
+     * @param collection the collection name
+     * @return the number of entities
+     */
+    public long count(String collection) {
+        return delegate.count(collection);
+    }
+
+    /**
+     * Returns the names of the collections.
+     *
+     * @return the collection names
+     */
+    public Set<String> collections() {
+        return delegate.collections();
+    }
+
+    /**
+     * Writes the current state to a new snapshot and deletes the log and snapshots it replaces. Writes
+     * continue during compaction, except for the short moment the log switches to a new segment.
+     *
+     * @throws UncheckedIOException when the snapshot cannot be written
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            long[] segment = new long[1];
+            delegate.exclusively(() -> segment[0] = log.roll());
+            try {
+                Snapshots.write(directory, segment[0], delegate.collections().stream()
+                        .flatMap(collection -> delegate.select().from(collection).fetch()));
+                Snapshots.discardBefore(directory, segment[0]);
+                log.discardBefore(segment[0]);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    /**
+     * Forces the log, completes the change streams, and closes the database. Writes fail once the database is
+     * closed.
+     *
+     * @throws UncheckedIOException when the log cannot be forced
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        delegate.close();
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.log(System.Logger.Level.WARNING, "A compaction of " + directory + " did not finish");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            log.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            release();
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (!closed && compacting.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException exception) {
+                    LOGGER.log(System.Logger.Level.ERROR, "Unable to compact " + directory, exception);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    private void forceQuietly() {
+        try {
+            log.force();
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.log(System.Logger.Level.ERROR, "Unable to force the log of " + directory, exception);
+        }
+    }
+
+    private void release() {
+        scheduler.shutdownNow();
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException exception) {
+            LOGGER.log(System.Logger.Level.WARNING, "Unable to release the lock of " + directory, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileDatabaseManager{" +
+                "directory=" + directory +
+                '}';
+    }
+}
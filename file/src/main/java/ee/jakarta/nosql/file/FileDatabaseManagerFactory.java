@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.MemoryDatabaseManagerFactory;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DatabaseManagerFactory;
+
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Opens {@link FileDatabaseManager} instances, one subdirectory of the configured directory per database.
+ * The same manager is returned for the same database name until the factory is closed.
+ *
+ * <pre>{@code
+ * DatabaseManagerFactory factory = new FileDatabaseManagerFactory(FileConfiguration.of(Path.of("data")));
+ * DatabaseManager<MemoryEntity> manager = factory.create("library");
+ * }</pre>
+ */
+public final class FileDatabaseManagerFactory implements DatabaseManagerFactory, AutoCloseable {
+
+    private static final Capabilities CAPABILITIES = new MemoryDatabaseManagerFactory().capabilities()
+            .with(Capability.WRITE_DURABILITY);
+
+    private final FileConfiguration configuration;
+
+    private final ConcurrentMap<String, FileDatabaseManager> databases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a factory.
+     *
+     * @param configuration the configuration of the databases
+     * @throws NullPointerException when configuration is null
+     */
+    public FileDatabaseManagerFactory(FileConfiguration configuration) {
+        this.configuration = Objects.requireNonNull(configuration, "configuration is required");
+    }
+
+    /**
+     * Returns the manager of a database, opening and recovering it when needed. The manager stores
+     * {@code MemoryEntity} structures whatever the requested type.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> DatabaseManager<T> create(String databaseName) {
+        return (DatabaseManager<T>) database(databaseName);
+    }
+
+    /**
+     * Returns the capabilities of the in-memory provider, which every file manager delegates to, and
+     * {@link Capability#WRITE_DURABILITY}.
+     */
+    @Override
+    public Capabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * Returns the manager of a database, opening and recovering it when needed.
+     *
+     * @param databaseName the database name, used as a directory name
+     * @return the manager of the database
+     * @throws NullPointerException          when databaseName is null
+     * @throws IllegalArgumentException      when databaseName is not a plain directory name
+     * @throws IllegalStateException         when the database is already open elsewhere
+     * @throws UncheckedIOException          when the database cannot be read
+     */
+    public FileDatabaseManager database(String databaseName) {
+        Objects.requireNonNull(databaseName, "databaseName is required");
+        if (databaseName.isBlank() || databaseName.contains("/") || databaseName.contains("\\")
+                || databaseName.equals(".") || databaseName.equals("..")) {
+            throw new IllegalArgumentException("The database name must be a plain directory name: " + databaseName);
+        }
+        return databases.computeIfAbsent(databaseName, name -> FileDatabaseManager.open(name, configuration));
+    }
+
+    /**
+     * Closes every database opened by this factory.
+     */
+    @Override
+    public void close() {
+        databases.values().forEach(FileDatabaseManager::close);
+        databases.clear();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+/**
+ * When the write-ahead log is forced to the storage device, trading durability for write throughput.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Every write operation forces the log before returning. No acknowledged write is ever lost, and each
+     * operation pays a full device flush.
+     */
+    PER_WRITE,
+
+    /**
+     * Every write operation waits until the log is forced, but concurrent operations share a single flush.
+     * No acknowledged write is lost, and throughput grows with concurrency.
+     */
+    GROUPED,
+
+    /**
+     * Write operations return once the log is written to the operating system, and a background task forces
+     * it at a fixed interval. A crash of the machine, not of the process, loses at most one interval of writes.
+     */
+    PERIODIC
+}
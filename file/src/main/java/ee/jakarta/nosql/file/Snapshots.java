@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.EntityCodec;
+import ee.jakarta.nosql.memory.MemoryEntity;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Writes and reads snapshot files: a header naming the first log segment not covered by the snapshot, the
+ * framed entities, and a trailer holding their count.
+ *
+ * <p>A snapshot is written to a temporary file, forced, and atomically renamed, so a snapshot file is either
+ * complete or absent. It is read through memory-mapped windows, without copying the file into the heap.</p>
+ */
+final class Snapshots {
+
+    private static final int MAGIC = 0x4A4E5351;
+
+    private static final int VERSION = 1;
+
+    private static final int END = -1;
+
+    private static final long WINDOW = 1L << 30;
+
+    private static final String PREFIX = "snapshot-";
+
+    private static final String SUFFIX = ".dat";
+
+    static final String TEMPORARY = ".tmp";
+
+    private Snapshots() {
+    }
+
+    static void write(Path directory, long segment, Stream<MemoryEntity> entities) throws IOException {
+        Path target = path(directory, segment);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(segment);
+            long count = 0;
+            for (Iterator<MemoryEntity> iterator = entities.iterator(); iterator.hasNext(); count++) {
+                byte[] payload = EntityCodec.encode(iterator.next());
+                output.writeInt(payload.length);
+                output.writeInt(Frames.checksum(payload));
+                output.write(payload);
+            }
+            output.writeInt(END);
+            output.writeLong(count);
+            output.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(directory);
+    }
+
+    /**
+     * Reads a snapshot, passing each entity to the consumer, and returns the first log segment to replay.
+     */
+    static long read(Path file, Consumer<MemoryEntity> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Window window = new Window(channel, file);
+            window.ensure(Integer.BYTES * 2 + Long.BYTES);
+            if (window.buffer.getInt() != MAGIC || window.buffer.getInt() != VERSION) {
+                throw new IOException("Not a snapshot of a supported version: " + file);
+            }
+            long segment = window.buffer.getLong();
+            long count = 0;
+            while (true) {
+                window.ensure(Integer.BYTES);
+                int length = window.buffer.getInt();
+                if (length == END) {
+                    window.ensure(Long.BYTES);
+                    if (window.buffer.getLong() != count) {
+                        throw new IOException("Incomplete snapshot: " + file);
+                    }
+                    return segment;
+                }
+                if (length < 0) {
+                    throw new IOException("Corrupt snapshot: " + file);
+                }
+                window.ensure(Integer.BYTES + length);
+                int checksum = window.buffer.getInt();
+                byte[] payload = new byte[length];
+                window.buffer.get(payload);
+                if (Frames.checksum(payload) != checksum) {
+                    throw new IOException("Corrupt snapshot: " + file);
+                }
+                consumer.accept(EntityCodec.decode(payload));
+                count++;
+            }
+        }
+    }
+
+    static List<Long> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static void discardBefore(Path directory, long segment) throws IOException {
+        for (long existing : list(directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(path(directory, existing));
+            }
+        }
+    }
+
+    static Path path(Path directory, long segment) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, segment, SUFFIX));
+    }
+
+    /**
+     * Forces a directory so that created, renamed, and deleted entries survive a crash. Platforms that
+     * cannot open a directory ignore it.
+     */
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException exception) {
+            // not supported on this platform
+        }
+    }
+
+    private static final class Window {
+
+        private final FileChannel channel;
+
+        private final Path file;
+
+        private final long size;
+
+        private long base;
+
+        private MappedByteBuffer buffer;
+
+        private Window(FileChannel channel, Path file) throws IOException {
+            this.channel = channel;
+            this.file = file;
+            this.size = channel.size();
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, WINDOW));
+        }
+
+        /**
+         * Maps the next window when fewer than the requested bytes remain in the current one.
+         */
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            base += buffer.position();
+            if (base + bytes > size) {
+                throw new IOException("Truncated snapshot: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(size - base, Math.max(WINDOW, bytes)));
+        }
+    }
+}
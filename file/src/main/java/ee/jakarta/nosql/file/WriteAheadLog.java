@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.EntityCodec;
+import ee.jakarta.nosql.memory.Journal;
+import ee.jakarta.nosql.memory.MemoryDatabaseManager;
+import ee.jakarta.nosql.memory.MemoryEntity;
+import ee.jakarta.nosql.memory.MemoryKey;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The write-ahead log of a database: a sequence of numbered segment files holding framed records, each
+ * either a stored entity or a removed identifier.
+ *
+ * <p>Segments are bounded in size, so that recovery reads each one in memory. Appends are serialized and written to the operating system immediately; {@link #commit()} then forces
+ * them according to the {@link FsyncPolicy}, or to the policy a thread runs under through
+ * {@link #scoped(FsyncPolicy, Supplier)}. With {@link FsyncPolicy#GROUPED}, the first thread to commit forces
+ * the log on behalf of every thread that appended before the force started.</p>
+ */
+final class WriteAheadLog implements Journal, Closeable {
+
+    private static final byte PUT = 1;
+
+    private static final byte REMOVE = 2;
+
+    private static final String PREFIX = "wal-";
+
+    private static final String SUFFIX = ".log";
+
+    private static final long SEGMENT_SIZE = 256L * 1024 * 1024;
+
+    private final Path directory;
+
+    private final FsyncPolicy policy;
+
+    private final long threshold;
+
+    private final Runnable onThreshold;
+
+    private final Object appendLock = new Object();
+
+    private final Object durabilityLock = new Object();
+
+    private final ThreadLocal<FsyncPolicy> scopedPolicy = new ThreadLocal<>();
+
+    private FileChannel channel;
+
+    private long segment;
+
+    private IOException failure;
+
+    private volatile long appended;
+
+    private volatile long pending;
+
+    private volatile boolean replaying = true;
+
+    private long durable;
+
+    private boolean forcing;
+
+    WriteAheadLog(Path directory, FsyncPolicy policy, long threshold, Runnable onThreshold) {
+        this.directory = directory;
+        this.policy = policy;
+        this.threshold = threshold;
+        this.onThreshold = onThreshold;
+    }
+
+    @Override
+    public void put(MemoryEntity entity) {
+        if (replaying) {
+            return;
+        }
+        append(PUT, output -> EntityCodec.write(entity, output));
+    }
+
+    @Override
+    public void remove(String collection, Object id) {
+        if (replaying) {
+            return;
+        }
+        append(REMOVE, output -> {
+            output.writeUTF(collection);
+            EntityCodec.writeValue(id, output);
+        });
+    }
+
+    @Override
+    public void commit() {
+        if (replaying) {
+            return;
+        }
+        FsyncPolicy scoped = scopedPolicy.get();
+        try {
+            switch (scoped == null ? policy : scoped) {
+                case PER_WRITE -> {
+                    synchronized (appendLock) {
+                        ensureOpen();
+                        channel.force(false);
+                        markDurable(appended);
+                    }
+                }
+                case GROUPED -> awaitDurable(appended);
+                case PERIODIC -> {
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (threshold > 0 && pending >= threshold) {
+            onThreshold.run();
+        }
+    }
+
+    FsyncPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Runs an operation whose commits force the log according to another policy than the configured one.
+     */
+    <R> R scoped(FsyncPolicy scoped, Supplier<R> operation) {
+        FsyncPolicy previous = scopedPolicy.get();
+        scopedPolicy.set(scoped);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                scopedPolicy.remove();
+            } else {
+                scopedPolicy.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Replays the segments numbered from the given one into a manager, truncating an incomplete record at the
+     * end of the last segment, left by a crash during an append.
+     *
+     * @return the number of bytes replayed
+     */
+    long replay(long from, MemoryDatabaseManager target) throws IOException {
+        List<Long> segments = segments(directory).stream().filter(number -> number >= from).toList();
+        long bytes = 0;
+        for (int index = 0; index < segments.size(); index++) {
+            Path file = path(directory, segments.get(index));
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            byte[] payload;
+            while ((payload = Frames.next(buffer)) != null) {
+                apply(payload, target);
+            }
+            if (buffer.hasRemaining()) {
+                if (index < segments.size() - 1) {
+                    throw new IOException("Corrupt record at offset " + buffer.position() + " of " + file);
+                }
+                try (FileChannel truncated = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    truncated.truncate(buffer.position());
+                    truncated.force(true);
+                }
+            }
+            bytes += buffer.position();
+        }
+        this.pending = bytes;
+        return bytes;
+    }
+
+    /**
+     * Starts appending to a new segment, numbered after any existing one.
+     */
+    void start(long minimum) throws IOException {
+        List<Long> segments = segments(directory);
+        long next = Math.max(minimum, segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1);
+        synchronized (appendLock) {
+            open(next);
+        }
+        replaying = false;
+    }
+
+    /**
+     * Forces the current segment and starts a new one, returning its number. Every record appended before the
+     * roll is in a lower-numbered segment.
+     */
+    long roll() {
+        long end;
+        synchronized (appendLock) {
+            try {
+                ensureOpen();
+                next();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            end = appended;
+            pending = 0;
+        }
+        markDurable(end);
+        return segment;
+    }
+
+    /**
+     * Deletes the segments numbered below the given one.
+     */
+    void discardBefore(long number) throws IOException {
+        for (long existing : segments(directory)) {
+            if (existing < number) {
+                Files.deleteIfExists(path(directory, existing));
+            }
+        }
+    }
+
+    /**
+     * Forces every record appended so far.
+     */
+    void force() throws IOException {
+        long end;
+        FileChannel current;
+        synchronized (appendLock) {
+            ensureOpen();
+            end = appended;
+            current = channel;
+        }
+        try {
+            current.force(false);
+        } catch (ClosedChannelException exception) {
+            // the segment was forced when it was rolled or closed
+        }
+        markDurable(end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (channel != null) {
+                try {
+                    channel.force(false);
+                } finally {
+                    channel.close();
+                    channel = null;
+                }
+            }
+        }
+        markDurable(appended);
+    }
+
+    private void append(byte type, Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(type);
+            writer.write(output);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        ByteBuffer frame = Frames.frame(bytes.toByteArray());
+        int size = frame.remaining();
+        synchronized (appendLock) {
+            try {
+                ensureOpen();
+                long start = channel.position();
+                try {
+                    while (frame.hasRemaining()) {
+                        channel.write(frame);
+                    }
+                } catch (IOException exception) {
+                    rewind(start, exception);
+                    throw exception;
+                }
+                if (channel.position() >= SEGMENT_SIZE) {
+                    next();
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            appended += size;
+            pending += size;
+        }
+    }
+
+    private void rewind(long start, IOException cause) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException exception) {
+            cause.addSuppressed(exception);
+            failure = cause;
+        }
+    }
+
+    private void awaitDurable(long target) throws IOException {
+        while (true) {
+            synchronized (durabilityLock) {
+                while (forcing && durable < target) {
+                    try {
+                        durabilityLock.wait();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for the write-ahead log");
+                    }
+                }
+                if (durable >= target) {
+                    return;
+                }
+                forcing = true;
+            }
+            try {
+                force();
+            } finally {
+                synchronized (durabilityLock) {
+                    forcing = false;
+                    durabilityLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void markDurable(long end) {
+        synchronized (durabilityLock) {
+            if (end > durable) {
+                durable = end;
+                durabilityLock.notifyAll();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (failure != null) {
+            throw new IOException("The write-ahead log failed and no longer accepts writes", failure);
+        }
+        if (channel == null) {
+            throw new IllegalStateException("The write-ahead log of " + directory + " is closed");
+        }
+    }
+
+    private void next() throws IOException {
+        channel.force(false);
+        channel.close();
+        open(segment + 1);
+    }
+
+    private void open(long number) throws IOException {
+        this.channel = FileChannel.open(path(directory, number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.segment = number;
+        Snapshots.syncDirectory(directory);
+    }
+
+    private static void apply(byte[] payload, MemoryDatabaseManager target) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = input.readByte();
+        switch (type) {
+            case PUT -> target.insert(EntityCodec.read(input));
+            case REMOVE -> target.deleteById(MemoryKey.of(input.readUTF(), EntityCodec.readValue(input)));
+            default -> throw new IOException("Unknown record type: " + type);
+        }
+    }
+
+    static List<Long> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static Path path(Path directory, long number) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, number, SUFFIX));
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream output) throws IOException;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+/**
+ * An embedded, durable implementation of the {@code jakarta.nosql.communication.spi} interfaces, persisting
+ * to local files without a server.
+ *
+ * <p>Every change is appended to a write-ahead log before it is applied; the log is periodically compacted
+ * into a memory-mapped snapshot file. Queries run on the {@code ee.jakarta.nosql.memory} provider holding the
+ * current state.</p>
+ */
+package ee.jakarta.nosql.file;
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.file;
+
+import ee.jakarta.nosql.memory.MemoryEntity;
+import ee.jakarta.nosql.memory.MemoryKey;
+import jakarta.nosql.Capability;
+import jakarta.nosql.WriteDurability;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardUpdate;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class FileDatabaseManagerTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    void shouldRecoverFromLog(FsyncPolicy fsync) {
+        FileConfiguration configuration = FileConfiguration.of(directory).withFsync(fsync).withCompactionThreshold(0);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            for (int index = 0; index < 100; index++) {
+                manager.insert(person(index));
+            }
+            manager.deleteById(MemoryKey.of("Person", 7));
+            manager.update().from("Person").set(StandardUpdate.set("age", 0)).where(StandardCondition.lt("age", 10)).execute();
+        }
+
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(manager.count("Person")).isEqualTo(99);
+                soft.assertThat(manager.findById(MemoryKey.of("Person", 7))).isEmpty();
+                soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("age", 0)).fetch()).hasSize(19);
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(WriteDurability.class)
+    void shouldRecoverWritesAtEveryDurability(WriteDurability durability) {
+        FileConfiguration configuration = FileConfiguration.of(directory).withFsync(FsyncPolicy.PERIODIC)
+                .withFsyncInterval(Duration.ofHours(1)).withCompactionThreshold(0);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            DatabaseManager<MemoryEntity> manager = factory.database("library").durability(durability);
+            for (int index = 0; index < 100; index++) {
+                manager.insert(person(index));
+            }
+            manager.deleteById(MemoryKey.of("Person", 7));
+            manager.delete().from("Person").where(StandardCondition.eq("age", 49)).or(StandardCondition.eq("age", 48)).execute();
+            manager.update().from("Person").set(StandardUpdate.set("age", 0)).where(StandardCondition.lt("age", 10)).execute();
+            Assertions.assertThat(manager.capabilities().supports(Capability.WRITE_DURABILITY)).isTrue();
+        }
+
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(manager.count("Person")).isEqualTo(95);
+                soft.assertThat(manager.findById(MemoryKey.of("Person", 7))).isEmpty();
+                soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("age", 0)).fetch()).hasSize(19);
+            });
+        }
+    }
+
+    @Test
+    void shouldCompactIntoSnapshot() throws IOException {
+        FileConfiguration configuration = FileConfiguration.of(directory).withCompactionThreshold(0);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            for (int index = 0; index < 100; index++) {
+                manager.insert(person(index));
+            }
+            manager.compact();
+            manager.insert(person(100));
+        }
+
+        Assertions.assertThat(files("snapshot-")).hasSize(1);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            Assertions.assertThat(factory.database("library").count("Person")).isEqualTo(101);
+        }
+    }
+
+    @Test
+    void shouldDiscardIncompleteRecord() throws IOException {
+        FileConfiguration configuration = FileConfiguration.of(directory).withCompactionThreshold(0);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            manager.insert(person(1));
+            manager.insert(person(2));
+        }
+        Path log = files("wal-").reduce((first, second) -> second).orElseThrow();
+        byte[] bytes = Files.readAllBytes(log);
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 3));
+
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration)) {
+            FileDatabaseManager manager = factory.database("library");
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(manager.findById(MemoryKey.of("Person", 1))).isPresent();
+                soft.assertThat(manager.findById(MemoryKey.of("Person", 2))).isEmpty();
+            });
+        }
+    }
+
+    @Test
+    void shouldLockDirectory() {
+        FileConfiguration configuration = FileConfiguration.of(directory);
+        try (FileDatabaseManagerFactory factory = new FileDatabaseManagerFactory(configuration);
+             FileDatabaseManagerFactory other = new FileDatabaseManagerFactory(configuration)) {
+            factory.database("library");
+            Assertions.assertThatThrownBy(() -> other.database("library")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private Stream<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("library"))) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList().stream();
+        }
+    }
+
+    private static MemoryEntity person(int id) {
+        return MemoryEntity.of("Person", Map.of(MemoryEntity.ID, id, "age", id % 50, "name", "person-" + id));
+    }
+}
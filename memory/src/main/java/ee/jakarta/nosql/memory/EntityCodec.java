@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serializes {@link MemoryEntity} structures to a compact binary form, for providers that store entities
+ * outside the heap or on disk.
+ *
+ * <p>Field values may be {@code null}, booleans, the primitive wrapper numbers, {@link BigInteger},
+ * {@link BigDecimal}, strings, {@link UUID}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime},
+ * byte arrays, and collections and string-keyed maps of those types. Collections are read back as lists,
+ * and enums are written as their name.</p>
+ *
+ * <pre>{@code
+ * byte[] bytes = EntityCodec.encode(entity);
+ * MemoryEntity copy = EntityCodec.decode(bytes);
+ * }</pre>
+ */
+public final class EntityCodec {
+
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int BYTE = 3;
+    private static final int SHORT = 4;
+    private static final int INTEGER = 5;
+    private static final int LONG = 6;
+    private static final int FLOAT = 7;
+    private static final int DOUBLE = 8;
+    private static final int BIG_INTEGER = 9;
+    private static final int BIG_DECIMAL = 10;
+    private static final int STRING = 11;
+    private static final int UUID_VALUE = 12;
+    private static final int INSTANT = 13;
+    private static final int LOCAL_DATE = 14;
+    private static final int LOCAL_DATE_TIME = 15;
+    private static final int BYTES = 16;
+    private static final int LIST = 17;
+    private static final int MAP = 18;
+
+    private EntityCodec() {
+    }
+
+    /**
+     * Encodes an entity.
+     *
+     * @param entity the entity
+     * @return the encoded entity
+     * @throws IllegalArgumentException when a field holds an unsupported type
+     */
+    public static byte[] encode(MemoryEntity entity) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            write(entity, output);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes an entity.
+     *
+     * @param bytes the encoded entity
+     * @return the entity
+     * @throws UncheckedIOException when the bytes are not a valid encoding
+     */
+    public static MemoryEntity decode(byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Writes an entity.
+     *
+     * @param entity the entity
+     * @param output the output
+     * @throws IOException              when the output fails
+     * @throws IllegalArgumentException when a field holds an unsupported type
+     */
+    public static void write(MemoryEntity entity, DataOutput output) throws IOException {
+        output.writeUTF(entity.name());
+        output.writeInt(entity.fields().size());
+        for (Map.Entry<String, Object> field : entity.fields().entrySet()) {
+            output.writeUTF(field.getKey());
+            writeValue(field.getValue(), output);
+        }
+    }
+
+    /**
+     * Reads an entity.
+     *
+     * @param input the input
+     * @return the entity
+     * @throws IOException when the input fails or holds an invalid encoding
+     */
+    public static MemoryEntity read(DataInput input) throws IOException {
+        String name = input.readUTF();
+        int size = input.readInt();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (int index = 0; index < size; index++) {
+            fields.put(input.readUTF(), readValue(input));
+        }
+        return new MemoryEntity(name, fields);
+    }
+
+    /**
+     * Writes a single value.
+     *
+     * @param value  the value
+     * @param output the output
+     * @throws IOException              when the output fails
+     * @throws IllegalArgumentException when the value has an unsupported type
+     */
+    public static void writeValue(Object value, DataOutput output) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean bool) {
+            output.writeByte(bool ? TRUE : FALSE);
+        } else if (value instanceof Byte number) {
+            output.writeByte(BYTE);
+            output.writeByte(number);
+        } else if (value instanceof Short number) {
+            output.writeByte(SHORT);
+            output.writeShort(number);
+        } else if (value instanceof Integer number) {
+            output.writeByte(INTEGER);
+            output.writeInt(number);
+        } else if (value instanceof Long number) {
+            output.writeByte(LONG);
+            output.writeLong(number);
+        } else if (value instanceof Float number) {
+            output.writeByte(FLOAT);
+            output.writeFloat(number);
+        } else if (value instanceof Double number) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(number);
+        } else if (value instanceof BigInteger number) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(number.toByteArray(), output);
+        } else if (value instanceof BigDecimal number) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(number.scale());
+            writeBytes(number.unscaledValue().toByteArray(), output);
+        } else if (value instanceof CharSequence || value instanceof Enum<?>) {
+            output.writeByte(STRING);
+            writeString(value instanceof Enum<?> constant ? constant.name() : value.toString(), output);
+        } else if (value instanceof UUID uuid) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(uuid.getMostSignificantBits());
+            output.writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Instant instant) {
+            output.writeByte(INSTANT);
+            output.writeLong(instant.getEpochSecond());
+            output.writeInt(instant.getNano());
+        } else if (value instanceof LocalDate date) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(dateTime.toLocalDate().toEpochDay());
+            output.writeLong(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof byte[] bytes) {
+            output.writeByte(BYTES);
+            writeBytes(bytes, output);
+        } else if (value instanceof Collection<?> collection) {
+            output.writeByte(LIST);
+            output.writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element, output);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String key)) {
+                    throw new IllegalArgumentException("Map keys must be strings: " + entry.getKey());
+                }
+                writeString(key, output);
+                writeValue(entry.getValue(), output);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported field type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a single value.
+     *
+     * @param input the input
+     * @return the value
+     * @throws IOException when the input fails or holds an invalid encoding
+     */
+    public static Object readValue(DataInput input) throws IOException {
+        int tag = input.readUnsignedByte();
+        return switch (tag) {
+            case NULL -> null;
+            case FALSE -> Boolean.FALSE;
+            case TRUE -> Boolean.TRUE;
+            case BYTE -> input.readByte();
+            case SHORT -> input.readShort();
+            case INTEGER -> input.readInt();
+            case LONG -> input.readLong();
+            case FLOAT -> input.readFloat();
+            case DOUBLE -> input.readDouble();
+            case BIG_INTEGER -> new BigInteger(readBytes(input));
+            case BIG_DECIMAL -> {
+                int scale = input.readInt();
+                yield new BigDecimal(new BigInteger(readBytes(input)), scale);
+            }
+            case STRING -> readString(input);
+            case UUID_VALUE -> new UUID(input.readLong(), input.readLong());
+            case INSTANT -> Instant.ofEpochSecond(input.readLong(), input.readInt());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()),
+                    LocalTime.ofNanoOfDay(input.readLong()));
+            case BYTES -> readBytes(input);
+            case LIST -> {
+                int size = input.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int index = 0; index < size; index++) {
+                    list.add(readValue(input));
+                }
+                yield list;
+            }
+            case MAP -> {
+                int size = input.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int index = 0; index < size; index++) {
+                    map.put(readString(input), readValue(input));
+                }
+                yield map;
+            }
+            default -> throw new IOException("Unknown value tag: " + tag);
+        };
+    }
+
+    private static void writeString(String value, DataOutput output) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), output);
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return new String(readBytes(input), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput output) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.DeleteExecutor;
+import jakarta.nosql.communication.spi.OperationListeners;
+import jakarta.nosql.communication.spi.QueryDeadline;
+import jakarta.nosql.communication.spi.Reservoir;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates queries on the client for a provider that can only scan a collection, such as a key-value
+ * store, with the same executors and semantics as {@link MemoryDatabaseManager}.
+ *
+ * <p>Conditions are rewritten and compiled to predicates once per query, then applied to the scan as it is
+ * streamed. Without an ordering, skip and limit are applied to the stream, so a limited query stops reading
+ * once it has enough entities. With an ordering and a limit, only the {@code skip + limit} best entities are
+ * kept, in a bounded heap; only an ordering without a limit keeps every matching entity. Delete and update
+ * operations read the matching entities first, then pass each one to the provider. A parallel fetch makes
+ * the scan parallel, which splits it when the provider builds it with a
+ * {@link jakarta.nosql.communication.spi.ScanPartition} spliterator.</p>
+ *
+ * <pre>{@code
+ * FallbackQueryEngine engine = new FallbackQueryEngine(this::scan, this::update, this::delete);
+ *
+ * public SelectExecutor<MemoryEntity> select() {
+ *     return engine.select();
+ * }
+ * }</pre>
+ *
+ * <p>Every query reads the whole collection, so the engine suits small and medium collections; it is meant
+ * to be enabled explicitly rather than to hide the cost of a scan.</p>
+ */
+public final class FallbackQueryEngine {
+
+    private final QueryTarget queries;
+
+    /**
+     * Creates an engine notifying the {@linkplain OperationListeners#discovered() discovered} operation
+     * listeners.
+     *
+     * @param scan    returns the entities of a collection, read lazily when possible
+     * @param writer  stores an entity changed by an update or by a delete of fields
+     * @param remover removes an entity matched by a delete
+     * @throws NullPointerException when any parameter is null
+     */
+    public FallbackQueryEngine(Function<String, Stream<MemoryEntity>> scan, Consumer<MemoryEntity> writer,
+                               Consumer<MemoryEntity> remover) {
+        this(scan, writer, remover, OperationListeners.discovered());
+    }
+
+    /**
+     * Creates an engine notifying the given operation listeners around each query.
+     *
+     * @param scan      returns the entities of a collection, read lazily when possible
+     * @param writer    stores an entity changed by an update or by a delete of fields
+     * @param remover   removes an entity matched by a delete
+     * @param listeners the listeners to notify
+     * @throws NullPointerException when any parameter is null
+     */
+    public FallbackQueryEngine(Function<String, Stream<MemoryEntity>> scan, Consumer<MemoryEntity> writer,
+                               Consumer<MemoryEntity> remover, OperationListeners listeners) {
+        this.queries = new ObservedQueries(new ScanQueries(Objects.requireNonNull(scan, "scan is required"),
+                Objects.requireNonNull(writer, "writer is required"),
+                Objects.requireNonNull(remover, "remover is required")),
+                Objects.requireNonNull(listeners, "listeners is required"));
+    }
+
+    /**
+     * Creates a select operation.
+     *
+     * @return a select executor evaluated over a scan
+     */
+    public SelectExecutor<MemoryEntity> select() {
+        return new MemorySelectExecutor(queries, Set.of());
+    }
+
+    /**
+     * Creates a select operation returning only the identifier and the named fields of each entity.
+     *
+     * @param names the fields to return
+     * @return a select executor evaluated over a scan
+     */
+    public SelectExecutor<MemoryEntity> select(String... names) {
+        return new MemorySelectExecutor(queries, Set.of(names));
+    }
+
+    /**
+     * Creates a delete operation.
+     *
+     * @return a delete executor evaluated over a scan
+     */
+    public DeleteExecutor delete() {
+        return new MemoryDeleteExecutor(queries, Set.of());
+    }
+
+    /**
+     * Creates a delete operation removing the named fields from the matching entities.
+     *
+     * @param names the fields to remove
+     * @return a delete executor evaluated over a scan
+     */
+    public DeleteExecutor delete(String... names) {
+        return new MemoryDeleteExecutor(queries, Set.of(names));
+    }
+
+    /**
+     * Creates an update operation.
+     *
+     * @return an update executor evaluated over a scan
+     */
+    public UpdateExecutor update() {
+        return new MemoryUpdateExecutor(queries);
+    }
+
+    private record ScanQueries(Function<String, Stream<MemoryEntity>> scan, Consumer<MemoryEntity> writer,
+                               Consumer<MemoryEntity> remover) implements QueryTarget {
+
+        @Override
+        public Stream<MemoryEntity> select(MemoryQuery query) {
+            QueryDeadline deadline = query.deadline();
+            Stream<MemoryEntity> result = deadline == null ? matches(query) : deadline.guard(matches(query));
+            if (!query.orders().isEmpty()) {
+                result = TopK.sorted(result, query.comparator(), query.skip(), query.limit());
+            } else {
+                if (query.skip() > 0) {
+                    result = result.skip(query.skip());
+                }
+                if (query.limit() >= 0) {
+                    result = result.limit(query.limit());
+                }
+            }
+            if (query.projection() != null && !query.projection().isEmpty()) {
+                result = result.map(entity -> entity.project(query.projection()));
+            }
+            return result;
+        }
+
+        @Override
+        public List<MemoryEntity> sample(MemoryQuery query, long n) {
+            return Reservoir.sample(select(query), n);
+        }
+
+        @Override
+        public Stream<Object> ids(MemoryQuery query) {
+            return select(query).map(MemoryEntity::id);
+        }
+
+        @Override
+        public Stream<Object> distinct(MemoryQuery query, String field) {
+            return select(query).map(entity -> entity.get(field)).filter(Objects::nonNull).map(Values::key).distinct();
+        }
+
+        @Override
+        public long count(MemoryQuery query, long max) {
+            QueryDeadline deadline = query.deadline();
+            try (Stream<MemoryEntity> matches = matches(query)) {
+                Stream<MemoryEntity> result = deadline == null ? matches : deadline.guard(matches);
+                if (query.skip() > 0) {
+                    result = result.skip(query.skip());
+                }
+                if (query.limit() >= 0) {
+                    result = result.limit(query.limit());
+                }
+                return result.limit(max).count();
+            }
+        }
+
+        @Override
+        public void removeIf(MemoryQuery query) {
+            collect(query).forEach(remover);
+        }
+
+        @Override
+        public void replaceIf(MemoryQuery query, UnaryOperator<MemoryEntity> change) {
+            collect(query).forEach(entity -> writer.accept(change.apply(entity)));
+        }
+
+        private Stream<MemoryEntity> matches(MemoryQuery query) {
+            if (query.matchesNothing()) {
+                return Stream.empty();
+            }
+            Stream<MemoryEntity> entities = scan.apply(query.collection());
+            if (query.parallel()) {
+                entities = entities.parallel();
+            }
+            return query.predicate() == null ? entities : entities.filter(query.predicate());
+        }
+
+        private List<MemoryEntity> collect(MemoryQuery query) {
+            try (Stream<MemoryEntity> matches = matches(query)) {
+                return matches.toList();
+            }
+        }
+    }
+}
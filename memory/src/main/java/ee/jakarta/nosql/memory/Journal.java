@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+/**
+ * Receives every change of a {@link MemoryDatabaseManager} before it is applied, so that the changes can be
+ * written ahead to durable storage.
+ *
+ * <p>{@link #put(MemoryEntity)} and {@link #remove(String, Object)} are called with the collection locked,
+ * in the order the changes are applied. When either throws, the change is not applied and the exception
+ * propagates to the caller.</p>
+ *
+ * <pre>{@code
+ * MemoryDatabaseManager manager = MemoryDatabaseManager.journaled("library", writeAheadLog);
+ * }</pre>
+ */
+public interface Journal {
+
+    /**
+     * A journal discarding every change.
+     */
+    Journal NONE = new Journal() {
+        @Override
+        public void put(MemoryEntity entity) {
+        }
+
+        @Override
+        public void remove(String collection, Object id) {
+        }
+    };
+
+    /**
+     * Records that an entity is stored, replacing any entity with the same identifier.
+     *
+     * @param entity the stored entity
+     */
+    void put(MemoryEntity entity);
+
+    /**
+     * Records that an existing entity is removed.
+     *
+     * @param collection the collection name
+     * @param id         the identifier of the removed entity
+     */
+    void remove(String collection, Object id);
+
+    /**
+     * Called once a write operation has applied its changes and released the collection lock; returns when
+     * the changes recorded so far are durable. An operation changing many entities, such as an
+     * {@code insert} of an {@link Iterable}, commits once.
+     */
+    default void commit() {
+    }
+}
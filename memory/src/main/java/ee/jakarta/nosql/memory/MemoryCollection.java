@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.communication.spi.MembershipFilter;
+import jakarta.nosql.communication.spi.QueryDeadline;
+import jakarta.nosql.communication.spi.Reservoir;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * The entities of one collection, keyed by identifier, and their secondary indexes.
+ *
+ * <p>Writes are serialized per collection so that indexes stay consistent with the entities, and are passed
+ * to the {@link Journal} before they are applied and to the change listener after; reads are lock-free and
+ * weakly consistent.</p>
+ *
+ * <p>A {@link MembershipFilter} of the identifiers answers lookups of absent identifiers without probing the
+ * entities. Removed identifiers stay in the filter; it is rebuilt from the current identifiers, twice as large,
+ * once its false positive rate exceeds {@value #FALSE_POSITIVE_RATE}.</p>
+ */
+final class MemoryCollection {
+
+    private static final int EQUALITY = 0;
+
+    private static final int MEMBERSHIP = 1;
+
+    private static final int RANGE = 2;
+
+    private static final long INITIAL_IDS = 1024;
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final String name;
+
+    private final ConcurrentMap<Object, MemoryEntity> entities = new ConcurrentHashMap<>();
+
+    private volatile MembershipFilter<Object> ids = MembershipFilter.bloom(INITIAL_IDS, FALSE_POSITIVE_RATE);
+
+    private final ConcurrentMap<String, MemoryIndex> indexes = new ConcurrentHashMap<>();
+
+    private final Journal journal;
+
+    private final Lock writes;
+
+    private final Consumer<ChangeEvent<MemoryEntity>> changes;
+
+    MemoryCollection(String name, Journal journal, Lock writes, Consumer<ChangeEvent<MemoryEntity>> changes) {
+        this.name = name;
+        this.journal = journal;
+        this.writes = writes;
+        this.changes = changes;
+    }
+
+    String name() {
+        return name;
+    }
+
+    long size() {
+        return entities.size();
+    }
+
+    Optional<MemoryEntity> get(Object id) {
+        Object key = Values.key(id);
+        if (!ids.mightContain(key)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entities.get(key));
+    }
+
+    synchronized MemoryEntity put(MemoryEntity entity) {
+        Object id = Values.key(entity.id());
+        writes.lock();
+        try {
+            journal.put(entity);
+            ids.add(id);
+            MemoryEntity previous = entities.put(id, entity);
+            if (previous == null && ids.falsePositiveRate() > FALSE_POSITIVE_RATE) {
+                ids = MembershipFilter.bloom(entities.keySet().stream(), Math.max(INITIAL_IDS, 2L * entities.size()),
+                        FALSE_POSITIVE_RATE);
+            }
+            for (MemoryIndex index : indexes.values()) {
+                if (previous != null) {
+                    index.remove(previous, id);
+                }
+                index.add(entity, id);
+            }
+            changes.accept(previous == null ? ChangeEvent.inserted(entity.id(), entity) : ChangeEvent.updated(entity.id(), entity));
+        } finally {
+            writes.unlock();
+        }
+        return entity;
+    }
+
+    synchronized Optional<MemoryEntity> remove(Object id) {
+        Object key = Values.key(id);
+        MemoryEntity previous = entities.get(key);
+        if (previous != null) {
+            writes.lock();
+            try {
+                journal.remove(name, previous.id());
+                entities.remove(key);
+                indexes.values().forEach(index -> index.remove(previous, key));
+                changes.accept(ChangeEvent.deleted(previous.id()));
+            } finally {
+                writes.unlock();
+            }
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    synchronized long removeIf(MemoryQuery query) {
+        List<MemoryEntity> matches = candidates(query).toList();
+        matches.forEach(entity -> remove(entity.id()));
+        return matches.size();
+    }
+
+    synchronized long replaceIf(MemoryQuery query, UnaryOperator<MemoryEntity> change) {
+        List<MemoryEntity> matches = candidates(query).toList();
+        matches.forEach(entity -> put(change.apply(entity)));
+        return matches.size();
+    }
+
+    synchronized void createIndex(String field, IndexType type) {
+        MemoryIndex current = indexes.get(field);
+        if (current != null && current.type() == type) {
+            return;
+        }
+        MemoryIndex index = new MemoryIndex(field, type);
+        entities.forEach((id, entity) -> index.add(entity, id));
+        indexes.put(field, index);
+    }
+
+    synchronized boolean dropIndex(String field) {
+        return indexes.remove(field) != null;
+    }
+
+    Map<String, IndexType> indexes() {
+        Map<String, IndexType> types = new HashMap<>();
+        indexes.forEach((field, index) -> types.put(field, index.type()));
+        return Map.copyOf(types);
+    }
+
+    /**
+     * Executes a query. A sorted index answers the ordering when it covers every entity and either the query
+     * is limited or no index narrows the condition; otherwise the candidates are sorted after filtering, and a
+     * limited query keeps only the entities it may return.
+     */
+    Stream<MemoryEntity> select(MemoryQuery query) {
+        if (query.matchesNothing()) {
+            return Stream.empty();
+        }
+        QueryDeadline deadline = query.deadline();
+        StandardCondition condition = query.condition();
+        Predicate<MemoryEntity> predicate = query.predicate();
+        List<StandardOrder> orders = query.orders();
+        Stream<MemoryEntity> result;
+        MemoryIndex orderIndex = orders.size() == 1 ? orderIndex(orders.get(0)) : null;
+        if (orderIndex != null && (query.limit() >= 0 || plan(condition) == null)) {
+            result = orderIndex.ordered(orders.get(0).ascending()).map(entities::get).filter(Objects::nonNull);
+            if (query.parallel()) {
+                result = result.parallel();
+            }
+            if (deadline != null) {
+                result = deadline.guard(result);
+            }
+            if (predicate != null) {
+                result = result.filter(predicate);
+            }
+            result = page(result, query);
+        } else if (!orders.isEmpty()) {
+            result = TopK.sorted(guard(candidates(query), deadline), query.comparator(), query.skip(), query.limit());
+        } else {
+            result = page(guard(candidates(query), deadline), query);
+        }
+        if (query.projection() != null && !query.projection().isEmpty()) {
+            result = result.map(entity -> entity.project(query.projection()));
+        }
+        return result;
+    }
+
+    /**
+     * Draws a uniform random sample of the entities a query returns. The order of the entities does not change
+     * the sample, so an unpaged query samples the candidates without sorting them, and projects only the drawn
+     * entities.
+     */
+    List<MemoryEntity> sample(MemoryQuery query, long n) {
+        if (query.skip() > 0 || query.limit() >= 0) {
+            return Reservoir.sample(select(query), n);
+        }
+        List<MemoryEntity> drawn = Reservoir.sample(guard(candidates(query), query.deadline()), n);
+        if (query.projection() == null || query.projection().isEmpty()) {
+            return drawn;
+        }
+        return drawn.stream().map(entity -> entity.project(query.projection())).toList();
+    }
+
+    /**
+     * Returns the identifiers of the entities a query returns, in their order. An unordered query reads them from
+     * the candidates, without sorting or projecting the entities.
+     */
+    Stream<Object> ids(MemoryQuery query) {
+        if (query.orders().isEmpty()) {
+            return page(guard(candidates(query), query.deadline()), query).map(MemoryEntity::id);
+        }
+        return select(query).map(MemoryEntity::id);
+    }
+
+    /**
+     * Returns the distinct non-null values of a field of the entities a query returns, normalized as index keys.
+     * A query without a condition, ordering, or pagination reads the values of an index on the field.
+     */
+    Stream<Object> distinct(MemoryQuery query, String field) {
+        MemoryIndex index = indexes.get(field);
+        if (index != null && query.condition() == null && query.orders().isEmpty() && query.skip() == 0
+                && query.limit() < 0) {
+            return index.values();
+        }
+        return select(query).map(entity -> entity.get(field)).filter(Objects::nonNull).map(Values::key).distinct();
+    }
+
+    /**
+     * Counts the entities a query returns, up to {@code max}, without sorting or projecting them. A query
+     * without a condition or pagination is answered by the size of the collection.
+     */
+    long count(MemoryQuery query, long max) {
+        if (query.matchesNothing()) {
+            return 0;
+        }
+        if (query.condition() == null && query.skip() == 0 && query.limit() < 0) {
+            return Math.min(size(), max);
+        }
+        try (Stream<MemoryEntity> result = page(guard(candidates(query), query.deadline()), query)) {
+            return result.limit(max).count();
+        }
+    }
+
+    /**
+     * Returns the entities matching the condition of a query. A parallel query splits the scan of the
+     * collection, or the index lookup, across threads.
+     */
+    private Stream<MemoryEntity> candidates(MemoryQuery query) {
+        StandardCondition condition = query.condition();
+        if (condition == null) {
+            return query.parallel() ? entities.values().parallelStream() : entities.values().stream();
+        }
+        if (query.matchesNothing()) {
+            return Stream.empty();
+        }
+        Plan plan = plan(condition);
+        Stream<MemoryEntity> candidates = plan == null ? entities.values().stream()
+                : plan.ids().get().distinct().map(entities::get).filter(Objects::nonNull);
+        if (query.parallel()) {
+            candidates = candidates.parallel();
+        }
+        return candidates.filter(query.predicate());
+    }
+
+    /**
+     * Chooses the index lookup narrowing a condition the most: equality, then membership, then range.
+     * Only single conditions and conjunctions are planned; anything else is a full scan.
+     */
+    private Plan plan(StandardCondition condition) {
+        if (condition instanceof StandardCondition.And and) {
+            Plan best = null;
+            for (StandardCondition child : and.conditions()) {
+                Plan plan = plan(child);
+                if (plan != null && (best == null || plan.cost() < best.cost())) {
+                    best = plan;
+                }
+            }
+            return best;
+        } else if (condition instanceof StandardCondition.Comparison compare) {
+            MemoryIndex index = indexes.get(compare.field());
+            if (index == null || compare.value() == null) {
+                return null;
+            }
+            Object value = compare.value();
+            return switch (compare.operator()) {
+                case EQ -> new Plan(EQUALITY, () -> index.eq(value));
+                case GT -> index.sorted() ? new Plan(RANGE, () -> index.range(value, false, null, false)) : null;
+                case GTE -> index.sorted() ? new Plan(RANGE, () -> index.range(value, true, null, false)) : null;
+                case LT -> index.sorted() ? new Plan(RANGE, () -> index.range(null, false, value, false)) : null;
+                case LTE -> index.sorted() ? new Plan(RANGE, () -> index.range(null, false, value, true)) : null;
+            };
+        } else if (condition instanceof StandardCondition.Between between) {
+            MemoryIndex index = indexes.get(between.field());
+            return index != null && index.sorted()
+                    ? new Plan(RANGE, () -> index.range(between.low(), true, between.high(), true)) : null;
+        } else if (condition instanceof StandardCondition.In in) {
+            MemoryIndex index = indexes.get(in.field());
+            return index != null && !in.values().contains(null) ? new Plan(MEMBERSHIP, () -> index.in(in.values())) : null;
+        }
+        return null;
+    }
+
+    private MemoryIndex orderIndex(StandardOrder order) {
+        MemoryIndex index = indexes.get(order.field());
+        return index != null && index.sorted() && index.size() == entities.size() ? index : null;
+    }
+
+    private static Stream<MemoryEntity> guard(Stream<MemoryEntity> result, QueryDeadline deadline) {
+        return deadline == null ? result : deadline.guard(result);
+    }
+
+    private static Stream<MemoryEntity> page(Stream<MemoryEntity> result, MemoryQuery query) {
+        if (query.skip() > 0) {
+            result = result.skip(query.skip());
+        }
+        return query.limit() >= 0 ? result.limit(query.limit()) : result;
+    }
+
+    private record Plan(int cost, Supplier<Stream<Object>> ids) {
+    }
+}
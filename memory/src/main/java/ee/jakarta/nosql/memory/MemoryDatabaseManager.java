@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DeleteExecutor;
+import jakarta.nosql.communication.spi.Operation;
+import jakarta.nosql.communication.spi.OperationContext;
+import jakarta.nosql.communication.spi.OperationListeners;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * An in-process {@link DatabaseManager} storing {@link MemoryEntity} structures in concurrent maps, one per
+ * collection, with optional secondary indexes.
+ *
+ * <p>Without indexes every condition is evaluated by a full scan of the collection. A
+ * {@linkplain IndexType#HASH hash index} answers equality and {@code in} conditions on its field, and a
+ * {@linkplain IndexType#SORTED sorted index} also answers range conditions and orderings, so that a
+ * limited, ordered query reads only the entities it returns:</p>
+ * <pre>{@code
+ * MemoryDatabaseManager manager = new MemoryDatabaseManagerFactory().database("library");
+ * manager.createIndex("Person", "city", IndexType.HASH);
+ * manager.createIndex("Person", "age", IndexType.SORTED);
+ *
+ * List<MemoryEntity> adults = manager.select().from("Person")
+ *         .where(StandardCondition.eq("city", "Lisbon"))
+ *         .and(StandardCondition.gte("age", 18))
+ *         .orderBy(StandardOrder.asc("age"))
+ *         .fetch()
+ *         .toList();
+ * }</pre>
+ *
+ * <p>Only a single condition or a conjunction of conditions uses an index; disjunctions and negations are
+ * evaluated by a scan. Entities without an identifier receive a random one on insert. Insert and update both
+ * replace any entity with the same identifier. {@code findById} and {@code deleteById} accept a
+ * {@link MemoryKey}; any other identifier refers to the collection named after this database.</p>
+ *
+ * <p>The executors accept the standard tokens of the SPI, {@code StandardCondition}, {@code StandardOrder},
+ * and {@code StandardUpdate}, and reject any other token with {@link IllegalArgumentException}.</p>
+ *
+ * <p>Writes are serialized per collection; reads never block and are weakly consistent with concurrent
+ * writes. As there is a single copy of the data, a read sees every completed write, whatever
+ * {@link jakarta.nosql.ReadConsistency} it requests. {@link #watch(String)} publishes the changes of each write
+ * once the write returns from {@link Journal#commit()}, until the manager is closed.</p>
+ *
+ * <p>Every operation and every executed query notifies the {@linkplain OperationListeners#discovered()
+ * discovered} operation listeners; a fetched stream is reported once it is closed.</p>
+ */
+public final class MemoryDatabaseManager implements DatabaseManager<MemoryEntity>, AutoCloseable {
+
+    static final Capabilities CAPABILITIES = Capabilities.of(Capability.SELECT, Capability.DELETE_BY_QUERY,
+            Capability.UPDATE_BY_QUERY, Capability.RANGE_CONDITIONS, Capability.DISJUNCTION, Capability.ORDERING,
+            Capability.PAGINATION, Capability.PROJECTIONS, Capability.BATCH_WRITES, Capability.PARALLEL_SCAN,
+            Capability.READ_CONSISTENCY, Capability.CHANGE_STREAMS, Capability.DISTINCT,
+            Capability.KEYS_ONLY, Capability.SAMPLING);
+
+    private static final System.Logger LOGGER = System.getLogger(MemoryDatabaseManager.class.getName());
+
+    private final String name;
+
+    private final ConcurrentMap<String, MemoryCollection> collections = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, SubmissionPublisher<ChangeEvent<MemoryEntity>>> watchers = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<List<Change>> applied = ThreadLocal.withInitial(ArrayList::new);
+
+    private final Journal journal;
+
+    private volatile boolean closed;
+
+    private final ReadWriteLock writes = new ReentrantReadWriteLock();
+
+    private final OperationListeners listeners;
+
+    private final QueryTarget queries;
+
+    MemoryDatabaseManager(String name) {
+        this(name, Journal.NONE, OperationListeners.discovered());
+    }
+
+    MemoryDatabaseManager(String name, Journal journal, OperationListeners listeners) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.journal = Objects.requireNonNull(journal, "journal is required");
+        this.listeners = Objects.requireNonNull(listeners, "listeners is required");
+        this.queries = new ObservedQueries(new IndexedQueries(), listeners);
+    }
+
+    /**
+     * Creates a standalone manager passing every change to a journal before applying it, the building
+     * block of durable providers. The manager notifies the {@linkplain OperationListeners#discovered()
+     * discovered} operation listeners.
+     *
+     * @param name    the database name
+     * @param journal the journal receiving the changes
+     * @return a new, empty manager
+     * @throws NullPointerException when any parameter is null
+     */
+    public static MemoryDatabaseManager journaled(String name, Journal journal) {
+        return new MemoryDatabaseManager(name, journal, OperationListeners.discovered());
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public MemoryEntity insert(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return listeners.observe(() -> OperationContext.start(Operation.INSERT, entity.name()),
+                () -> commit(() -> store(entity)), inserted -> 1);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> insert(Iterable<MemoryEntity> entities) {
+        List<MemoryEntity> batch = batch(entities);
+        return listeners.observe(() -> OperationContext.start(Operation.INSERT, collection(batch)), () -> commit(() -> {
+            List<MemoryEntity> inserted = new ArrayList<>();
+            batch.forEach(entity -> inserted.add(store(entity)));
+            return inserted;
+        }), List::size);
+    }
+
+    /**
+     * Replaces the entity with the same identifier, or stores the entity when there is none.
+     *
+     * @throws IllegalArgumentException when the entity has no identifier
+     */
+    @Override
+    public MemoryEntity update(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return listeners.observe(() -> OperationContext.start(Operation.UPDATE, entity.name()),
+                () -> commit(() -> replace(entity)), updated -> 1);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> update(Iterable<MemoryEntity> entities) {
+        List<MemoryEntity> batch = batch(entities);
+        return listeners.observe(() -> OperationContext.start(Operation.UPDATE, collection(batch)), () -> commit(() -> {
+            List<MemoryEntity> updated = new ArrayList<>();
+            batch.forEach(entity -> updated.add(replace(entity)));
+            return updated;
+        }), List::size);
+    }
+
+    @Override
+    public void delete(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (entity.id() != null) {
+            listeners.observe(() -> OperationContext.start(Operation.DELETE, entity.name(), 1),
+                    () -> commit(() -> collection(entity.name()).flatMap(collection -> collection.remove(entity.id()))),
+                    removed -> removed.isPresent() ? 1 : 0);
+        }
+    }
+
+    @Override
+    public <K> Optional<MemoryEntity> findById(K id) {
+        Objects.requireNonNull(id, "id is required");
+        MemoryKey key = key(id);
+        return listeners.observe(() -> OperationContext.start(Operation.FIND, key.collection(), 1),
+                () -> collection(key.collection()).flatMap(collection -> collection.get(key.id())),
+                found -> found.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public <K> void deleteById(K id) {
+        Objects.requireNonNull(id, "id is required");
+        MemoryKey key = key(id);
+        listeners.observe(() -> OperationContext.start(Operation.DELETE, key.collection(), 1),
+                () -> commit(() -> collection(key.collection()).flatMap(collection -> collection.remove(key.id()))),
+                removed -> removed.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select() {
+        return new MemorySelectExecutor(queries, Set.of());
+    }
+
+    /**
+     * Creates a select operation returning only the identifier and the named fields of each entity.
+     */
+    @Override
+    public SelectExecutor<MemoryEntity> select(String... names) {
+        return new MemorySelectExecutor(queries, Set.of(names));
+    }
+
+    @Override
+    public DeleteExecutor delete() {
+        return new MemoryDeleteExecutor(queries, Set.of());
+    }
+
+    /**
+     * Publishes the changes applied to a collection after each subscription, delivered asynchronously by the
+     * common fork-join pool once the write that applied them returns from {@link Journal#commit()}. Writers
+     * never wait for subscribers: a subscriber more than {@link Flow#defaultBufferSize()} changes behind misses
+     * the next ones, which is logged. Subscribers are completed when the manager is closed.
+     *
+     * @throws IllegalStateException when the manager is closed
+     */
+    @Override
+    public Flow.Publisher<ChangeEvent<MemoryEntity>> watch(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        if (closed) {
+            throw new IllegalStateException("The database " + name + " is closed");
+        }
+        SubmissionPublisher<ChangeEvent<MemoryEntity>> publisher = watchers.computeIfAbsent(collection,
+                key -> new SubmissionPublisher<>());
+        return publisher::subscribe;
+    }
+
+    /**
+     * Creates a delete operation removing the named fields from the matching entities, rather than the
+     * entities themselves. The identifier is never removed.
+     */
+    @Override
+    public DeleteExecutor delete(String... names) {
+        return new MemoryDeleteExecutor(queries, Set.of(names));
+    }
+
+    @Override
+    public UpdateExecutor update() {
+        return new MemoryUpdateExecutor(queries);
+    }
+
+    /**
+     * Creates a secondary index on a field of a collection, indexing the entities it already holds.
+     * Replaces an index of another type on the same field.
+     *
+     * @param collection the collection name
+     * @param field      the field name
+     * @param type       the kind of index
+     * @throws NullPointerException when any parameter is null
+     */
+    public void createIndex(String collection, String field, IndexType type) {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(field, "field is required");
+        Objects.requireNonNull(type, "type is required");
+        collectionOrCreate(collection).createIndex(field, type);
+    }
+
+    /**
+     * Drops the secondary index on a field of a collection.
+     *
+     * @param collection the collection name
+     * @param field      the field name
+     * @return whether an index was dropped
+     */
+    public boolean dropIndex(String collection, String field) {
+        return collection(collection).map(memoryCollection -> memoryCollection.dropIndex(field)).orElse(false);
+    }
+
+    /**
+     * Returns the secondary indexes of a collection, by field.
+     *
+     * @param collection the collection name
+     * @return the index type of each indexed field
+     */
+    public Map<String, IndexType> indexes(String collection) {
+        return collection(collection).map(MemoryCollection::indexes).orElse(Map.of());
+    }
+
+    /**
+     * Returns the number of entities in a collection.
+     *
+     * @param collection the collection name
+     * @return the number of entities
+     */
+    public long count(String collection) {
+        return collection(collection).map(MemoryCollection::size).orElse(0L);
+    }
+
+    /**
+     * Returns the names of the collections holding entities or indexes.
+     *
+     * @return the collection names
+     */
+    public Set<String> collections() {
+        return Set.copyOf(collections.keySet());
+    }
+
+    /**
+     * Runs an action while no change is being applied: every change passed to the journal before the action
+     * is visible, and changes started meanwhile wait until the action completes. Durable providers use it to
+     * switch journal files at a point consistent with the entities.
+     *
+     * @param action the action to run
+     * @throws NullPointerException when action is null
+     */
+    public void exclusively(Runnable action) {
+        Objects.requireNonNull(action, "action is required");
+        Lock lock = writes.writeLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes the subscribers of every change stream and stops publishing changes. The entities remain
+     * readable and writable.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        watchers.values().forEach(SubmissionPublisher::close);
+        watchers.clear();
+    }
+
+    private Optional<MemoryCollection> collection(String collection) {
+        return Optional.ofNullable(collections.get(collection));
+    }
+
+    private static List<MemoryEntity> batch(Iterable<MemoryEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<MemoryEntity> batch = new ArrayList<>();
+        entities.forEach(batch::add);
+        return batch;
+    }
+
+    /**
+     * Returns the collection reported for a batch, that of its first entity.
+     */
+    private String collection(List<MemoryEntity> batch) {
+        return batch.isEmpty() || batch.get(0) == null ? name : batch.get(0).name();
+    }
+
+    private MemoryEntity store(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MemoryEntity identified = entity.id() == null ? entity.with(MemoryEntity.ID, UUID.randomUUID().toString()) : entity;
+        return collectionOrCreate(identified.name()).put(identified);
+    }
+
+    private MemoryEntity replace(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (entity.id() == null) {
+            throw new IllegalArgumentException("An entity requires the " + MemoryEntity.ID + " field to be updated");
+        }
+        return collectionOrCreate(entity.name()).put(entity);
+    }
+
+    private MemoryCollection collectionOrCreate(String collection) {
+        return collections.computeIfAbsent(collection, key -> new MemoryCollection(key, journal, writes.readLock(),
+                event -> record(key, event)));
+    }
+
+    /**
+     * Runs a write, commits the journal, then publishes the changes the write applied. The changes of a write
+     * whose journal commit fails are not published.
+     */
+    private <R> R commit(Supplier<R> write) {
+        try {
+            R result = write.get();
+            journal.commit();
+            applied.get().forEach(this::publish);
+            return result;
+        } finally {
+            applied.remove();
+        }
+    }
+
+    private void record(String collection, ChangeEvent<MemoryEntity> event) {
+        if (watchers.containsKey(collection)) {
+            applied.get().add(new Change(collection, event));
+        }
+    }
+
+    private void publish(Change change) {
+        SubmissionPublisher<ChangeEvent<MemoryEntity>> publisher = watchers.get(change.collection());
+        if (publisher != null && publisher.hasSubscribers()) {
+            publisher.offer(change.event(), (subscriber, dropped) -> {
+                LOGGER.log(System.Logger.Level.WARNING, () -> "A subscriber of " + change.collection()
+                        + " fell behind and missed the " + dropped.type() + " of " + dropped.id());
+                return false;
+            });
+        }
+    }
+
+    private MemoryKey key(Object id) {
+        return id instanceof MemoryKey key ? key : MemoryKey.of(name, id);
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryDatabaseManager{" +
+                "name='" + name + '\'' +
+                ", collections=" + collections.keySet() +
+                '}';
+    }
+
+    /**
+     * Runs the queries of the executors against the collections, using their indexes.
+     */
+    private final class IndexedQueries implements QueryTarget {
+
+        @Override
+        public Stream<MemoryEntity> select(MemoryQuery query) {
+            return collection(query.collection()).map(collection -> collection.select(query)).orElseGet(Stream::empty);
+        }
+
+        @Override
+        public List<MemoryEntity> sample(MemoryQuery query, long n) {
+            return collection(query.collection()).map(collection -> collection.sample(query, n)).orElse(List.of());
+        }
+
+        @Override
+        public Stream<Object> ids(MemoryQuery query) {
+            return collection(query.collection()).map(collection -> collection.ids(query)).orElseGet(Stream::empty);
+        }
+
+        @Override
+        public Stream<Object> distinct(MemoryQuery query, String field) {
+            return collection(query.collection()).map(collection -> collection.distinct(query, field)).orElseGet(Stream::empty);
+        }
+
+        @Override
+        public long count(MemoryQuery query, long max) {
+            return collection(query.collection()).map(collection -> collection.count(query, max)).orElse(0L);
+        }
+
+        @Override
+        public void removeIf(MemoryQuery query) {
+            commit(() -> collection(query.collection()).map(collection -> collection.removeIf(query)));
+        }
+
+        @Override
+        public void replaceIf(MemoryQuery query, UnaryOperator<MemoryEntity> change) {
+            commit(() -> collection(query.collection()).map(collection -> collection.replaceIf(query, change)));
+        }
+    }
+
+    /**
+     * A change applied to a collection, held until the write that applied it commits the journal.
+     */
+    private record Change(String collection, ChangeEvent<MemoryEntity> event) {
+    }
+}
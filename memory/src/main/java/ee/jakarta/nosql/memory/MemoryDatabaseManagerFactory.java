@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DatabaseManagerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates {@link MemoryDatabaseManager} instances. Each factory holds its own databases, and returns the
+ * same manager for the same database name, so data survives between {@code create} calls.
+ *
+ * <pre>{@code
+ * DatabaseManagerFactory factory = new MemoryDatabaseManagerFactory();
+ * DatabaseManager<MemoryEntity> manager = factory.create("library");
+ * }</pre>
+ */
+public final class MemoryDatabaseManagerFactory implements DatabaseManagerFactory, AutoCloseable {
+
+    private final ConcurrentMap<String, MemoryDatabaseManager> databases = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the manager of a database, creating it when needed. The manager stores {@link MemoryEntity}
+     * structures whatever the requested type.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> DatabaseManager<T> create(String databaseName) {
+        return (DatabaseManager<T>) database(databaseName);
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return MemoryDatabaseManager.CAPABILITIES;
+    }
+
+    /**
+     * Returns the manager of a database, creating it when needed.
+     *
+     * @param databaseName the database name
+     * @return the manager of the database
+     * @throws NullPointerException when databaseName is null
+     */
+    public MemoryDatabaseManager database(String databaseName) {
+        Objects.requireNonNull(databaseName, "databaseName is required");
+        return databases.computeIfAbsent(databaseName, MemoryDatabaseManager::new);
+    }
+
+    /**
+     * Closes and discards every database created by this factory.
+     */
+    public void clear() {
+        databases.values().forEach(MemoryDatabaseManager::close);
+        databases.clear();
+    }
+
+    /**
+     * Closes and discards every database created by this factory, as {@link #clear()} does.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.DeleteExecutor;
+
+import java.util.Set;
+
+final class MemoryDeleteExecutor implements DeleteExecutor {
+
+    private final QueryTarget target;
+
+    private final Set<String> fields;
+
+    MemoryDeleteExecutor(QueryTarget target, Set<String> fields) {
+        this.target = target;
+        this.fields = fields;
+    }
+
+    @Override
+    public From from(String name) {
+        return new Steps(new MemoryQuery(name, null));
+    }
+
+    private final class Steps implements From, Junction {
+
+        private final MemoryQuery query;
+
+        private Steps(MemoryQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public Junction where(Condition condition) {
+            query.where(condition);
+            return this;
+        }
+
+        @Override
+        public Junction and(Condition condition) {
+            query.and(condition);
+            return this;
+        }
+
+        @Override
+        public Junction or(Condition condition) {
+            query.or(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            if (fields.isEmpty()) {
+                target.removeIf(query);
+            } else {
+                target.replaceIf(query, entity -> entity.without(fields));
+            }
+        }
+    }
+}
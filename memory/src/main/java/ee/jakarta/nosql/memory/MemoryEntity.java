@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The structure stored by the in-memory provider: a named collection and its fields.
+ *
+ * <p>The identifier is the {@value #ID} field. An entity is immutable; its fields keep their insertion
+ * order and may hold {@code null} values.</p>
+ *
+ * <pre>{@code
+ * MemoryEntity person = MemoryEntity.of("Person", Map.of(MemoryEntity.ID, "ada", "name", "Ada", "age", 36));
+ * }</pre>
+ *
+ * @param name   the collection name
+ * @param fields the fields, including the identifier
+ */
+public record MemoryEntity(String name, Map<String, Object> fields) {
+
+    /**
+     * The name of the identifier field.
+     */
+    public static final String ID = "_id";
+
+    /**
+     * Validates and copies the entity.
+     *
+     * @throws NullPointerException when name or fields is null
+     */
+    public MemoryEntity {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(fields, "fields is required");
+        fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+    }
+
+    /**
+     * Creates an entity.
+     *
+     * @param name   the collection name
+     * @param fields the fields, including the identifier
+     * @return a new entity
+     * @throws NullPointerException when name or fields is null
+     */
+    public static MemoryEntity of(String name, Map<String, Object> fields) {
+        return new MemoryEntity(name, fields);
+    }
+
+    /**
+     * Returns the identifier, the value of the {@value #ID} field.
+     *
+     * @return the identifier, or {@code null} when the entity has none
+     */
+    public Object id() {
+        return fields.get(ID);
+    }
+
+    /**
+     * Returns the value of a field.
+     *
+     * @param field the field name
+     * @return the value, or {@code null} when the field is absent or null
+     */
+    public Object get(String field) {
+        return fields.get(field);
+    }
+
+    /**
+     * Returns a copy of this entity with one field set.
+     *
+     * @param field the field name
+     * @param value the new value
+     * @return the updated copy
+     */
+    public MemoryEntity with(String field, Object value) {
+        Map<String, Object> copy = new LinkedHashMap<>(fields);
+        copy.put(field, value);
+        return new MemoryEntity(name, copy);
+    }
+
+    /**
+     * Returns a copy of this entity without the given fields. The identifier is never removed.
+     *
+     * @param removed the names of the fields to remove
+     * @return the updated copy
+     */
+    public MemoryEntity without(Set<String> removed) {
+        Map<String, Object> copy = new LinkedHashMap<>(fields);
+        for (String field : removed) {
+            if (!ID.equals(field)) {
+                copy.remove(field);
+            }
+        }
+        return new MemoryEntity(name, copy);
+    }
+
+    /**
+     * Returns a copy of this entity holding only the identifier and the given fields.
+     *
+     * @param projected the names of the fields to keep
+     * @return the projected copy
+     */
+    public MemoryEntity project(Set<String> projected) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        copy.put(ID, id());
+        for (Map.Entry<String, Object> entry : fields.entrySet()) {
+            if (projected.contains(entry.getKey())) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new MemoryEntity(name, copy);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * A secondary index mapping the values of one field to the identifiers of the entities holding them.
+ *
+ * <p>Absent and {@code null} values are not indexed. Writes are serialized by the owning
+ * {@link MemoryCollection}; reads are lock-free and may observe a write in progress, so callers always
+ * re-check the candidates against the full condition.</p>
+ *
+ * <p>A sorted index orders its entries with {@link Values#COMPARATOR}, which ties distinct values that have no
+ * order between them, such as two instances of a class that is not {@link Comparable} with equal hash codes.
+ * Each entry is therefore a bucket of values distinct under {@link Object#equals(Object)}, so that such values
+ * keep their own identifiers.</p>
+ */
+final class MemoryIndex {
+
+    private final String field;
+
+    private final IndexType type;
+
+    private final ConcurrentMap<Object, ConcurrentMap<Object, Set<Object>>> entries;
+
+    private volatile long size;
+
+    MemoryIndex(String field, IndexType type) {
+        this.field = field;
+        this.type = type;
+        this.entries = type == IndexType.SORTED ? new ConcurrentSkipListMap<>(Values.COMPARATOR) : new ConcurrentHashMap<>();
+    }
+
+    String field() {
+        return field;
+    }
+
+    IndexType type() {
+        return type;
+    }
+
+    boolean sorted() {
+        return type == IndexType.SORTED;
+    }
+
+    /**
+     * Returns the number of indexed entities, those holding a non-null value.
+     */
+    long size() {
+        return size;
+    }
+
+    void add(MemoryEntity entity, Object id) {
+        Object value = entity.get(field);
+        if (value != null) {
+            Object key = Values.key(value);
+            entries.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+            size++;
+        }
+    }
+
+    void remove(MemoryEntity entity, Object id) {
+        Object value = entity.get(field);
+        if (value != null) {
+            Object key = Values.key(value);
+            entries.computeIfPresent(key, (ignored, bucket) -> {
+                bucket.computeIfPresent(key, (equal, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+                return bucket.isEmpty() ? null : bucket;
+            });
+            size--;
+        }
+    }
+
+    Stream<Object> eq(Object value) {
+        Object key = Values.key(value);
+        Map<Object, Set<Object>> bucket = entries.get(key);
+        Set<Object> ids = bucket == null ? null : bucket.get(key);
+        return ids == null ? Stream.empty() : ids.stream();
+    }
+
+    Stream<Object> in(Collection<?> values) {
+        return values.stream().filter(value -> value != null).map(Values::key).distinct().flatMap(this::eq);
+    }
+
+    /**
+     * Returns the identifiers whose value lies within the bounds; a {@code null} bound is unbounded.
+     */
+    Stream<Object> range(Object low, boolean lowInclusive, Object high, boolean highInclusive) {
+        NavigableMap<Object, ConcurrentMap<Object, Set<Object>>> map = navigable();
+        if (low != null && high != null) {
+            if (Values.compare(low, high) > 0) {
+                return Stream.empty();
+            }
+            map = map.subMap(Values.key(low), lowInclusive, Values.key(high), highInclusive);
+        } else if (low != null) {
+            map = map.tailMap(Values.key(low), lowInclusive);
+        } else if (high != null) {
+            map = map.headMap(Values.key(high), highInclusive);
+        }
+        return ids(map);
+    }
+
+    /**
+     * Returns the distinct indexed values, normalized as keys.
+     */
+    Stream<Object> values() {
+        return entries.values().stream().flatMap(bucket -> bucket.keySet().stream());
+    }
+
+    /**
+     * Returns every indexed identifier, in the order of the field values.
+     */
+    Stream<Object> ordered(boolean ascending) {
+        NavigableMap<Object, ConcurrentMap<Object, Set<Object>>> map = navigable();
+        return ids(ascending ? map : map.descendingMap());
+    }
+
+    private static Stream<Object> ids(Map<Object, ConcurrentMap<Object, Set<Object>>> map) {
+        return map.values().stream().flatMap(bucket -> bucket.values().stream()).flatMap(Set::stream);
+    }
+
+    private NavigableMap<Object, ConcurrentMap<Object, Set<Object>>> navigable() {
+        if (!sorted()) {
+            throw new IllegalStateException("The index on " + field + " is not sorted");
+        }
+        return (NavigableMap<Object, ConcurrentMap<Object, Set<Object>>>) entries;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.util.Objects;
+
+/**
+ * Identifies an entity in a named collection, for {@code findById} and {@code deleteById}.
+ *
+ * <p>Any other identifier passed to those methods refers to the default collection, which is named after
+ * the database.</p>
+ *
+ * <pre>{@code
+ * Optional<MemoryEntity> person = manager.findById(MemoryKey.of("Person", "ada"));
+ * }</pre>
+ *
+ * @param collection the collection name
+ * @param id         the identifier within the collection
+ */
+public record MemoryKey(String collection, Object id) {
+
+    /**
+     * Validates the key.
+     *
+     * @throws NullPointerException when collection or id is null
+     */
+    public MemoryKey {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(id, "id is required");
+    }
+
+    /**
+     * Creates a key.
+     *
+     * @param collection the collection name
+     * @param id         the identifier within the collection
+     * @return a new key
+     * @throws NullPointerException when collection or id is null
+     */
+    public static MemoryKey of(String collection, Object id) {
+        return new MemoryKey(collection, id);
+    }
+}
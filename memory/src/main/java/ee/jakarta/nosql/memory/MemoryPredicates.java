@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.StandardCondition;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link StandardCondition} into a predicate over {@link MemoryEntity}, once per query rather than
+ * interpreting the tree for every entity.
+ *
+ * <p>A comparison on an absent or {@code null} field is false, except {@code eq(field, null)}. Range
+ * comparisons between values of different kinds, such as a number and a string, are false.</p>
+ */
+final class MemoryPredicates {
+
+    private MemoryPredicates() {
+    }
+
+    static Predicate<MemoryEntity> compile(StandardCondition condition) {
+        if (condition instanceof StandardCondition.Comparison comparison) {
+            return comparison(comparison);
+        } else if (condition instanceof StandardCondition.Between between) {
+            String field = between.field();
+            Object low = between.low();
+            Object high = between.high();
+            return entity -> {
+                Object actual = entity.get(field);
+                return Values.comparable(actual, low) && Values.comparable(actual, high)
+                        && Values.compare(actual, low) >= 0 && Values.compare(actual, high) <= 0;
+            };
+        } else if (condition instanceof StandardCondition.In in) {
+            String field = in.field();
+            List<Object> values = in.values();
+            return entity -> {
+                Object actual = entity.get(field);
+                for (Object value : values) {
+                    if (Values.equal(actual, value)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        } else if (condition instanceof StandardCondition.Like like) {
+            String field = like.field();
+            String pattern = like.pattern();
+            return entity -> entity.get(field) instanceof CharSequence text && matches(text.toString(), pattern);
+        } else if (condition instanceof StandardCondition.Not not) {
+            return compile(not.condition()).negate();
+        } else if (condition instanceof StandardCondition.And and) {
+            List<Predicate<MemoryEntity>> predicates = and.conditions().stream().map(MemoryPredicates::compile).toList();
+            return entity -> {
+                for (Predicate<MemoryEntity> predicate : predicates) {
+                    if (!predicate.test(entity)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        } else if (condition instanceof StandardCondition.Or or) {
+            List<Predicate<MemoryEntity>> predicates = or.conditions().stream().map(MemoryPredicates::compile).toList();
+            return entity -> {
+                for (Predicate<MemoryEntity> predicate : predicates) {
+                    if (predicate.test(entity)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        } else if (condition instanceof StandardCondition.Constant constant) {
+            boolean value = constant.value();
+            return entity -> value;
+        }
+        throw new IllegalArgumentException("Unknown condition: " + condition);
+    }
+
+    private static Predicate<MemoryEntity> comparison(StandardCondition.Comparison comparison) {
+        String field = comparison.field();
+        Object value = comparison.value();
+        return switch (comparison.operator()) {
+            case EQ -> entity -> Values.equal(entity.get(field), value);
+            case GT -> entity -> compare(entity.get(field), value) > 0;
+            case GTE -> entity -> {
+                int result = compare(entity.get(field), value);
+                return result >= 0 && result != Integer.MIN_VALUE;
+            };
+            case LT -> entity -> {
+                int result = compare(entity.get(field), value);
+                return result < 0 && result != Integer.MIN_VALUE;
+            };
+            case LTE -> entity -> {
+                int result = compare(entity.get(field), value);
+                return result <= 0 && result != Integer.MIN_VALUE;
+            };
+        };
+    }
+
+    /**
+     * Compares the values, or returns {@link Integer#MIN_VALUE} when they are not comparable.
+     */
+    private static int compare(Object actual, Object value) {
+        if (!Values.comparable(actual, value)) {
+            return Integer.MIN_VALUE;
+        }
+        return Integer.signum(Values.compare(actual, value));
+    }
+
+    private static boolean matches(String text, String pattern) {
+        int textIndex = 0;
+        int patternIndex = 0;
+        int wildcard = -1;
+        int resume = 0;
+        while (textIndex < text.length()) {
+            if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == '%') {
+                wildcard = patternIndex++;
+                resume = textIndex;
+            } else if (patternIndex < pattern.length()
+                    && (pattern.charAt(patternIndex) == '_' || pattern.charAt(patternIndex) == text.charAt(textIndex))) {
+                patternIndex++;
+                textIndex++;
+            } else if (wildcard >= 0) {
+                patternIndex = wildcard + 1;
+                textIndex = ++resume;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == '%') {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+}
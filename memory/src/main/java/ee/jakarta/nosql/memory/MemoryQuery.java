@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.Order;
+import jakarta.nosql.communication.spi.QueryDeadline;
+import jakarta.nosql.communication.spi.QueryRewriter;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardOrder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The state accumulated by the executor steps: target collection, condition, orders, skip, and limit.
+ * The condition is normalized by the standard {@link QueryRewriter} before it is planned and compiled.
+ */
+final class MemoryQuery {
+
+    private final String collection;
+
+    private final Set<String> projection;
+
+    private final List<StandardOrder> orders = new ArrayList<>();
+
+    private StandardCondition condition;
+
+    private StandardCondition rewritten;
+
+    private Predicate<MemoryEntity> predicate;
+
+    private long skip;
+
+    private long limit = -1;
+
+    private boolean parallel;
+
+    private Duration timeout;
+
+    MemoryQuery(String collection, Set<String> projection) {
+        this.collection = Objects.requireNonNull(collection, "name is required");
+        this.projection = projection;
+    }
+
+    String collection() {
+        return collection;
+    }
+
+    Set<String> projection() {
+        return projection;
+    }
+
+    /**
+     * Returns the rewritten condition, or {@code null} when the query has none.
+     */
+    StandardCondition condition() {
+        if (rewritten == null && condition != null) {
+            rewritten = QueryRewriter.standard().rewrite(condition);
+        }
+        return rewritten;
+    }
+
+    /**
+     * Returns the compiled condition, or {@code null} when the query has none.
+     */
+    Predicate<MemoryEntity> predicate() {
+        if (predicate == null && condition() != null) {
+            predicate = MemoryPredicates.compile(condition());
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns whether the condition can match no entity, so that the query does not need to read any.
+     */
+    boolean matchesNothing() {
+        return condition() instanceof StandardCondition.Constant constant && !constant.value();
+    }
+
+    List<StandardOrder> orders() {
+        return orders;
+    }
+
+    /**
+     * Returns the comparator of the orders, or {@code null} when the query has none.
+     */
+    Comparator<MemoryEntity> comparator() {
+        Comparator<MemoryEntity> comparator = null;
+        for (StandardOrder order : orders) {
+            Comparator<MemoryEntity> next = Comparator.comparing(entity -> entity.get(order.field()), Values.COMPARATOR);
+            if (!order.ascending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    long skip() {
+        return skip;
+    }
+
+    long limit() {
+        return limit;
+    }
+
+    /**
+     * Returns whether the scan is split across threads.
+     */
+    boolean parallel() {
+        return parallel;
+    }
+
+    void where(Condition condition) {
+        this.condition = cast(condition);
+        this.rewritten = null;
+        this.predicate = null;
+    }
+
+    void and(Condition condition) {
+        StandardCondition next = cast(condition);
+        this.condition = this.condition == null ? next : StandardCondition.and(this.condition, next);
+        this.rewritten = null;
+        this.predicate = null;
+    }
+
+    void or(Condition condition) {
+        StandardCondition next = cast(condition);
+        this.condition = this.condition == null ? next : StandardCondition.or(this.condition, next);
+        this.rewritten = null;
+        this.predicate = null;
+    }
+
+    void orderBy(Order order) {
+        Objects.requireNonNull(order, "order is required");
+        if (!(order instanceof StandardOrder standardOrder)) {
+            throw new IllegalArgumentException("The in-memory provider requires a StandardOrder, not " + order.getClass().getName());
+        }
+        orders.add(standardOrder);
+    }
+
+    void skip(long skip) {
+        if (skip < 0) {
+            throw new IllegalArgumentException("skip must not be negative: " + skip);
+        }
+        this.skip = skip;
+    }
+
+    void timeout(Duration timeout) {
+        this.timeout = QueryDeadline.requirePositive(timeout);
+    }
+
+    /**
+     * Starts the deadline of an execution, or returns {@code null} when the query has no timeout.
+     */
+    QueryDeadline deadline() {
+        return timeout == null ? null : QueryDeadline.after(timeout);
+    }
+
+    /**
+     * Returns a copy of this query whose scan is split across threads, leaving this query unchanged for the
+     * later executions of its steps.
+     */
+    MemoryQuery inParallel() {
+        MemoryQuery copy = new MemoryQuery(collection, projection);
+        copy.orders.addAll(orders);
+        copy.condition = condition;
+        copy.rewritten = rewritten;
+        copy.predicate = predicate;
+        copy.skip = skip;
+        copy.limit = limit;
+        copy.timeout = timeout;
+        copy.parallel = true;
+        return copy;
+    }
+
+    void limit(long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    private static StandardCondition cast(Condition condition) {
+        Objects.requireNonNull(condition, "condition is required");
+        if (condition instanceof StandardCondition standardCondition) {
+            return standardCondition;
+        }
+        throw new IllegalArgumentException("The in-memory provider requires a StandardCondition, not " + condition.getClass().getName());
+    }
+}
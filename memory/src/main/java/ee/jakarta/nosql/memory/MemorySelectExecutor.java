@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.CursorLeakDetector;
+import jakarta.nosql.communication.spi.Order;
+import jakarta.nosql.communication.spi.Reservoir;
+import jakarta.nosql.communication.spi.SelectExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+final class MemorySelectExecutor implements SelectExecutor<MemoryEntity> {
+
+    private final QueryTarget target;
+
+    private final Set<String> projection;
+
+    MemorySelectExecutor(QueryTarget target, Set<String> projection) {
+        this.target = target;
+        this.projection = projection;
+    }
+
+    @Override
+    public From<MemoryEntity> from(String name) {
+        return new Steps(new MemoryQuery(name, projection));
+    }
+
+    private final class Steps implements From<MemoryEntity>, Junction<MemoryEntity>, Ordering<MemoryEntity>,
+            Pagination<MemoryEntity> {
+
+        private final MemoryQuery query;
+
+        private Steps(MemoryQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public Junction<MemoryEntity> where(Condition condition) {
+            query.where(condition);
+            return this;
+        }
+
+        @Override
+        public Junction<MemoryEntity> and(Condition condition) {
+            query.and(condition);
+            return this;
+        }
+
+        @Override
+        public Junction<MemoryEntity> or(Condition condition) {
+            query.or(condition);
+            return this;
+        }
+
+        @Override
+        public Ordering<MemoryEntity> orderBy(Order order) {
+            query.orderBy(order);
+            return this;
+        }
+
+        @Override
+        public Ordering<MemoryEntity> then(Order order) {
+            query.orderBy(order);
+            return this;
+        }
+
+        @Override
+        public Pagination<MemoryEntity> limit(long limit) {
+            query.limit(limit);
+            return this;
+        }
+
+        @Override
+        public FinalStep<MemoryEntity> skip(long skip) {
+            query.skip(skip);
+            return this;
+        }
+
+        @Override
+        public Stream<MemoryEntity> fetch() {
+            return CursorLeakDetector.track(target.select(query), query.collection());
+        }
+
+        @Override
+        public List<MemoryEntity> sample(long n) {
+            Reservoir.requireSize(n);
+            return target.sample(query, n);
+        }
+
+        @Override
+        public Stream<Object> fetchKeys() {
+            return CursorLeakDetector.track(target.ids(query), query.collection());
+        }
+
+        @Override
+        public Stream<Object> distinct(String field) {
+            Objects.requireNonNull(field, "field is required");
+            return CursorLeakDetector.track(target.distinct(query, field), query.collection());
+        }
+
+        @Override
+        public long count(Accuracy accuracy) {
+            Objects.requireNonNull(accuracy, "accuracy is required");
+            return target.count(query, Long.MAX_VALUE);
+        }
+
+        @Override
+        public long countUpTo(long max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("max must not be negative: " + max);
+            }
+            return target.count(query, max);
+        }
+
+        @Override
+        public FinalStep<MemoryEntity> timeout(Duration timeout) {
+            query.timeout(timeout);
+            return this;
+        }
+
+        @Override
+        public Stream<MemoryEntity> parallelFetch() {
+            return CursorLeakDetector.track(target.select(query.inParallel()), query.collection());
+        }
+    }
+}
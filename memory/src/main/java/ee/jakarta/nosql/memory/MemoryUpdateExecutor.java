@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.StandardUpdate;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class MemoryUpdateExecutor implements UpdateExecutor {
+
+    private final QueryTarget target;
+
+    MemoryUpdateExecutor(QueryTarget target) {
+        this.target = target;
+    }
+
+    @Override
+    public From from(String name) {
+        return new Steps(new MemoryQuery(name, null));
+    }
+
+    private final class Steps implements From {
+
+        private final MemoryQuery query;
+
+        private final List<StandardUpdate> updates = new ArrayList<>();
+
+        private Steps(MemoryQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        public From set(Update update) {
+            Objects.requireNonNull(update, "update is required");
+            if (!(update instanceof StandardUpdate standardUpdate)) {
+                throw new IllegalArgumentException("The in-memory provider requires a StandardUpdate, not "
+                        + update.getClass().getName());
+            }
+            if (MemoryEntity.ID.equals(standardUpdate.field())) {
+                throw new IllegalArgumentException("The identifier cannot be updated");
+            }
+            updates.add(standardUpdate);
+            return this;
+        }
+
+        @Override
+        public From where(Condition condition) {
+            query.and(condition);
+            return this;
+        }
+
+        @Override
+        public void execute() {
+            if (updates.isEmpty()) {
+                throw new IllegalStateException("An update requires at least one set");
+            }
+            target.replaceIf(query, entity -> {
+                MemoryEntity updated = entity;
+                for (StandardUpdate update : updates) {
+                    updated = updated.with(update.field(), update.value());
+                }
+                return updated;
+            });
+        }
+    }
+}
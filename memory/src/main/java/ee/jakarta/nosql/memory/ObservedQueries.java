@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.communication.spi.Operation;
+import jakarta.nosql.communication.spi.OperationContext;
+import jakarta.nosql.communication.spi.OperationListeners;
+import jakarta.nosql.communication.spi.QueryFingerprint;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardOrder;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Notifies the {@link OperationListeners} of a provider around each query run by a {@link QueryTarget}. A
+ * stream is reported once it is closed; a select or count reports the conditions and the fingerprint of the
+ * rewritten query.
+ * The condition is compiled before the query runs, so that its translation is recorded on its own.
+ */
+record ObservedQueries(QueryTarget target, OperationListeners listeners) implements QueryTarget {
+
+    @Override
+    public Stream<MemoryEntity> select(MemoryQuery query) {
+        return listeners.observeStream(() -> context(Operation.SELECT, query),
+                () -> target.select(translated(Operation.SELECT, query)));
+    }
+
+    @Override
+    public List<MemoryEntity> sample(MemoryQuery query, long n) {
+        return listeners.observe(() -> context(Operation.SELECT, query),
+                () -> target.sample(translated(Operation.SELECT, query), n), List::size);
+    }
+
+    @Override
+    public Stream<Object> ids(MemoryQuery query) {
+        return listeners.observeStream(() -> context(Operation.SELECT, query),
+                () -> target.ids(translated(Operation.SELECT, query)));
+    }
+
+    @Override
+    public Stream<Object> distinct(MemoryQuery query, String field) {
+        return listeners.observeStream(() -> context(Operation.SELECT, query),
+                () -> target.distinct(translated(Operation.SELECT, query), field));
+    }
+
+    @Override
+    public long count(MemoryQuery query, long max) {
+        return listeners.observe(() -> context(Operation.COUNT, query),
+                () -> target.count(translated(Operation.COUNT, query), max), count -> count);
+    }
+
+    @Override
+    public void removeIf(MemoryQuery query) {
+        listeners.observe(() -> context(Operation.DELETE, query), () -> {
+            target.removeIf(translated(Operation.DELETE, query));
+            return null;
+        }, ignored -> -1);
+    }
+
+    @Override
+    public void replaceIf(MemoryQuery query, UnaryOperator<MemoryEntity> change) {
+        listeners.observe(() -> context(Operation.UPDATE, query), () -> {
+            target.replaceIf(translated(Operation.UPDATE, query), change);
+            return null;
+        }, ignored -> -1);
+    }
+
+    /**
+     * Compiles the condition of a query ahead of running it, within a
+     * {@link jakarta.nosql.communication.spi.QueryTranslationEvent} when one is recorded.
+     */
+    static MemoryQuery translated(Operation operation, MemoryQuery query) {
+        OperationListeners.translate(operation, query.collection(), () -> fingerprint(operation, query).shape(), () -> {
+            query.predicate();
+            return conditions(query.condition());
+        });
+        return query;
+    }
+
+    /**
+     * Returns the fingerprint of a query: its rewritten condition, orders, skip and limit, without any value.
+     */
+    static QueryFingerprint fingerprint(Operation operation, MemoryQuery query) {
+        QueryFingerprint.Builder builder = QueryFingerprint.builder(operation, query.collection());
+        if (query.condition() != null) {
+            builder.where(query.condition());
+        }
+        for (StandardOrder order : query.orders()) {
+            builder.orderBy(order.field(), order.ascending());
+        }
+        if (query.skip() > 0) {
+            builder.skip();
+        }
+        if (query.limit() >= 0) {
+            builder.limit();
+        }
+        return builder.build();
+    }
+
+    static OperationContext context(Operation operation, MemoryQuery query) {
+        return OperationContext.start(operation, query.collection(), conditions(query.condition()),
+                fingerprint(operation, query));
+    }
+
+    /**
+     * Counts the comparisons of a condition, without its constants and junctions.
+     */
+    static int conditions(StandardCondition condition) {
+        if (condition == null || condition instanceof StandardCondition.Constant) {
+            return 0;
+        } else if (condition instanceof StandardCondition.Not not) {
+            return conditions(not.condition());
+        } else if (condition instanceof StandardCondition.And and) {
+            return and.conditions().stream().mapToInt(ObservedQueries::conditions).sum();
+        } else if (condition instanceof StandardCondition.Or or) {
+            return or.conditions().stream().mapToInt(ObservedQueries::conditions).sum();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Runs the queries built by the executors: against the indexed collections of a {@link MemoryDatabaseManager},
+ * or against a scan in a {@link FallbackQueryEngine}.
+ */
+interface QueryTarget {
+
+    Stream<MemoryEntity> select(MemoryQuery query);
+
+    /**
+     * Draws a uniform random sample of up to {@code n} of the entities a query returns.
+     */
+    List<MemoryEntity> sample(MemoryQuery query, long n);
+
+    /**
+     * Returns the identifiers of the entities a query returns, in their order, without projecting them.
+     */
+    Stream<Object> ids(MemoryQuery query);
+
+    /**
+     * Returns the distinct non-null values of a field of the entities a query returns, normalized by
+     * {@link Values#key(Object)} as index keys are.
+     */
+    Stream<Object> distinct(MemoryQuery query, String field);
+
+    /**
+     * Counts the entities a query returns, up to {@code max}, without sorting or projecting them.
+     */
+    long count(MemoryQuery query, long max);
+
+    void removeIf(MemoryQuery query);
+
+    void replaceIf(MemoryQuery query, UnaryOperator<MemoryEntity> change);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Sorts, skips, and limits a stream. When the query is limited, only the {@code skip + limit} best elements
+ * are kept, in a heap whose root is the worst of them, instead of sorting every element.
+ */
+final class TopK {
+
+    /**
+     * Above this number of kept elements, the stream is sorted as a whole.
+     */
+    private static final long MAXIMUM_HEAP = 1 << 20;
+
+    private TopK() {
+    }
+
+    /**
+     * Returns the elements in order, as {@code source.sorted(comparator).skip(skip).limit(limit)} would,
+     * including the order of equal elements. A parallel stream is sorted as a whole, which splits the work
+     * across threads.
+     *
+     * @param limit the maximum number of elements, or a negative number for none
+     */
+    static <T> Stream<T> sorted(Stream<T> source, Comparator<? super T> comparator, long skip, long limit) {
+        if (limit < 0 || skip + limit > MAXIMUM_HEAP || source.isParallel()) {
+            Stream<T> sorted = source.sorted(comparator).skip(skip);
+            return limit < 0 ? sorted : sorted.limit(limit);
+        }
+        int size = (int) (skip + limit);
+        if (size == 0) {
+            source.close();
+            return Stream.empty();
+        }
+        Comparator<Ranked<T>> order = Comparator.<Ranked<T>, T>comparing(Ranked::value, comparator)
+                .thenComparingLong(Ranked::position);
+        PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(Math.min(size, 1024) + 1, order.reversed());
+        long[] position = {0};
+        try (source) {
+            source.forEachOrdered(value -> {
+                Ranked<T> ranked = new Ranked<>(value, position[0]++);
+                if (heap.size() < size) {
+                    heap.add(ranked);
+                } else if (order.compare(ranked, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(ranked);
+                }
+            });
+        }
+        List<Ranked<T>> kept = new ArrayList<>(heap);
+        kept.sort(order);
+        return kept.stream().skip(skip).map(Ranked::value);
+    }
+
+    private record Ranked<T>(T value, long position) {
+    }
+}
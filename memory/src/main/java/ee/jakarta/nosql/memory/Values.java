@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Compares field values with a total order, so that they can be used as sorted index keys.
+ *
+ * <p>Values are ranked by kind: {@code null}, booleans, numbers, character sequences, then any other type.
+ * Numbers compare by numeric value regardless of their class, so {@code 1}, {@code 1L}, and {@code 1.0}
+ * are equal.</p>
+ */
+final class Values {
+
+    static final Comparator<Object> COMPARATOR = Values::compare;
+
+    private static final int NULL = 0;
+
+    private static final int BOOLEAN = 1;
+
+    private static final int NUMBER = 2;
+
+    private static final int TEXT = 3;
+
+    private static final int OTHER = 4;
+
+    private Values() {
+    }
+
+    /**
+     * Normalizes a value so that equal values have equal keys: integral numbers become {@link Long},
+     * other numbers become {@link Double}, and character sequences become {@link String}.
+     */
+    static Object key(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            return integral(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger integer) {
+            return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : (Object) integer.doubleValue();
+        } else if (value instanceof BigDecimal decimal) {
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException exception) {
+                return decimal.doubleValue();
+            }
+        } else if (value instanceof CharSequence text && !(value instanceof String)) {
+            return text.toString();
+        }
+        return value;
+    }
+
+    static boolean equal(Object first, Object second) {
+        return Objects.equals(key(first), key(second));
+    }
+
+    /**
+     * Returns whether two values have an order between them, which range conditions require.
+     */
+    static boolean comparable(Object first, Object second) {
+        if (first == null || second == null) {
+            return false;
+        }
+        int rank = rank(first);
+        if (rank != rank(second)) {
+            return false;
+        }
+        return rank != OTHER || (first.getClass() == second.getClass() && first instanceof Comparable);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object first, Object second) {
+        Object left = key(first);
+        Object right = key(second);
+        int rank = rank(left);
+        int difference = Integer.compare(rank, rank(right));
+        if (difference != 0 || rank == NULL) {
+            return difference;
+        }
+        if (left instanceof Long leftLong && right instanceof Long rightLong) {
+            return Long.compare(leftLong, rightLong);
+        }
+        if (rank == NUMBER) {
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        }
+        if (left.getClass() == right.getClass() && left instanceof Comparable comparable) {
+            return comparable.compareTo(right);
+        }
+        difference = left.getClass().getName().compareTo(right.getClass().getName());
+        return difference != 0 ? difference : Integer.compare(left.hashCode(), right.hashCode());
+    }
+
+    private static int rank(Object value) {
+        if (value == null) {
+            return NULL;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof String) {
+            return TEXT;
+        }
+        return OTHER;
+    }
+
+    private static Object integral(double value) {
+        if (value == Math.rint(value) && value >= Long.MIN_VALUE && value < Long.MAX_VALUE) {
+            return (long) value;
+        }
+        return value;
+    }
+}
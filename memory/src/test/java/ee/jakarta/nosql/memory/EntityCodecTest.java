@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class EntityCodecTest {
+
+    @Test
+    void shouldRoundTripSupportedTypes() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(MemoryEntity.ID, UUID.randomUUID());
+        fields.put("missing", null);
+        fields.put("active", true);
+        fields.put("age", 36);
+        fields.put("balance", new BigDecimal("1234.5600"));
+        fields.put("big", BigInteger.TWO.pow(100));
+        fields.put("ratio", 0.25D);
+        fields.put("created", Instant.parse("2024-01-01T10:15:30.123456789Z"));
+        fields.put("birthday", LocalDate.of(1815, 12, 10));
+        fields.put("updated", LocalDateTime.of(2024, 5, 1, 8, 30));
+        fields.put("tags", List.of("a", 1L));
+        fields.put("address", Map.of("city", "London"));
+        MemoryEntity entity = MemoryEntity.of("Person", fields);
+
+        Assertions.assertThat(EntityCodec.decode(EntityCodec.encode(entity))).isEqualTo(entity);
+    }
+
+    @Test
+    void shouldReadCollectionsAsLists() {
+        MemoryEntity entity = MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 1, "tags", Set.of("a")));
+        Assertions.assertThat(EntityCodec.decode(EntityCodec.encode(entity)).get("tags")).isEqualTo(List.of("a"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedTypes() {
+        MemoryEntity entity = MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 1, "lock", new Object()));
+        Assertions.assertThatThrownBy(() -> EntityCodec.encode(entity)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
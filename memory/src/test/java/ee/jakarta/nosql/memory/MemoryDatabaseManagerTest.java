@@ -0,0 +1,604 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.memory;
+
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.Capability;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.QueryCancelledException;
+import jakarta.nosql.QueryTimeoutException;
+import jakarta.nosql.ReadConsistency;
+import jakarta.nosql.communication.spi.Condition;
+import jakarta.nosql.communication.spi.CursorLeakDetector;
+import jakarta.nosql.communication.spi.LatencyHistogram;
+import jakarta.nosql.communication.spi.Operation;
+import jakarta.nosql.communication.spi.OperationContext;
+import jakarta.nosql.communication.spi.OperationListener;
+import jakarta.nosql.communication.spi.OperationListeners;
+import jakarta.nosql.communication.spi.QueryFingerprint;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.SlowQueryLog;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardOrder;
+import jakarta.nosql.communication.spi.StandardUpdate;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+class MemoryDatabaseManagerTest {
+
+    private MemoryDatabaseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new MemoryDatabaseManagerFactory().database("library");
+        for (int index = 0; index < 100; index++) {
+            manager.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, index, "age", index % 50,
+                    "city", "city-" + index % 5)));
+        }
+    }
+
+    @Test
+    void shouldGenerateIdOnInsert() {
+        MemoryEntity inserted = manager.insert(MemoryEntity.of("Book", Map.of("title", "Effective Java")));
+        Assertions.assertThat(inserted.id()).isNotNull();
+        Assertions.assertThat(manager.findById(MemoryKey.of("Book", inserted.id()))).contains(inserted);
+    }
+
+    @Test
+    void shouldDeclareCapabilities() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.capabilities().isDeclared()).isTrue();
+            soft.assertThat(manager.capabilities().supportsAll(Capability.SELECT, Capability.ORDERING,
+                    Capability.RANGE_CONDITIONS, Capability.PROJECTIONS)).isTrue();
+            soft.assertThat(manager.capabilities().supports(Capability.EXPIRATION)).isFalse();
+            soft.assertThat(new MemoryDatabaseManagerFactory().capabilities()).isEqualTo(manager.capabilities());
+        });
+    }
+
+    @Test
+    void shouldFindByIdInDefaultCollection() {
+        manager.insert(MemoryEntity.of("library", Map.of(MemoryEntity.ID, "ada", "name", "Ada")));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.findById("ada")).isPresent();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", 10L))).isPresent();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", 1_000))).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFindEveryIdOnceTheMembershipFilterGrows() {
+        for (int index = 100; index < 5_000; index++) {
+            manager.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, index)));
+        }
+        manager.deleteById(MemoryKey.of("Person", 3));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(LongStream.range(0, 5_000).filter(index -> index != 3)
+                    .filter(index -> manager.findById(MemoryKey.of("Person", index)).isEmpty())).isEmpty();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", 7.0))).isPresent();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", BigDecimal.valueOf(7)))).isPresent();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", "7"))).isEmpty();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", 3))).isEmpty();
+            soft.assertThat(manager.findById(MemoryKey.of("Person", 5_000))).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldReturnSameResultsWithAndWithoutIndexes() {
+        List<Object> scanned = adultsOfCityOne();
+        manager.createIndex("Person", "city", IndexType.HASH);
+        manager.createIndex("Person", "age", IndexType.SORTED);
+        List<Object> indexed = adultsOfCityOne();
+
+        Assertions.assertThat(indexed).isEqualTo(scanned).containsExactly(46, 46, 41);
+    }
+
+    @Test
+    void shouldKeepIndexesConsistentOnWrites() {
+        manager.createIndex("Person", "city", IndexType.HASH);
+        manager.update().from("Person")
+                .set(StandardUpdate.set("city", "moved"))
+                .where(StandardCondition.eq("city", "city-0"))
+                .execute();
+        manager.deleteById(MemoryKey.of("Person", 5));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("city", "city-0")).fetch()).isEmpty();
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("city", "moved")).fetch()).hasSize(19);
+        });
+    }
+
+    @Test
+    void shouldCombineJunctionsFromLeftToRight() {
+        long count = manager.select().from("Person")
+                .where(StandardCondition.eq("city", "city-1"))
+                .and(StandardCondition.lt("age", 10))
+                .or(StandardCondition.eq(MemoryEntity.ID, 99))
+                .fetch()
+                .count();
+        Assertions.assertThat(count).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRewriteConditionsBeforePlanning() {
+        manager.createIndex("Person", "city", IndexType.HASH);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person")
+                    .where(StandardCondition.eq("city", "city-1"))
+                    .or(StandardCondition.eq("city", "city-2"))
+                    .fetch()).hasSize(40);
+            soft.assertThat(manager.select().from("Person")
+                    .where(StandardCondition.gt("age", 5))
+                    .and(StandardCondition.gte("age", 40))
+                    .and(StandardCondition.lt("age", 45))
+                    .fetch()).hasSize(10);
+            soft.assertThat(manager.select().from("Person")
+                    .where(StandardCondition.eq("age", 1))
+                    .and(StandardCondition.eq("age", 2))
+                    .fetch()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldOrderSkipAndLimit() {
+        manager.createIndex("Person", "age", IndexType.SORTED);
+        List<Object> ages = manager.select().from("Person")
+                .orderBy(StandardOrder.asc("age"))
+                .limit(3)
+                .skip(2)
+                .fetch()
+                .map(entity -> entity.get("age"))
+                .toList();
+        Assertions.assertThat(ages).containsExactly(1, 1, 2);
+    }
+
+    @Test
+    void shouldFetchInParallel() {
+        manager.createIndex("Person", "age", IndexType.SORTED);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person").parallelFetch().isParallel()).isTrue();
+            soft.assertThat(manager.select().from("Person").parallelFetch().mapToInt(entity -> (Integer) entity.get("age")).sum())
+                    .isEqualTo(2 * 49 * 50 / 2);
+            soft.assertThat(manager.select().from("Person")
+                    .where(StandardCondition.gte("age", 10))
+                    .orderBy(StandardOrder.desc("age"))
+                    .limit(3)
+                    .parallelFetch()
+                    .map(entity -> entity.get("age"))).containsExactly(49, 49, 48);
+        });
+    }
+
+    @Test
+    void shouldKeepTheStepSequentialAfterAParallelFetch() {
+        SelectExecutor.FinalStep<MemoryEntity> step = manager.select().from("Person");
+        Assertions.assertThat(step.parallelFetch().isParallel()).isTrue();
+        Assertions.assertThat(step.fetch().isParallel()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreFetchSize() {
+        Assertions.assertThat(manager.select().from("Person").fetchSize(7).orderBy(StandardOrder.asc("age")).limit(2).fetch()
+                .map(entity -> entity.get("age"))).containsExactly(0, 0);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> manager.select().from("Person").fetchSize(0));
+    }
+
+    @Test
+    void shouldStopQueriesOnTimeoutOrInterrupt() {
+        Assertions.assertThatThrownBy(() -> manager.select().from("Person")
+                        .timeout(Duration.ofNanos(1))
+                        .orderBy(StandardOrder.asc("age"))
+                        .limit(3)
+                        .fetch())
+                .isInstanceOf(QueryTimeoutException.class);
+        Assertions.assertThat(manager.select().from("Person").timeout(Duration.ofMinutes(1)).fetch()).hasSize(100);
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThatThrownBy(() -> manager.select().from("Person").timeout(Duration.ofMinutes(1)).fetch().count())
+                    .isInstanceOf(QueryCancelledException.class)
+                    .isNotInstanceOf(QueryTimeoutException.class);
+        } finally {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldReleaseCursorsOnCloseAndReportLeaks() throws InterruptedException {
+        CursorLeakDetector.enable(true);
+        try {
+            long open = CursorLeakDetector.openCursors();
+            long leaked = CursorLeakDetector.leakedCursors();
+            try (Stream<MemoryEntity> stream = manager.select().from("Person").fetch()) {
+                Assertions.assertThat(stream.findFirst()).isPresent();
+                Assertions.assertThat(CursorLeakDetector.openCursors()).isEqualTo(open + 1);
+            }
+            Assertions.assertThat(CursorLeakDetector.openCursors()).isEqualTo(open);
+            Assertions.assertThat(manager.select().from("Person").fetch().count()).isEqualTo(100);
+            Assertions.assertThat(CursorLeakDetector.openCursors()).isEqualTo(open);
+
+            manager.select().from("Person").fetch().iterator().next();
+            for (int attempt = 0; attempt < 100 && CursorLeakDetector.leakedCursors() == leaked; attempt++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            Assertions.assertThat(CursorLeakDetector.leakedCursors()).isEqualTo(leaked + 1);
+            Assertions.assertThat(CursorLeakDetector.openCursors()).isEqualTo(open);
+        } finally {
+            CursorLeakDetector.enable(false);
+        }
+    }
+
+    @Test
+    void shouldReadTheLatestWriteAtAnyConsistency() {
+        manager.update(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 7, "age", 70)));
+        for (ReadConsistency consistency : List.of(ReadConsistency.ONE, ReadConsistency.LOCAL, ReadConsistency.QUORUM,
+                ReadConsistency.STRONG, ReadConsistency.boundedStaleness(Duration.ZERO))) {
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(manager.findById(MemoryKey.of("Person", 7), consistency))
+                        .hasValueSatisfying(entity -> soft.assertThat(entity.get("age")).isEqualTo(70));
+                soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("age", 70))
+                        .consistency(consistency).fetch()).hasSize(1);
+            });
+        }
+        Assertions.assertThat(manager.capabilities().supports(Capability.READ_CONSISTENCY)).isTrue();
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ReadConsistency(ReadConsistency.Level.STRONG, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void shouldPublishChangesToWatchers() throws InterruptedException {
+        BlockingQueue<ChangeEvent<MemoryEntity>> events = new LinkedBlockingQueue<>();
+        manager.watch("Person").subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ChangeEvent<MemoryEntity> event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        manager.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 100, "age", 1)));
+        manager.insert(MemoryEntity.of("Book", Map.of(MemoryEntity.ID, 100, "title", "Dune")));
+        manager.update().from("Person").set(StandardUpdate.set("age", 2)).where(StandardCondition.eq(MemoryEntity.ID, 100)).execute();
+        manager.deleteById(MemoryKey.of("Person", 100));
+
+        List<ChangeEvent.Type> types = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            ChangeEvent<MemoryEntity> event = events.poll(10, TimeUnit.SECONDS);
+            Assertions.assertThat(event).isNotNull().extracting(ChangeEvent::id).isEqualTo(100);
+            types.add(event.type());
+        }
+        Assertions.assertThat(types).containsExactly(ChangeEvent.Type.INSERT, ChangeEvent.Type.UPDATE, ChangeEvent.Type.DELETE);
+        Assertions.assertThat(manager.capabilities().supports(Capability.CHANGE_STREAMS)).isTrue();
+    }
+
+    @Test
+    void shouldPublishChangesOnceTheJournalCommits() throws InterruptedException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        MemoryDatabaseManager journaled = MemoryDatabaseManager.journaled("journaled", new Journal() {
+            @Override
+            public void put(MemoryEntity entity) {
+            }
+
+            @Override
+            public void remove(String collection, Object id) {
+            }
+
+            @Override
+            public void commit() {
+                if (failing.get()) {
+                    throw new IllegalStateException("The journal is full");
+                }
+            }
+        });
+        BlockingQueue<ChangeEvent<MemoryEntity>> events = new LinkedBlockingQueue<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        journaled.watch("Person").subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ChangeEvent<MemoryEntity> event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> journaled.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 1, "age", 1))));
+        failing.set(false);
+        journaled.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 2, "age", 2)));
+
+        ChangeEvent<MemoryEntity> event = events.poll(10, TimeUnit.SECONDS);
+        Assertions.assertThat(event).isNotNull().extracting(ChangeEvent::id).isEqualTo(2);
+        journaled.close();
+        Assertions.assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(events).isEmpty();
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> journaled.watch("Person"));
+    }
+
+    @Test
+    void shouldCountUpToAThreshold() {
+        manager.createIndex("Person", "city", IndexType.HASH);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person").count(Accuracy.EXACT)).isEqualTo(100);
+            soft.assertThat(manager.select().from("Person").count(Accuracy.APPROXIMATE)).isEqualTo(100);
+            soft.assertThat(manager.select().from("Person").countUpTo(10)).isEqualTo(10);
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("city", "city-1")).countUpTo(7))
+                    .isEqualTo(7);
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("city", "city-1"))
+                    .count(Accuracy.EXACT)).isEqualTo(20);
+            soft.assertThat(manager.select().from("Person").orderBy(StandardOrder.asc("age")).limit(30).skip(80)
+                    .count(Accuracy.EXACT)).isEqualTo(20);
+            soft.assertThat(manager.select().from("Book").countUpTo(10)).isZero();
+        });
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> manager.select().from("Person").countUpTo(-1));
+    }
+
+    @Test
+    void shouldReturnDistinctValuesWithAndWithoutIndexes() {
+        manager.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 100, "age", 7)));
+        List<Object> scanned = manager.select().from("Person").distinct("city").toList();
+        manager.createIndex("Person", "city", IndexType.HASH);
+        List<Object> indexed = manager.select().from("Person").distinct("city").toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(scanned).containsExactlyInAnyOrder("city-0", "city-1", "city-2", "city-3", "city-4");
+            soft.assertThat(indexed).containsExactlyInAnyOrder("city-0", "city-1", "city-2", "city-3", "city-4");
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.lt("age", 3)).distinct("age"))
+                    .containsExactlyInAnyOrder(0L, 1L, 2L);
+            soft.assertThat(manager.capabilities().supports(Capability.DISTINCT)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldNotMergeDistinctValuesTiedBySortedIndexes() {
+        manager.insert(MemoryEntity.of("Tag", Map.of(MemoryEntity.ID, 1, "color", new Color("red"))));
+        manager.insert(MemoryEntity.of("Tag", Map.of(MemoryEntity.ID, 2, "color", new Color("blue"))));
+        manager.createIndex("Tag", "color", IndexType.SORTED);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Tag").distinct("color"))
+                    .containsExactlyInAnyOrder(new Color("red"), new Color("blue"));
+            soft.assertThat(manager.select().from("Tag").where(StandardCondition.eq("color", new Color("blue")))
+                    .fetchKeys()).containsExactly(2);
+            soft.assertThat(manager.select().from("Tag").orderBy(StandardOrder.asc("color")).fetchKeys())
+                    .containsExactlyInAnyOrder(1, 2);
+        });
+        manager.delete().from("Tag").where(StandardCondition.eq("color", new Color("red"))).execute();
+
+        Assertions.assertThat(manager.select().from("Tag").distinct("color")).containsExactly(new Color("blue"));
+        Assertions.assertThat(manager.select().from("Tag").where(StandardCondition.eq("color", new Color("blue")))
+                .fetchKeys()).containsExactly(2);
+    }
+
+    @Test
+    void shouldFetchOnlyKeys() {
+        manager.createIndex("Person", "age", IndexType.SORTED);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person").fetchKeys()).hasSize(100);
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.lt("age", 2)).fetchKeys())
+                    .containsExactlyInAnyOrder(0, 1, 50, 51);
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.gte("age", 48))
+                    .orderBy(StandardOrder.desc("age")).limit(2).fetchKeys()).containsExactlyInAnyOrder(49, 99);
+            soft.assertThat(manager.select("age").from("Person").limit(3).fetchKeys()).hasSize(3);
+            soft.assertThat(manager.capabilities().supports(Capability.KEYS_ONLY)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSampleMatchingEntities() {
+        List<MemoryEntity> sample = manager.select("age").from("Person").where(StandardCondition.lt("age", 10)).sample(5);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sample).hasSize(5)
+                    .allSatisfy(entity -> soft.assertThat((Integer) entity.get("age")).isLessThan(10))
+                    .allSatisfy(entity -> soft.assertThat(entity.fields()).containsOnlyKeys(MemoryEntity.ID, "age"));
+            soft.assertThat(sample.stream().map(MemoryEntity::id)).doesNotHaveDuplicates();
+            soft.assertThat(manager.select().from("Person").sample(1_000)).hasSize(100);
+            soft.assertThat(manager.select().from("Person").orderBy(StandardOrder.asc("age")).limit(4).skip(0).sample(10))
+                    .extracting(entity -> entity.get("age")).containsExactlyInAnyOrder(0, 0, 1, 1);
+            soft.assertThat(manager.capabilities().supports(Capability.SAMPLING)).isTrue();
+        });
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> manager.select().from("Person").sample(-1));
+    }
+
+    @Test
+    void shouldProjectAndRemoveFields() {
+        manager.delete("city").from("Person").where(StandardCondition.lt("age", 1)).execute();
+        Assertions.assertThat(manager.select("age").from("Person").fetch())
+                .allSatisfy(entity -> Assertions.assertThat(entity.fields()).containsOnlyKeys(MemoryEntity.ID, "age"));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select().from("Person").where(StandardCondition.eq("city", null)).fetch()).hasSize(2);
+            soft.assertThat(manager.count("Person")).isEqualTo(100);
+        });
+    }
+
+    @Test
+    void shouldMatchLikePatterns() {
+        long count = manager.select().from("Person").where(StandardCondition.like("city", "c_ty-%2")).fetch().count();
+        Assertions.assertThat(count).isEqualTo(20);
+    }
+
+    @Test
+    void shouldNotifyOperationListeners() {
+        List<String> notifications = new ArrayList<>();
+        LatencyHistogram histogram = new LatencyHistogram();
+        OperationListener recorder = new OperationListener() {
+            @Override
+            public void before(OperationContext context) {
+                notifications.add("before " + context.operation() + " " + context.entity() + " " + context.conditions());
+            }
+
+            @Override
+            public void after(OperationContext context, long rows, long bytes) {
+                notifications.add("after " + context.operation() + " " + rows);
+            }
+
+            @Override
+            public void error(OperationContext context, Throwable error) {
+                notifications.add("error " + context.operation() + " " + error.getClass().getSimpleName());
+            }
+        };
+        MemoryDatabaseManager observed = new MemoryDatabaseManager("observed", Journal.NONE,
+                OperationListeners.of(recorder, histogram));
+
+        observed.insert(List.of(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 1, "age", 10)),
+                MemoryEntity.of("Person", Map.of(MemoryEntity.ID, 2, "age", 20))));
+        observed.findById(MemoryKey.of("Person", 1));
+        try (Stream<MemoryEntity> adults = observed.select().from("Person")
+                .where(StandardCondition.gte("age", 18)).and(StandardCondition.lt("age", 65)).fetch()) {
+            Assertions.assertThat(notifications).last().isEqualTo("before SELECT Person 2");
+            Assertions.assertThat(adults).hasSize(1);
+            Assertions.assertThat(notifications).last().isEqualTo("after SELECT 1");
+        }
+        observed.select().from("Person").count(Accuracy.EXACT);
+        observed.delete().from("Person").where(StandardCondition.eq("age", 10)).execute();
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> observed.update(MemoryEntity.of("Person", Map.of("age", 30))));
+
+        Assertions.assertThat(notifications).containsExactly(
+                "before INSERT Person 0", "after INSERT 2",
+                "before FIND Person 1", "after FIND 1",
+                "before SELECT Person 2", "after SELECT 1",
+                "before COUNT Person 0", "after COUNT 2",
+                "before DELETE Person 1", "after DELETE -1",
+                "before UPDATE Person 0", "error UPDATE IllegalArgumentException");
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(histogram.snapshot("Person", Operation.INSERT).rows()).isEqualTo(2);
+            soft.assertThat(histogram.snapshot("Person", Operation.SELECT).count()).isEqualTo(1);
+            soft.assertThat(histogram.snapshot("Person", Operation.UPDATE).errors()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldFingerprintQueriesForTheSlowQueryLog() {
+        SlowQueryLog log = new SlowQueryLog(Duration.ZERO);
+        MemoryDatabaseManager observed = new MemoryDatabaseManager("slow", Journal.NONE, OperationListeners.of(log));
+        for (int index = 0; index < 10; index++) {
+            observed.insert(MemoryEntity.of("Person", Map.of(MemoryEntity.ID, index, "age", index * 10)));
+        }
+        log.reset();
+
+        for (int age : List.of(18, 65)) {
+            try (Stream<MemoryEntity> people = observed.select().from("Person")
+                    .where(StandardCondition.gte("age", age)).orderBy(StandardOrder.asc("age")).limit(3).fetch()) {
+                Assertions.assertThat(people).isNotEmpty();
+            }
+        }
+        observed.select().from("Person").where(StandardCondition.eq("age", 20)).count(Accuracy.EXACT);
+
+        Assertions.assertThat(log.entries()).extracting(SlowQueryLog.Entry::fingerprint, SlowQueryLog.Entry::count)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(new QueryFingerprint(Operation.SELECT, "Person",
+                                "SELECT Person WHERE age gte ? ORDER BY age ASC LIMIT ?"), 2L),
+                        Assertions.tuple(new QueryFingerprint(Operation.COUNT, "Person", "COUNT Person WHERE age eq ?"), 1L));
+    }
+
+    @Test
+    void shouldRecordFlightRecorderEvents() throws IOException {
+        Path dump = Files.createTempFile("nosql", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jakarta.nosql.Operation").withThreshold(Duration.ZERO);
+            recording.enable("jakarta.nosql.QueryTranslation").withThreshold(Duration.ZERO);
+            recording.start();
+            try (Stream<MemoryEntity> adults = manager.select().from("Person")
+                    .where(StandardCondition.gte("age", 18)).fetch()) {
+                Assertions.assertThat(adults).isNotEmpty();
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+
+        Assertions.assertThat(events).extracting(event -> event.getEventType().getName())
+                .containsExactly("jakarta.nosql.QueryTranslation", "jakarta.nosql.Operation");
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(events.get(0).getString("query")).isEqualTo("SELECT Person WHERE age gte ?");
+            soft.assertThat(events.get(0).getInt("conditions")).isEqualTo(1);
+            soft.assertThat(events.get(1).getString("operation")).isEqualTo("SELECT");
+            soft.assertThat(events.get(1).getLong("results")).isPositive();
+        });
+    }
+
+    @Test
+    void shouldRejectForeignTokens() {
+        Condition foreign = new Condition() {
+        };
+        Assertions.assertThatThrownBy(() -> manager.select().from("Person").where(foreign))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Object> adultsOfCityOne() {
+        return manager.select().from("Person")
+                .where(StandardCondition.eq("city", "city-1"))
+                .and(StandardCondition.between("age", 18, 49))
+                .orderBy(StandardOrder.desc("age"))
+                .limit(3)
+                .fetch()
+                .map(entity -> entity.get("age"))
+                .toList();
+    }
+
+    private record Color(String name) {
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
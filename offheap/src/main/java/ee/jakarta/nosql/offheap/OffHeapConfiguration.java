@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+/**
+ * The configuration of an {@link OffHeapDatabaseManagerFactory}.
+ *
+ * <p>Each database may use up to {@code capacity} bytes outside the heap, split evenly between its
+ * segments. A segment is locked while it is read or written, so more segments allow more concurrency; the
+ * largest entity a segment holds is the smaller of its share of the capacity and 64 MiB.</p>
+ *
+ * <p>Queries are rejected unless fallback queries are enabled, in which case they are evaluated on the
+ * client over a scan of the collection, see {@link ee.jakarta.nosql.memory.FallbackQueryEngine}.</p>
+ *
+ * <pre>{@code
+ * OffHeapConfiguration configuration = OffHeapConfiguration.of(8L * 1024 * 1024 * 1024).withFallbackQueries();
+ * }</pre>
+ *
+ * @param capacity        the maximum number of bytes allocated outside the heap per database
+ * @param segments        the number of independently locked segments, a power of two
+ * @param fallbackQueries whether queries are evaluated over a scan instead of being rejected
+ */
+public record OffHeapConfiguration(long capacity, int segments, boolean fallbackQueries) {
+
+    /**
+     * The smallest share of the capacity a segment may have, 64 KiB.
+     */
+    public static final long MINIMUM_SEGMENT_CAPACITY = 64L * 1024;
+
+    /**
+     * Validates the configuration.
+     *
+     * @throws IllegalArgumentException when segments is not a positive power of two, or when the capacity
+     *                                  gives a segment less than {@value #MINIMUM_SEGMENT_CAPACITY} bytes
+     */
+    public OffHeapConfiguration {
+        if (segments <= 0 || Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("segments must be a positive power of two: " + segments);
+        }
+        if (capacity / segments < MINIMUM_SEGMENT_CAPACITY) {
+            throw new IllegalArgumentException("capacity must give each segment at least " + MINIMUM_SEGMENT_CAPACITY
+                    + " bytes: " + capacity);
+        }
+    }
+
+    /**
+     * Creates a configuration rejecting queries.
+     *
+     * @param capacity the maximum number of bytes allocated outside the heap per database
+     * @param segments the number of independently locked segments, a power of two
+     * @throws IllegalArgumentException when segments is not a positive power of two, or when the capacity
+     *                                  gives a segment less than {@value #MINIMUM_SEGMENT_CAPACITY} bytes
+     */
+    public OffHeapConfiguration(long capacity, int segments) {
+        this(capacity, segments, false);
+    }
+
+    /**
+     * Creates a configuration with four segments per available processor.
+     *
+     * @param capacity the maximum number of bytes allocated outside the heap per database
+     * @return a new configuration
+     */
+    public static OffHeapConfiguration of(long capacity) {
+        int segments = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4));
+        while (segments > 1 && capacity / segments < MINIMUM_SEGMENT_CAPACITY) {
+            segments >>= 1;
+        }
+        return new OffHeapConfiguration(capacity, segments);
+    }
+
+    /**
+     * Returns this configuration with queries evaluated over a scan instead of being rejected.
+     *
+     * @return a new configuration
+     */
+    public OffHeapConfiguration withFallbackQueries() {
+        return new OffHeapConfiguration(capacity, segments, true);
+    }
+
+    long segmentCapacity() {
+        return capacity / segments;
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+import ee.jakarta.nosql.memory.EntityCodec;
+import ee.jakarta.nosql.memory.FallbackQueryEngine;
+import ee.jakarta.nosql.memory.MemoryEntity;
+import ee.jakarta.nosql.memory.MemoryKey;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DeleteExecutor;
+import jakarta.nosql.communication.spi.Operation;
+import jakarta.nosql.communication.spi.OperationContext;
+import jakarta.nosql.communication.spi.OperationListeners;
+import jakarta.nosql.communication.spi.ScanPartition;
+import jakarta.nosql.communication.spi.SelectExecutor;
+import jakarta.nosql.communication.spi.UpdateExecutor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A key-value {@link DatabaseManager} keeping serialized {@link MemoryEntity} structures in direct memory,
+ * outside the Java heap.
+ *
+ * <p>The heap only holds the index: per segment, an array of record addresses and an array of key hashes,
+ * about twelve bytes per entity plus free space. Entities are encoded with {@link EntityCodec} and decoded on
+ * every read, so each {@code findById} returns a new instance. Entities are keyed by collection and
+ * identifier; {@code findById} and {@code deleteById} accept a {@link MemoryKey}, and any other identifier
+ * refers to the collection named after this database.</p>
+ *
+ * <pre>{@code
+ * OffHeapDatabaseManager manager = new OffHeapDatabaseManagerFactory(OffHeapConfiguration.of(1L << 30))
+ *         .database("sessions");
+ * manager.insert(MemoryEntity.of("Session", Map.of(MemoryEntity.ID, "abc123", "user", "user-42")),
+ *         Duration.ofMinutes(30));
+ * Optional<MemoryEntity> session = manager.findById(MemoryKey.of("Session", "abc123"));
+ * }</pre>
+ *
+ * <p>As a key-value store, this provider does not support queries: {@code select}, {@code update()}, and the
+ * {@code delete} executors throw {@link UnsupportedOperationException}, unless
+ * {@linkplain OffHeapConfiguration#withFallbackQueries() fallback queries} are enabled. The executors then
+ * scan the collection, decoding one segment at a time, and evaluate the query on the heap; entities changed
+ * by an update lose their time to live, as with {@code update(entity)}. Inserting beyond the configured
+ * capacity throws {@link IllegalStateException} once expired entities have been evicted. Direct memory is
+ * returned to the operating system when the manager is garbage collected.</p>
+ *
+ * <p>Every operation notifies the {@linkplain OperationListeners#discovered() discovered} operation
+ * listeners.</p>
+ */
+public final class OffHeapDatabaseManager implements DatabaseManager<MemoryEntity> {
+
+    static final Capabilities CAPABILITIES = Capabilities.of(Capability.EXPIRATION, Capability.READ_CONSISTENCY);
+
+    static final Capabilities FALLBACK_CAPABILITIES = Capabilities.of(Capability.EXPIRATION, Capability.SELECT,
+            Capability.DELETE_BY_QUERY, Capability.UPDATE_BY_QUERY, Capability.RANGE_CONDITIONS,
+            Capability.DISJUNCTION, Capability.ORDERING, Capability.PAGINATION, Capability.PROJECTIONS,
+            Capability.PARALLEL_SCAN, Capability.READ_CONSISTENCY);
+
+    private static final String QUERIES_UNSUPPORTED = "The off-heap provider is a key-value store and does not support queries"
+            + " unless fallback queries are enabled";
+
+    private final String name;
+
+    private final OffHeapSegment[] segments;
+
+    private final int shift;
+
+    private final FallbackQueryEngine fallback;
+
+    private final OperationListeners listeners;
+
+    OffHeapDatabaseManager(String name, OffHeapConfiguration configuration) {
+        this(name, configuration, OperationListeners.discovered());
+    }
+
+    OffHeapDatabaseManager(String name, OffHeapConfiguration configuration, OperationListeners listeners) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.listeners = Objects.requireNonNull(listeners, "listeners is required");
+        this.segments = new OffHeapSegment[configuration.segments()];
+        for (int index = 0; index < segments.length; index++) {
+            segments[index] = new OffHeapSegment(configuration.segmentCapacity());
+        }
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(segments.length);
+        this.fallback = configuration.fallbackQueries()
+                ? new FallbackQueryEngine(this::scan, this::replace, entity -> remove(MemoryKey.of(entity.name(), entity.id())), listeners)
+                : null;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return fallback == null ? CAPABILITIES : FALLBACK_CAPABILITIES;
+    }
+
+    @Override
+    public MemoryEntity insert(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return listeners.observe(() -> OperationContext.start(Operation.INSERT, entity.name()),
+                () -> put(entity, 0L), inserted -> 1);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> insert(Iterable<MemoryEntity> entities) {
+        List<MemoryEntity> batch = batch(entities);
+        return listeners.observe(() -> OperationContext.start(Operation.INSERT, collection(batch)), () -> {
+            List<MemoryEntity> inserted = new ArrayList<>();
+            batch.forEach(entity -> inserted.add(put(entity, 0L)));
+            return inserted;
+        }, List::size);
+    }
+
+    /**
+     * Inserts an entity that is no longer found once the time to live has elapsed.
+     *
+     * @throws IllegalArgumentException when the time to live is not positive
+     */
+    @Override
+    public MemoryEntity insert(MemoryEntity entity, Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        long nanos = ttl.compareTo(Duration.ofDays(365L * 100)) > 0 ? Long.MAX_VALUE / 2 : ttl.toNanos();
+        Objects.requireNonNull(entity, "entity is required");
+        return listeners.observe(() -> OperationContext.start(Operation.INSERT, entity.name()), () -> {
+            long expiresAt = System.nanoTime() + nanos;
+            return put(entity, expiresAt == 0 ? 1 : expiresAt);
+        }, inserted -> 1);
+    }
+
+    /**
+     * Stores the entity, replacing any entity with the same identifier.
+     *
+     * @throws IllegalArgumentException when the entity has no identifier
+     */
+    @Override
+    public MemoryEntity update(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return listeners.observe(() -> OperationContext.start(Operation.UPDATE, entity.name()),
+                () -> replace(entity), updated -> 1);
+    }
+
+    @Override
+    public Iterable<MemoryEntity> update(Iterable<MemoryEntity> entities) {
+        List<MemoryEntity> batch = batch(entities);
+        return listeners.observe(() -> OperationContext.start(Operation.UPDATE, collection(batch)), () -> {
+            List<MemoryEntity> updated = new ArrayList<>();
+            batch.forEach(entity -> updated.add(replace(entity)));
+            return updated;
+        }, List::size);
+    }
+
+    @Override
+    public void delete(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (entity.id() != null) {
+            listeners.observe(() -> OperationContext.start(Operation.DELETE, entity.name(), 1),
+                    () -> remove(MemoryKey.of(entity.name(), entity.id())), removed -> removed ? 1 : 0);
+        }
+    }
+
+    @Override
+    public <K> Optional<MemoryEntity> findById(K id) {
+        Objects.requireNonNull(id, "id is required");
+        return listeners.observe(() -> OperationContext.start(Operation.FIND, collection(id), 1), () -> {
+            byte[] key = key(id);
+            int hash = hash(key);
+            byte[] value = segment(hash).get(key, hash, System.nanoTime());
+            return value == null ? Optional.<MemoryEntity>empty() : Optional.of(EntityCodec.decode(value));
+        }, found -> found.isPresent() ? 1 : 0);
+    }
+
+    @Override
+    public <K> void deleteById(K id) {
+        Objects.requireNonNull(id, "id is required");
+        listeners.observe(() -> OperationContext.start(Operation.DELETE, collection(id), 1), () -> remove(id),
+                removed -> removed ? 1 : 0);
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select() {
+        return fallback().select();
+    }
+
+    @Override
+    public SelectExecutor<MemoryEntity> select(String... names) {
+        return fallback().select(names);
+    }
+
+    @Override
+    public DeleteExecutor delete() {
+        return fallback().delete();
+    }
+
+    @Override
+    public DeleteExecutor delete(String... names) {
+        return fallback().delete(names);
+    }
+
+    @Override
+    public UpdateExecutor update() {
+        return fallback().update();
+    }
+
+    /**
+     * Returns the number of stored entities, including expired entities not yet evicted.
+     *
+     * @return the number of entities
+     */
+    public long count() {
+        long count = 0;
+        for (OffHeapSegment segment : segments) {
+            count += segment.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes reserved outside the heap. Slabs are kept once reserved, so the value
+     * does not decrease when entities are deleted.
+     *
+     * @return the allocated bytes
+     */
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (OffHeapSegment segment : segments) {
+            bytes += segment.allocatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes every expired entity now, instead of when it is next read or swept.
+     *
+     * @return the number of removed entities
+     */
+    public long evictExpired() {
+        long now = System.nanoTime();
+        long evicted = 0;
+        for (OffHeapSegment segment : segments) {
+            evicted += segment.evictExpired(now);
+        }
+        return evicted;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapDatabaseManager{" +
+                "name='" + name + '\'' +
+                ", segments=" + segments.length +
+                '}';
+    }
+
+    private static List<MemoryEntity> batch(Iterable<MemoryEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<MemoryEntity> batch = new ArrayList<>();
+        entities.forEach(batch::add);
+        return batch;
+    }
+
+    /**
+     * Returns the collection reported for a batch, that of its first entity.
+     */
+    private String collection(List<MemoryEntity> batch) {
+        return batch.isEmpty() || batch.get(0) == null ? name : batch.get(0).name();
+    }
+
+    private String collection(Object id) {
+        return id instanceof MemoryKey key ? key.collection() : name;
+    }
+
+    private MemoryEntity replace(MemoryEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (entity.id() == null) {
+            throw new IllegalArgumentException("An entity requires the " + MemoryEntity.ID + " field to be updated");
+        }
+        return put(entity, 0L);
+    }
+
+    private MemoryEntity put(MemoryEntity entity, long expiresAt) {
+        Objects.requireNonNull(entity, "entity is required");
+        MemoryEntity identified = entity.id() == null ? entity.with(MemoryEntity.ID, UUID.randomUUID().toString()) : entity;
+        byte[] key = key(MemoryKey.of(identified.name(), identified.id()));
+        int hash = hash(key);
+        if (!segment(hash).put(key, hash, EntityCodec.encode(identified), expiresAt, System.nanoTime())) {
+            throw new IllegalStateException("The off-heap capacity of " + name + " is exhausted");
+        }
+        return identified;
+    }
+
+    private FallbackQueryEngine fallback() {
+        if (fallback == null) {
+            throw new UnsupportedOperationException(QUERIES_UNSUPPORTED);
+        }
+        return fallback;
+    }
+
+    /**
+     * Decodes the live entities of a collection, copying the records of one segment at a time. Each segment
+     * is a {@link ScanPartition}, so a parallel scan reads several segments at once.
+     */
+    private Stream<MemoryEntity> scan(String collection) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(collection);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        byte[] prefix = bytes.toByteArray();
+        long now = System.nanoTime();
+        List<ScanPartition<byte[]>> partitions = new ArrayList<>(segments.length);
+        for (OffHeapSegment segment : segments) {
+            partitions.add(ScanPartition.of(segment.size(), () -> segment.values(prefix, now).spliterator()));
+        }
+        return StreamSupport.stream(ScanPartition.spliterator(partitions, Spliterator.NONNULL), false)
+                .map(EntityCodec::decode);
+    }
+
+    private boolean remove(Object id) {
+        byte[] key = key(id);
+        int hash = hash(key);
+        return segment(hash).remove(key, hash);
+    }
+
+    private OffHeapSegment segment(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> shift];
+    }
+
+    /**
+     * Encodes the collection and identifier, with integral numbers widened so that {@code 1} and {@code 1L}
+     * are the same key.
+     */
+    private byte[] key(Object id) {
+        MemoryKey key = id instanceof MemoryKey memoryKey ? memoryKey : MemoryKey.of(name, id);
+        Object value = key.id();
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            value = ((Number) value).longValue();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(key.collection());
+            EntityCodec.writeValue(value, output);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int hash(byte[] key) {
+        int hash = Arrays.hashCode(key);
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.communication.spi.DatabaseManager;
+import jakarta.nosql.communication.spi.DatabaseManagerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates {@link OffHeapDatabaseManager} instances. Each database has the full capacity of the configuration,
+ * and the same manager is returned for the same database name.
+ *
+ * <pre>{@code
+ * DatabaseManagerFactory factory = new OffHeapDatabaseManagerFactory(OffHeapConfiguration.of(1L << 30));
+ * DatabaseManager<MemoryEntity> manager = factory.create("sessions");
+ * }</pre>
+ */
+public final class OffHeapDatabaseManagerFactory implements DatabaseManagerFactory {
+
+    private final OffHeapConfiguration configuration;
+
+    private final ConcurrentMap<String, OffHeapDatabaseManager> databases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a factory.
+     *
+     * @param configuration the configuration of the databases
+     * @throws NullPointerException when configuration is null
+     */
+    public OffHeapDatabaseManagerFactory(OffHeapConfiguration configuration) {
+        this.configuration = Objects.requireNonNull(configuration, "configuration is required");
+    }
+
+    /**
+     * Returns the manager of a database, creating it when needed. The manager stores {@code MemoryEntity}
+     * structures whatever the requested type.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> DatabaseManager<T> create(String databaseName) {
+        return (DatabaseManager<T>) database(databaseName);
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return configuration.fallbackQueries() ? OffHeapDatabaseManager.FALLBACK_CAPABILITIES : OffHeapDatabaseManager.CAPABILITIES;
+    }
+
+    /**
+     * Returns the manager of a database, creating it when needed.
+     *
+     * @param databaseName the database name
+     * @return the manager of the database
+     * @throws NullPointerException when databaseName is null
+     */
+    public OffHeapDatabaseManager database(String databaseName) {
+        Objects.requireNonNull(databaseName, "databaseName is required");
+        return databases.computeIfAbsent(databaseName, name -> new OffHeapDatabaseManager(name, configuration));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One independently locked part of an off-heap database: an open-addressing hash index, held in primitive
+ * arrays on the heap, pointing to records allocated outside the heap.
+ *
+ * <p>A record is laid out as the key length, the value length, the expiration time in
+ * {@link System#nanoTime()} units or {@code 0} for none, the key bytes, and the value bytes. Expired records
+ * are removed when they are read, by an incremental sweep on every write, and by {@link #evictExpired(long)}.</p>
+ */
+final class OffHeapSegment {
+
+    private static final long EMPTY = -1L;
+
+    private static final long DELETED = -2L;
+
+    private static final int HEADER = Integer.BYTES * 2 + Long.BYTES;
+
+    private static final int INITIAL_SLOTS = 64;
+
+    private static final int SWEEP_STEPS = 2;
+
+    private final SlabAllocator allocator;
+
+    private long[] addresses;
+
+    private int[] hashes;
+
+    private int size;
+
+    private int occupied;
+
+    private int sweep;
+
+    OffHeapSegment(long capacity) {
+        this.allocator = new SlabAllocator(capacity);
+        this.addresses = new long[INITIAL_SLOTS];
+        this.hashes = new int[INITIAL_SLOTS];
+        Arrays.fill(addresses, EMPTY);
+    }
+
+    synchronized byte[] get(byte[] key, int hash, long now) {
+        int slot = find(key, hash);
+        if (slot < 0) {
+            return null;
+        }
+        long address = addresses[slot];
+        if (expired(address, now)) {
+            release(slot);
+            return null;
+        }
+        ByteBuffer slab = allocator.slab(address);
+        int offset = SlabAllocator.offset(address);
+        byte[] value = new byte[slab.getInt(offset + Integer.BYTES)];
+        slab.get(offset + HEADER + slab.getInt(offset), value);
+        return value;
+    }
+
+    /**
+     * Stores a record, replacing any record with the same key.
+     *
+     * @return whether the record fit within the capacity
+     */
+    synchronized boolean put(byte[] key, int hash, byte[] value, long expiresAt, long now) {
+        sweep(now);
+        int length = HEADER + key.length + value.length;
+        long address = allocator.allocate(length);
+        if (address < 0) {
+            evictExpired(now);
+            address = allocator.allocate(length);
+            if (address < 0) {
+                return false;
+            }
+        }
+        ByteBuffer slab = allocator.slab(address);
+        int offset = SlabAllocator.offset(address);
+        slab.putInt(offset, key.length).putInt(offset + Integer.BYTES, value.length).putLong(offset + Integer.BYTES * 2, expiresAt);
+        slab.put(offset + HEADER, key).put(offset + HEADER + key.length, value);
+
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            free(addresses[slot]);
+            addresses[slot] = address;
+            return true;
+        }
+        if ((occupied + 1) * 4L > addresses.length * 3L) {
+            resize(size + 1 > addresses.length / 2 ? addresses.length * 2 : addresses.length);
+        }
+        slot = insertionSlot(hash);
+        if (addresses[slot] == EMPTY) {
+            occupied++;
+        }
+        addresses[slot] = address;
+        hashes[slot] = hash;
+        size++;
+        return true;
+    }
+
+    synchronized boolean remove(byte[] key, int hash) {
+        int slot = find(key, hash);
+        if (slot < 0) {
+            return false;
+        }
+        release(slot);
+        return true;
+    }
+
+    synchronized int evictExpired(long now) {
+        int evicted = 0;
+        for (int slot = 0; slot < addresses.length; slot++) {
+            if (addresses[slot] >= 0 && expired(addresses[slot], now)) {
+                release(slot);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Copies the values of the live records whose key starts with a prefix.
+     */
+    synchronized List<byte[]> values(byte[] prefix, long now) {
+        List<byte[]> values = new ArrayList<>();
+        for (long address : addresses) {
+            if (address >= 0 && !expired(address, now) && keyStartsWith(address, prefix)) {
+                ByteBuffer slab = allocator.slab(address);
+                int offset = SlabAllocator.offset(address);
+                byte[] value = new byte[slab.getInt(offset + Integer.BYTES)];
+                slab.get(offset + HEADER + slab.getInt(offset), value);
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized long allocatedBytes() {
+        return allocator.allocatedBytes();
+    }
+
+    private int find(byte[] key, int hash) {
+        int mask = addresses.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long address = addresses[slot];
+            if (address == EMPTY) {
+                return -1;
+            }
+            if (address != DELETED && hashes[slot] == hash && keyEquals(address, key)) {
+                return slot;
+            }
+        }
+    }
+
+    private int insertionSlot(int hash) {
+        int mask = addresses.length - 1;
+        int slot = hash & mask;
+        while (addresses[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean keyEquals(long address, byte[] key) {
+        ByteBuffer slab = allocator.slab(address);
+        return slab.getInt(SlabAllocator.offset(address)) == key.length && keyStartsWith(address, key);
+    }
+
+    private boolean keyStartsWith(long address, byte[] prefix) {
+        ByteBuffer slab = allocator.slab(address);
+        int offset = SlabAllocator.offset(address);
+        if (slab.getInt(offset) < prefix.length) {
+            return false;
+        }
+        int start = offset + HEADER;
+        for (int index = 0; index < prefix.length; index++) {
+            if (slab.get(start + index) != prefix[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean expired(long address, long now) {
+        long expiresAt = allocator.slab(address).getLong(SlabAllocator.offset(address) + Integer.BYTES * 2);
+        return expiresAt != 0 && now - expiresAt >= 0;
+    }
+
+    private void release(int slot) {
+        free(addresses[slot]);
+        addresses[slot] = DELETED;
+        size--;
+    }
+
+    private void free(long address) {
+        ByteBuffer slab = allocator.slab(address);
+        int offset = SlabAllocator.offset(address);
+        allocator.free(address, HEADER + slab.getInt(offset) + slab.getInt(offset + Integer.BYTES));
+    }
+
+    /**
+     * Examines a few slots from a rotating cursor, so that expired records are reclaimed even when never read.
+     */
+    private void sweep(long now) {
+        for (int step = 0; step < SWEEP_STEPS; step++) {
+            sweep = (sweep + 1) & (addresses.length - 1);
+            if (addresses[sweep] >= 0 && expired(addresses[sweep], now)) {
+                release(sweep);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index with the given number of slots, dropping deleted markers; the records stay in place.
+     */
+    private void resize(int slots) {
+        long[] oldAddresses = addresses;
+        int[] oldHashes = hashes;
+        addresses = new long[slots];
+        hashes = new int[slots];
+        Arrays.fill(addresses, EMPTY);
+        for (int slot = 0; slot < oldAddresses.length; slot++) {
+            if (oldAddresses[slot] >= 0) {
+                int target = insertionSlot(oldHashes[slot]);
+                addresses[target] = oldAddresses[slot];
+                hashes[target] = oldHashes[slot];
+            }
+        }
+        occupied = size;
+    }
+}
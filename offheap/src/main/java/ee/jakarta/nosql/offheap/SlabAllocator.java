@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocates blocks in direct buffers, the slabs, each block sized to a power of two. Freed blocks are kept
+ * per size and reused before a slab grows, so the heap only holds the slab references and the free lists.
+ *
+ * <p>An address packs the slab number in its high 32 bits and the offset in its low 32 bits. Not thread-safe:
+ * the owning {@link OffHeapSegment} serializes access.</p>
+ */
+final class SlabAllocator {
+
+    private static final int MINIMUM_SHIFT = 5;
+
+    private static final int MAXIMUM_SLAB = 64 * 1024 * 1024;
+
+    private final long capacity;
+
+    private final int slabSize;
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+
+    private final long[][] free = new long[Integer.SIZE][];
+
+    private final int[] freeCount = new int[Integer.SIZE];
+
+    private int top;
+
+    SlabAllocator(long capacity) {
+        this.capacity = capacity;
+        this.slabSize = (int) Math.min(MAXIMUM_SLAB, Long.highestOneBit(capacity));
+        this.top = slabSize;
+    }
+
+    int maximumBlock() {
+        return slabSize;
+    }
+
+    long allocatedBytes() {
+        return (long) slabs.size() * slabSize;
+    }
+
+    /**
+     * Returns the address of a block of at least the given size, or {@code -1} when the capacity is exhausted.
+     */
+    long allocate(int size) {
+        int shift = shift(size);
+        int count = freeCount[shift];
+        if (count > 0) {
+            freeCount[shift] = count - 1;
+            return free[shift][count - 1];
+        }
+        int block = 1 << shift;
+        if (top + block > slabSize) {
+            if (allocatedBytes() + slabSize > capacity) {
+                return -1;
+            }
+            slabs.add(ByteBuffer.allocateDirect(slabSize));
+            top = 0;
+        }
+        long address = ((long) (slabs.size() - 1) << 32) | top;
+        top += block;
+        return address;
+    }
+
+    void free(long address, int size) {
+        int shift = shift(size);
+        long[] stack = free[shift];
+        if (stack == null) {
+            stack = free[shift] = new long[16];
+        } else if (freeCount[shift] == stack.length) {
+            stack = free[shift] = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[freeCount[shift]++] = address;
+    }
+
+    ByteBuffer slab(long address) {
+        return slabs.get((int) (address >>> 32));
+    }
+
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    private int shift(int size) {
+        if (size > slabSize) {
+            throw new IllegalArgumentException("An entity of " + size + " bytes exceeds the largest block of " + slabSize + " bytes");
+        }
+        return Math.max(MINIMUM_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(size - 1));
+    }
+}
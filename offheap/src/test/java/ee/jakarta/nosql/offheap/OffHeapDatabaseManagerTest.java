@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.nosql.offheap;
+
+import ee.jakarta.nosql.memory.MemoryEntity;
+import ee.jakarta.nosql.memory.MemoryKey;
+import jakarta.nosql.Capability;
+import jakarta.nosql.communication.spi.StandardCondition;
+import jakarta.nosql.communication.spi.StandardOrder;
+import jakarta.nosql.communication.spi.StandardUpdate;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+class OffHeapDatabaseManagerTest {
+
+    private final OffHeapDatabaseManager manager = new OffHeapDatabaseManagerFactory(
+            new OffHeapConfiguration(1L << 20, 4)).database("library");
+
+    @Test
+    void shouldFindInsertedEntity() {
+        manager.insert(book(1L, "Effective Java"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.findById(MemoryKey.of("Book", 1))).get()
+                    .extracting(entity -> entity.get("title")).isEqualTo("Effective Java");
+            soft.assertThat(manager.findById(MemoryKey.of("Book", 2L))).isEmpty();
+            soft.assertThat(manager.findById(1L)).isEmpty();
+            soft.assertThat(manager.offHeapBytes()).isPositive();
+        });
+    }
+
+    @Test
+    void shouldReplaceAndDelete() {
+        manager.insert(book(1L, "Effective Java"));
+        manager.update(book(1L, "Effective Java, Third Edition"));
+
+        Assertions.assertThat(manager.findById(MemoryKey.of("Book", 1L))).get()
+                .extracting(entity -> entity.get("title")).isEqualTo("Effective Java, Third Edition");
+        Assertions.assertThat(manager.count()).isEqualTo(1);
+
+        manager.deleteById(MemoryKey.of("Book", 1L));
+        Assertions.assertThat(manager.findById(MemoryKey.of("Book", 1L))).isEmpty();
+    }
+
+    @Test
+    void shouldExpireEntity() throws InterruptedException {
+        manager.insert(book(1L, "Effective Java"), Duration.ofMillis(10));
+        manager.insert(book(2L, "Java Concurrency in Practice"), Duration.ofHours(1));
+        Thread.sleep(50);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.findById(MemoryKey.of("Book", 1L))).isEmpty();
+            soft.assertThat(manager.findById(MemoryKey.of("Book", 2L))).isPresent();
+        });
+    }
+
+    @Test
+    void shouldReuseFreedMemory() {
+        for (int round = 0; round < 100; round++) {
+            for (long id = 0; id < 100; id++) {
+                manager.insert(book(id, "x".repeat(500)));
+            }
+            for (long id = 0; id < 100; id++) {
+                manager.deleteById(MemoryKey.of("Book", id));
+            }
+        }
+
+        Assertions.assertThat(manager.count()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidTtl() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> manager.insert(book(1L, "Effective Java"), Duration.ZERO));
+    }
+
+    @Test
+    void shouldNotSupportQueries() {
+        Assertions.assertThat(manager.capabilities().supports(Capability.SELECT)).isFalse();
+        Assertions.assertThat(manager.capabilities().supports(Capability.EXPIRATION)).isTrue();
+        Assertions.assertThatThrownBy(manager::select).isInstanceOf(UnsupportedOperationException.class);
+        Assertions.assertThatThrownBy(manager::update).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldEvaluateFallbackQueriesOverScan() {
+        OffHeapDatabaseManager fallback = new OffHeapDatabaseManagerFactory(
+                new OffHeapConfiguration(1L << 20, 4).withFallbackQueries()).database("library");
+        for (long id = 0; id < 100; id++) {
+            fallback.insert(book(id, "Book " + id % 10));
+        }
+        fallback.insert(MemoryEntity.of("Author", Map.of(MemoryEntity.ID, 1L, "title", "Book 1")));
+        fallback.update().from("Book")
+                .set(StandardUpdate.set("title", "Renamed"))
+                .where(StandardCondition.eq("title", "Book 0"))
+                .execute();
+        fallback.delete().from("Book").where(StandardCondition.gte(MemoryEntity.ID, 90L)).execute();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(fallback.capabilities().supportsAll(Capability.SELECT, Capability.ORDERING,
+                    Capability.EXPIRATION)).isTrue();
+            soft.assertThat(fallback.select().from("Book")
+                    .where(StandardCondition.eq("title", "Book 1"))
+                    .orderBy(StandardOrder.desc(MemoryEntity.ID))
+                    .limit(3)
+                    .skip(1)
+                    .fetch()
+                    .map(MemoryEntity::id)).containsExactly(71L, 61L, 51L);
+            soft.assertThat(fallback.select().from("Book").where(StandardCondition.eq("title", "Renamed")).fetch())
+                    .hasSize(9);
+            soft.assertThat(fallback.select().from("Author").fetch()).hasSize(1);
+            soft.assertThat(fallback.count()).isEqualTo(91);
+        });
+    }
+
+    private static MemoryEntity book(long id, String title) {
+        return MemoryEntity.of("Book", Map.of(MemoryEntity.ID, id, "title", title));
+    }
+}
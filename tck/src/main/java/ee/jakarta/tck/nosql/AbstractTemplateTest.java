@@ -20,9 +20,13 @@ import ee.jakarta.tck.nosql.entities.Book;
 import ee.jakarta.tck.nosql.entities.Drink;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.entities.Vehicle;
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
 import jakarta.nosql.Template;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 public abstract class AbstractTemplateTest {
@@ -37,15 +41,29 @@ public abstract class AbstractTemplateTest {
         TemplateSupplier supplier = TemplateSupplier.template();
         this.template = supplier.get();
         LOGGER.info("Cleaning up the database");
+        Capabilities capabilities = template.capabilities();
         try {
-            template.delete(Person.class).execute();
-            template.delete(Animal.class).execute();
-            template.delete(Vehicle.class).execute();
-            template.delete(Book.class).execute();
-            template.delete(Drink.class).execute();
+            for (Class<?> type : List.of(Person.class, Animal.class, Vehicle.class, Book.class, Drink.class)) {
+                clean(type, capabilities);
+            }
         } catch (UnsupportedOperationException e) {
             LOGGER.warning("The delete operation is not supported");
         }
     }
 
+    /**
+     * Deletes every entity of a type by query or, when the provider declares that it cannot delete by query,
+     * by key after selecting them. A provider supporting neither cannot run the test on a clean database, so the
+     * test is skipped rather than run against the entities of previous tests.
+     */
+    private void clean(Class<?> type, Capabilities capabilities) {
+        if (!capabilities.isDeclared() || capabilities.supports(Capability.DELETE_BY_QUERY)) {
+            template.delete(type).execute();
+        } else {
+            Assumptions.assumeTrue(capabilities.supports(Capability.SELECT),
+                    "The provider can neither delete nor select by query, so the database cannot be cleaned up");
+            template.delete(template.select(type).result());
+        }
+    }
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.nosql;
+
+import jakarta.nosql.Capabilities;
+import jakarta.nosql.Capability;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Evaluates {@link RequiresCapability} against the capabilities of the template, which are read once per
+ * test run.
+ */
+final class CapabilityCondition implements ExecutionCondition {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CapabilityCondition.class);
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        Optional<RequiresCapability> requirement = context.getElement()
+                .flatMap(element -> AnnotationSupport.findAnnotation(element, RequiresCapability.class));
+        if (requirement.isEmpty()) {
+            return ConditionEvaluationResult.enabled("No capability required");
+        }
+        Capabilities capabilities = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Capabilities.class, type -> TemplateSupplier.template().get().capabilities(),
+                        Capabilities.class);
+        if (!capabilities.isDeclared()) {
+            return ConditionEvaluationResult.enabled("The provider does not declare its capabilities");
+        }
+        List<Capability> missing = Arrays.stream(requirement.get().value())
+                .filter(capability -> !capabilities.supports(capability))
+                .toList();
+        if (missing.isEmpty()) {
+            return ConditionEvaluationResult.enabled("The provider supports " + Arrays.toString(requirement.get().value()));
+        }
+        return ConditionEvaluationResult.disabled("The provider does not support " + missing);
+    }
+}
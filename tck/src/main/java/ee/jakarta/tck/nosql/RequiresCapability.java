@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.nosql;
+
+import jakarta.nosql.Capability;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Skips a test class or method when the provider declares, through {@link jakarta.nosql.Template#capabilities()},
+ * that it does not support one of the given capabilities.
+ *
+ * <p>Tests are skipped before they insert anything, so an unsupported feature costs neither a database
+ * round trip nor an exception. When the provider does not declare its capabilities, the tests run; a test
+ * requiring a capability then fails if the provider throws {@link UnsupportedOperationException}.</p>
+ *
+ * <pre>{@code
+ * @RequiresCapability({Capability.SELECT, Capability.COUNT})
+ * class SelectBasicOperationsCountTemplateTest extends AbstractTemplateTest {
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@ExtendWith(CapabilityCondition.class)
+public @interface RequiresCapability {
+
+    /**
+     * The capabilities the test requires.
+     *
+     * @return the required capabilities
+     */
+    Capability[] value();
+}
@@ -16,9 +16,11 @@
 package ee.jakarta.tck.nosql.basic;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Transmission;
 import ee.jakarta.tck.nosql.entities.Vehicle;
 import ee.jakarta.tck.nosql.factories.VehicleSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -84,6 +86,7 @@ public class BasicEnumFieldTemplateTest extends AbstractTemplateTest {
     @ParameterizedTest
     @ArgumentsSource(VehicleSupplier.class)
     @DisplayName("Should insert vehicle with TTL")
+    @RequiresCapability(Capability.EXPIRATION)
     void shouldInsertWithTTL(Vehicle entity) {
         try {
             Vehicle insertedVehicle = template.insert(entity, Duration.ofMinutes(10));
@@ -16,9 +16,11 @@
 package ee.jakarta.tck.nosql.basic;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Drink;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.DrinkSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
@@ -90,6 +92,7 @@ public class BasicTemplateInheritanceTest extends AbstractTemplateTest {
     @ParameterizedTest
     @ArgumentsSource(DrinkSupplier.class)
     @DisplayName("Should insert drink with TTL")
+    @RequiresCapability(Capability.EXPIRATION)
     void shouldInsertWithTTL(Drink drink) {
         try {
             var insertedDrink = template.insert(drink, Duration.ofMinutes(10));
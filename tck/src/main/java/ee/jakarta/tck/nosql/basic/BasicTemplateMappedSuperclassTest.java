@@ -10,9 +10,11 @@
 package ee.jakarta.tck.nosql.basic;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Animal;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.AnimalSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
@@ -85,6 +87,7 @@ public class BasicTemplateMappedSuperclassTest extends AbstractTemplateTest {
     @ParameterizedTest
     @ArgumentsSource(AnimalSupplier.class)
     @DisplayName("Should insert animal with TTL")
+    @RequiresCapability(Capability.EXPIRATION)
     void shouldInsertWithTTL(Animal animal) {
         try {
             var insertedAnimal = template.insert(animal, Duration.ofMinutes(10));
@@ -16,9 +16,11 @@
 package ee.jakarta.tck.nosql.basic;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Book;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.BookSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
@@ -92,6 +94,7 @@ public class BasicTemplateRecordTest extends AbstractTemplateTest {
     @ParameterizedTest
     @ArgumentsSource(BookSupplier.class)
     @DisplayName("Should insert book with TTL")
+    @RequiresCapability(Capability.EXPIRATION)
     void shouldInsertWithTTL(Book book) {
         try {
             var insertedBook = template.insert(book, Duration.ofMinutes(10));
@@ -16,10 +16,19 @@
 package ee.jakarta.tck.nosql.basic;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.entities.RecentSearches;
+import ee.jakarta.tck.nosql.factories.PersonListSupplier;
 import ee.jakarta.tck.nosql.factories.PersonSupplier;
 import ee.jakarta.tck.nosql.factories.RecentSearchesSupplier;
+import jakarta.nosql.Capability;
+import jakarta.nosql.ChangeEvent;
+import jakarta.nosql.ReadConsistency;
+import jakarta.nosql.UnitOfWork;
+import jakarta.nosql.WriteBehind;
+import jakarta.nosql.WriteBehindConfiguration;
+import jakarta.nosql.WriteDurability;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
@@ -28,7 +37,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 @DisplayName("The basic template operations using a POJO entity")
@@ -91,9 +106,150 @@ class BasicTemplateTest extends AbstractTemplateTest {
         });
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should write the merged mutations of a unit of work at commit")
+    void shouldCommitUnitOfWork(List<Person> entities) {
+        var first = entities.get(0);
+        var last = entities.get(entities.size() - 1);
+        template.insert(last);
+
+        try (UnitOfWork work = template.unitOfWork()) {
+            entities.subList(0, entities.size() - 1).forEach(work::insert);
+            first.setName("renamed");
+            work.update(first);
+            work.delete(Person.class, last.getId());
+            Assertions.assertThat(work.pending()).isEqualTo(entities.size());
+            Assertions.assertThat(template.find(Person.class, first.getId())).isEmpty();
+            work.commit();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.find(Person.class, first.getId())).map(Person::getName).contains("renamed");
+            soft.assertThat(template.find(Person.class, last.getId())).isEmpty();
+            entities.subList(1, entities.size() - 1).forEach(person ->
+                    soft.assertThat(template.find(Person.class, person.getId())).contains(person));
+        });
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should discard the mutations of a unit of work closed without commit: {0}")
+    void shouldDiscardUnitOfWorkOnClose(Person entity) {
+        try (UnitOfWork work = template.unitOfWork()) {
+            work.insert(entity);
+        }
+
+        Assertions.assertThat(template.find(Person.class, entity.getId())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should write the latest state held by a write-behind buffer on flush: {0}")
+    void shouldFlushWriteBehind(Person entity) {
+        var insertedPerson = template.insert(entity);
+
+        try (WriteBehind buffer = template.writeBehind(WriteBehindConfiguration.of().withFlushInterval(Duration.ofHours(1)))) {
+            for (int age = 1; age <= 10; age++) {
+                insertedPerson.setAge(age);
+                buffer.update(insertedPerson);
+            }
+            Assertions.assertThat(buffer.pending()).isEqualTo(1);
+            buffer.flush();
+            Assertions.assertThat(buffer.pending()).isZero();
+        }
+
+        Assertions.assertThat(template.find(Person.class, insertedPerson.getId()))
+                .map(Person::getAge)
+                .contains(10);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should write the person at every durability: {0}")
+    @RequiresCapability(Capability.WRITE_DURABILITY)
+    void shouldWriteAtEveryDurability(Person entity) {
+        for (WriteDurability durability : WriteDurability.values()) {
+            var durable = template.durability(durability);
+            var insertedPerson = durable.insert(entity);
+            durable.update(insertedPerson);
+            var foundPerson = template.find(Person.class, insertedPerson.getId());
+            durable.delete(Person.class, insertedPerson.getId());
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(foundPerson).as(durability.name()).isPresent();
+                soft.assertThat(template.find(Person.class, insertedPerson.getId())).as(durability.name()).isEmpty();
+            });
+        }
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should publish the changes of the person to a watcher: {0}")
+    @RequiresCapability(Capability.CHANGE_STREAMS)
+    void shouldWatchChanges(Person entity) throws InterruptedException {
+        BlockingQueue<ChangeEvent<Person>> events = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        template.watch(Person.class).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(ChangeEvent<Person> event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Assertions.assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        var insertedPerson = template.insert(entity);
+        template.delete(Person.class, insertedPerson.getId());
+
+        var inserted = events.poll(10, TimeUnit.SECONDS);
+        var deleted = events.poll(10, TimeUnit.SECONDS);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(inserted).isNotNull();
+            soft.assertThat(inserted.type()).isEqualTo(ChangeEvent.Type.INSERT);
+            soft.assertThat(inserted.entity().getId()).isEqualTo(insertedPerson.getId());
+            soft.assertThat(deleted).isNotNull();
+            soft.assertThat(deleted.type()).isEqualTo(ChangeEvent.Type.DELETE);
+            soft.assertThat(deleted.id()).isEqualTo(insertedPerson.getId());
+        });
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonSupplier.class)
+    @DisplayName("Should find the person just written with a strong read: {0}")
+    @RequiresCapability({Capability.READ_CONSISTENCY, Capability.SELECT})
+    void shouldFindWithStrongConsistency(Person entity) {
+        var insertedPerson = template.insert(entity);
+        var foundPerson = template.find(Person.class, insertedPerson.getId(), ReadConsistency.STRONG);
+        var selected = template.select(Person.class)
+                .consistency(ReadConsistency.STRONG)
+                .where("id").eq(insertedPerson.getId())
+                .<Person>singleResult();
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(foundPerson).isPresent();
+            soft.assertThat(foundPerson.orElseThrow().getName()).isEqualTo(insertedPerson.getName());
+            soft.assertThat(selected).isPresent();
+            soft.assertThat(selected.orElseThrow().getId()).isEqualTo(insertedPerson.getId());
+        });
+    }
+
     @ParameterizedTest
     @ArgumentsSource(PersonSupplier.class)
     @DisplayName("Should insert vehicle with TTL")
+    @RequiresCapability(Capability.EXPIRATION)
     void shouldInsertWithTTL(Person person) {
         try {
             var insertedPerson = template.insert(person, Duration.ofMinutes(10));
@@ -16,8 +16,10 @@
 package ee.jakarta.tck.nosql.delete;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.PersonListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,6 +29,7 @@ import java.util.Comparator;
 import java.util.List;
 
 @DisplayName("The query execution delete with the basic operations on the fluent API")
+@RequiresCapability({Capability.DELETE_BY_QUERY, Capability.SELECT})
 public class DeleteBasicOperationsTemplateTest extends AbstractTemplateTest {
 
     @ParameterizedTest
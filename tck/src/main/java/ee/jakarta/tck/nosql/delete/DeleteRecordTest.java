@@ -10,8 +10,10 @@
 package ee.jakarta.tck.nosql.delete;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Book;
 import ee.jakarta.tck.nosql.factories.BookListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,6 +21,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.List;
 
+@RequiresCapability({Capability.DELETE_BY_QUERY, Capability.SELECT})
 public class DeleteRecordTest extends AbstractTemplateTest {
 
     @ParameterizedTest
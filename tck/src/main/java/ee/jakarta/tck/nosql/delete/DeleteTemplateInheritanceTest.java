@@ -17,9 +17,11 @@ package ee.jakarta.tck.nosql.delete;
 
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Beer;
 import ee.jakarta.tck.nosql.entities.Drink;
 import ee.jakarta.tck.nosql.factories.DrinkListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,6 +29,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.List;
 
+@RequiresCapability({Capability.DELETE_BY_QUERY, Capability.SELECT})
 public class DeleteTemplateInheritanceTest extends AbstractTemplateTest {
 
 
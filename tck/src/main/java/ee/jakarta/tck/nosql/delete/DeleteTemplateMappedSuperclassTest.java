@@ -16,8 +16,10 @@
 package ee.jakarta.tck.nosql.delete;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Animal;
 import ee.jakarta.tck.nosql.factories.AnimalListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,6 +27,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.util.List;
 
+@RequiresCapability({Capability.DELETE_BY_QUERY, Capability.SELECT})
 public class DeleteTemplateMappedSuperclassTest extends AbstractTemplateTest {
 
     @ParameterizedTest
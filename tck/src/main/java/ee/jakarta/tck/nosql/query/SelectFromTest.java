@@ -16,9 +16,11 @@
 package ee.jakarta.tck.nosql.query;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Vehicle;
 import ee.jakarta.tck.nosql.entities.VehicleSummary;
 import ee.jakarta.tck.nosql.factories.VehicleListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,7 @@ import java.util.Comparator;
 import java.util.List;
 
 @DisplayName("The Jakarta Query integration test using select without where clause")
+@RequiresCapability(Capability.QUERY_LANGUAGE)
 class SelectFromTest extends AbstractTemplateTest {
 
     @Test
@@ -16,8 +16,10 @@
 package ee.jakarta.tck.nosql.query;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Fruit;
 import ee.jakarta.tck.nosql.factories.FruitListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +30,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.List;
 
 @DisplayName("The Jakarta Query integration test using select with where composite condition (AND, OR)")
+@RequiresCapability(Capability.QUERY_LANGUAGE)
 public class SelectFromWhereCompositeConditionTest extends AbstractTemplateTest {
 
 
@@ -17,11 +17,13 @@ package ee.jakarta.tck.nosql.query;
 
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Animal;
 import ee.jakarta.tck.nosql.entities.Coffee;
 import ee.jakarta.tck.nosql.entities.Drink;
 import ee.jakarta.tck.nosql.factories.AnimalListSupplier;
 import ee.jakarta.tck.nosql.factories.DrinkListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,6 +32,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.List;
 
 @DisplayName("The Jakarta Query integration test using select with inheritance")
+@RequiresCapability(Capability.QUERY_LANGUAGE)
 class SelectInheritanceTest extends AbstractTemplateTest {
 
     @ParameterizedTest
@@ -17,8 +17,10 @@ package ee.jakarta.tck.nosql.query;
 
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Fruit;
 import ee.jakarta.tck.nosql.factories.FruitListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,6 +30,7 @@ import java.util.List;
 import java.util.Optional;
 
 @DisplayName("The Jakarta Query integration test using update")
+@RequiresCapability(Capability.QUERY_LANGUAGE)
 class UpdateFromTest extends AbstractTemplateTest {
 
     @ParameterizedTest
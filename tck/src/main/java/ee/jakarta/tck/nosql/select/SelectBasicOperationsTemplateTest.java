@@ -16,19 +16,35 @@
 package ee.jakarta.tck.nosql.select;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.PersonListSupplier;
+import jakarta.nosql.Accuracy;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.time.Duration;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @DisplayName("The query execution select with the basic operations on the fluent API")
+@RequiresCapability(Capability.SELECT)
 public class SelectBasicOperationsTemplateTest extends AbstractTemplateTest {
 
+    /**
+     * More partially consumed streams than the cursor or connection pools of most databases hold, so that a
+     * provider leaking the cursor of each one fails to answer the last query.
+     */
+    private static final int PARTIAL_STREAMS = 200;
+
     @ParameterizedTest
     @ArgumentsSource(PersonListSupplier.class)
     @DisplayName("Should execute basic operation with Equals")
@@ -250,4 +266,160 @@ public class SelectBasicOperationsTemplateTest extends AbstractTemplateTest {
         }
     }
 
+    @RequiresCapability({Capability.RANGE_CONDITIONS, Capability.PARALLEL_SCAN})
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should stream in parallel the same entities as sequentially")
+    void shouldExecuteParallelStream(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        var age = entities.stream().sorted(Comparator.comparing(Person::getAge)).skip(1).findFirst().orElseThrow().getAge();
+        List<Person> sequential = template.select(Person.class)
+                .where("age").gte(age)
+                .result();
+        Stream<Person> parallel = template.select(Person.class)
+                .where("age").gte(age)
+                .parallelStream();
+
+        Assertions.assertThat(parallel.isParallel()).isTrue();
+        Assertions.assertThat(parallel.map(Person::getId).toList())
+                .isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(sequential.stream().map(Person::getId).toList());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should return the same result within a generous timeout")
+    void shouldExecuteWithTimeout(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        List<Person> result = template.select(Person.class).result();
+        List<Person> timed = template.select(Person.class)
+                .timeout(Duration.ofMinutes(1))
+                .result();
+
+        Assertions.assertThat(timed.stream().map(Person::getId).toList())
+                .containsExactlyInAnyOrderElementsOf(result.stream().map(Person::getId).toList());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should stream the result in batches of the requested size")
+    void shouldExecuteBatches(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        List<Person> result = template.select(Person.class).result();
+        List<List<Person>> batches;
+        try (Stream<List<Person>> stream = template.select(Person.class).fetchSize(2).batches(2)) {
+            batches = stream.toList();
+        }
+
+        Assertions.assertThat(batches).isNotEmpty()
+                .allSatisfy(batch -> Assertions.assertThat(batch).hasSizeBetween(1, 2));
+        Assertions.assertThat(batches.stream().flatMap(List::stream).map(Person::getId).toList())
+                .containsExactlyInAnyOrderElementsOf(result.stream().map(Person::getId).toList());
+    }
+
+    @RequiresCapability(Capability.COUNT)
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should count up to a threshold and estimate the count")
+    void shouldCountUpToAndEstimate(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        long count = template.select(Person.class).count();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(template.select(Person.class).count(Accuracy.EXACT)).isEqualTo(count);
+            soft.assertThat(template.select(Person.class).countUpTo(1)).isEqualTo(Math.min(count, 1));
+            soft.assertThat(template.select(Person.class).countUpTo(count + 1)).isEqualTo(count);
+            soft.assertThat(template.select(Person.class).countUpTo(0)).isZero();
+            soft.assertThat(template.select(Person.class).estimatedCount()).isNotNegative();
+        });
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> template.select(Person.class).countUpTo(-1));
+    }
+
+    @RequiresCapability(Capability.DISTINCT)
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should return the distinct names of the persons")
+    void shouldExecuteDistinct(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        List<String> names = template.select(Person.class).<Person>result().stream()
+                .map(Person::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<String> distinct;
+        try (Stream<String> stream = template.select(Person.class).distinct("name")) {
+            distinct = stream.toList();
+        }
+
+        Assertions.assertThat(distinct).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @RequiresCapability(Capability.KEYS_ONLY)
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should return only the ids of the persons")
+    void shouldExecuteIds(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        List<String> expected = template.select(Person.class).<Person>result().stream()
+                .map(Person::getId)
+                .toList();
+        List<String> ids;
+        try (Stream<String> stream = template.select(Person.class).ids()) {
+            ids = stream.toList();
+        }
+
+        Assertions.assertThat(ids).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @RequiresCapability(Capability.SAMPLING)
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should draw a random sample of the persons")
+    void shouldExecuteSample(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        List<String> ids = template.select(Person.class).<Person>result().stream()
+                .map(Person::getId)
+                .toList();
+        List<Person> sample = template.select(Person.class).sample(2);
+        List<Person> all = template.select(Person.class).sample(ids.size() + 1L);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sample).hasSize(Math.min(ids.size(), 2));
+            soft.assertThat(sample.stream().map(Person::getId).toList()).doesNotHaveDuplicates().isSubsetOf(ids);
+            soft.assertThat(all.stream().map(Person::getId).toList()).containsExactlyInAnyOrderElementsOf(ids);
+            soft.assertThat(template.select(Person.class).<Person>sample(0)).isEmpty();
+        });
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> template.select(Person.class).sample(-1));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(PersonListSupplier.class)
+    @DisplayName("Should run the close handlers of a partially consumed stream and keep serving queries")
+    void shouldReleaseCursorOnClose(List<Person> entities) {
+        entities.forEach(entity -> template.insert(entity));
+
+        AtomicInteger closed = new AtomicInteger();
+        for (int index = 0; index < PARTIAL_STREAMS; index++) {
+            Stream<Person> stream = template.select(Person.class).<Person>stream().onClose(closed::incrementAndGet);
+            try (stream) {
+                Iterator<Person> persons = stream.iterator();
+                Assertions.assertThat(persons.hasNext()).isTrue();
+                persons.next();
+            }
+            Assertions.assertThatIllegalStateException().isThrownBy(() -> stream.forEach(person -> {
+            }));
+        }
+
+        Assertions.assertThat(closed).hasValue(PARTIAL_STREAMS);
+        Assertions.assertThat(template.select(Person.class).<Person>result().stream().map(Person::getId).toList())
+                .containsExactlyInAnyOrderElementsOf(entities.stream().map(Person::getId).toList());
+    }
 }
@@ -17,8 +17,10 @@ package ee.jakarta.tck.nosql.select;
 
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Vehicle;
 import ee.jakarta.tck.nosql.factories.VehicleListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,6 +29,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.List;
 
 @DisplayName("The query execution exploring filters with enum")
+@RequiresCapability({Capability.SELECT, Capability.DELETE_BY_QUERY})
 public class SelectEnumTest extends AbstractTemplateTest {
 
     @ParameterizedTest
@@ -16,8 +16,10 @@
 package ee.jakarta.tck.nosql.select;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Fruit;
 import ee.jakarta.tck.nosql.factories.FruitListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -26,6 +28,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.List;
 
 @DisplayName("Query execution with @Convert annotated fields in Fruit entity")
+@RequiresCapability(Capability.SELECT)
 public class SelectFieldConvertTest extends AbstractTemplateTest {
 
     @ParameterizedTest
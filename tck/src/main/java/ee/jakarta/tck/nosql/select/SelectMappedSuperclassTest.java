@@ -10,8 +10,10 @@
 package ee.jakarta.tck.nosql.select;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Animal;
 import ee.jakarta.tck.nosql.factories.AnimalListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,6 +23,7 @@ import java.util.List;
 import java.util.logging.Logger;
 
 @DisplayName("The query execution using MappedSuperclass annotation")
+@RequiresCapability(Capability.SELECT)
 public class SelectMappedSuperclassTest extends AbstractTemplateTest {
 
     private static final Logger LOGGER = Logger.getLogger(SelectMappedSuperclassTest.class.getName());
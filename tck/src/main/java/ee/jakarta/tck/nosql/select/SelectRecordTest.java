@@ -10,8 +10,10 @@
 package ee.jakarta.tck.nosql.select;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Book;
 import ee.jakarta.tck.nosql.factories.BookListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,6 +22,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.util.List;
 
 @DisplayName("The query execution exploring records")
+@RequiresCapability(Capability.SELECT)
 public class SelectRecordTest extends AbstractTemplateTest {
 
 
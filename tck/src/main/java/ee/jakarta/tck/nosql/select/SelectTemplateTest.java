@@ -16,8 +16,10 @@
 package ee.jakarta.tck.nosql.select;
 
 import ee.jakarta.tck.nosql.AbstractTemplateTest;
+import ee.jakarta.tck.nosql.RequiresCapability;
 import ee.jakarta.tck.nosql.entities.Person;
 import ee.jakarta.tck.nosql.factories.PersonListSupplier;
+import jakarta.nosql.Capability;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,6 +32,7 @@ import java.util.stream.Collectors;
 
 
 @DisplayName("The query execution exploring the classic POJO")
+@RequiresCapability(Capability.SELECT)
 public class SelectTemplateTest extends AbstractTemplateTest {
 
     @ParameterizedTest